@@ -0,0 +1,61 @@
+package com.jobrecruitment.backend.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobrecruitment.backend.dtos.response.JobResponse;
+
+/**
+ * In-memory mirror of jobs.applied_count for reads
+ *
+ * The database counter is authoritative (conditional UPDATE on apply); this node
+ * records every value it sees: counts returned by its own applies after commit and by
+ * other nodes' applies (APPLICATION_CREATED, see OutboxBroadcaster),
+ * counts read by job loads and by the job version query. Counts only grow, so a
+ * value is merged with max() and a stale report can never move a counter back.
+ *
+ * One atomic per job, no lock: applies to different jobs never touch the same
+ * counter. Bounded like the detail cache; an evicted job is re-observed on its next read.
+ */
+@Component
+public class JobApplicantCounters {
+
+    private final Cache<Long, AtomicInteger> counters;
+
+    public JobApplicantCounters(@Value("${cache.job-detail.max-size:10000}") long maxSize) {
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Record an applied count read from or returned by the database
+     */
+    public void observe(Long jobId, Integer appliedCount) {
+        if (appliedCount == null) {
+            return;
+        }
+        counters.get(jobId, id -> new AtomicInteger())
+                .accumulateAndGet(appliedCount, Math::max);
+    }
+
+    /**
+     * job with spotsRemaining lowered to the latest count seen by this node
+     * Returns job itself when nothing newer is known (or the job has no limit).
+     */
+    public JobResponse withLatestSpots(JobResponse job) {
+        AtomicInteger applied = counters.getIfPresent(job.getJobId());
+        if (applied == null || job.getMaxCandidates() == null) {
+            return job;
+        }
+        int spotsRemaining = Math.max(0, job.getMaxCandidates() - applied.get());
+        if (job.getSpotsRemaining() != null && spotsRemaining >= job.getSpotsRemaining()) {
+            return job;
+        }
+        return job.withSpotsRemaining(spotsRemaining);
+    }
+}
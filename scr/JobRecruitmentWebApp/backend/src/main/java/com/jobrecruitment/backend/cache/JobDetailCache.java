@@ -0,0 +1,97 @@
+package com.jobrecruitment.backend.cache;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.jobrecruitment.backend.dtos.response.CacheStatsResponse;
+import com.jobrecruitment.backend.dtos.response.JobResponse;
+
+/**
+ * Read-through cache of job details (GET /api/jobs/{jobId})
+ *
+ * Bounded by size (frequency-aware eviction keeps the popular postings) and by
+ * time since write, so an entry missed by invalidation is stale for at most the TTL.
+ * Concurrent misses for the same jobId run the loader once; the other callers
+ * wait for its result. A loader exception (e.g. job not found) is not cached.
+ *
+ * Write paths call invalidate() after commit, other nodes when the change reaches them
+ * (OutboxBroadcaster): an in-flight load of the same key finishes before the entry is
+ * removed, so no pre-commit value survives.
+ *
+ * Each entry keeps the version it was loaded at (ResourceVersion.lastModified), so a
+ * reader holding a newer version row (change made on another node, not broadcast yet)
+ * can tell the entry is stale and replace it.
+ */
+@Component
+public class JobDetailCache {
+
+    public static final String NAME = "jobDetail";
+
+    private final Cache<Long, Entry> cache;
+
+    public JobDetailCache(
+            @Value("${cache.job-detail.max-size:10000}") long maxSize,
+            @Value("${cache.job-detail.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Cached job, loading it with loader on a miss
+     */
+    public Entry get(Long jobId, Function<Long, Entry> loader) {
+        return cache.get(jobId, loader);
+    }
+
+    /**
+     * Replace a stale entry; an entry at least as recent as the given one is kept
+     */
+    public void refresh(Long jobId, Entry entry) {
+        cache.asMap().merge(jobId, entry,
+                (current, fresh) -> current.lastModified() >= fresh.lastModified() ? current : fresh);
+    }
+
+    public void invalidate(Long jobId) {
+        cache.invalidate(jobId);
+    }
+
+    public void invalidateAll(Iterable<Long> jobIds) {
+        cache.invalidateAll(jobIds);
+    }
+
+    /**
+     * Drop every entry, e.g. when data embedded in all job details changes
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Cached job detail and the version it was loaded at (epoch millis, see ResourceVersion)
+     */
+    public record Entry(JobResponse job, long lastModified) {
+    }
+
+    public CacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsResponse(
+                NAME,
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.loadSuccessCount(),
+                stats.loadFailureCount(),
+                stats.evictionCount(),
+                stats.averageLoadPenalty() / 1_000_000d);
+    }
+}
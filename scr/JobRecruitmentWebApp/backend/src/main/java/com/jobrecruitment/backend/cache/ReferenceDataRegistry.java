@@ -0,0 +1,217 @@
+package com.jobrecruitment.backend.cache;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.jobrecruitment.backend.dtos.response.JobCategoryResponse;
+import com.jobrecruitment.backend.entities.JobCategory;
+import com.jobrecruitment.backend.entities.Role;
+import com.jobrecruitment.backend.repositories.JobCategoryRepository;
+import com.jobrecruitment.backend.repositories.RoleRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory registry of reference data (job categories, roles)
+ *
+ * These tables change only through admin writes, so lookups are served from an
+ * immutable snapshot with no SQL. refresh() reloads both tables and swaps the
+ * snapshot in one volatile write: readers see either the old or the new data,
+ * never a mix. Writers call refresh() after commit.
+ *
+ * Other nodes pick the change up with refreshIfChanged(): periodically
+ * (ReferenceDataRefreshScheduler), and right away when a category id is not found,
+ * so a category created elsewhere can be used at once. A changed or removed
+ * category evicts the cached job details, which embed its name.
+ *
+ * Lookups return detached entity copies, safe to assign to associations
+ * (only the id is written) and to modify without touching the snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataRegistry {
+
+    private final JobCategoryRepository jobCategoryRepository;
+    private final RoleRepository roleRepository;
+    private final JobDetailCache jobDetailCache;
+
+    private volatile Snapshot snapshot;
+
+    private record CategoryEntry(Integer jcId, String jcName, String jcDescription, Double jcBaseSalary,
+                                 LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    private record RoleEntry(Integer roleId, String roleCode, String roleName,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    private record Snapshot(Map<Integer, CategoryEntry> categoriesById,
+                            List<CategoryEntry> categories,
+                            Map<String, RoleEntry> rolesByCode,
+                            String version) {
+    }
+
+    /**
+     * Reload after startup data seeding
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * Reload categories and roles and publish them as a new snapshot
+     */
+    public synchronized void refresh() {
+        // Read before the rows: a write committed in between only causes one more reload
+        String version = loadVersion();
+        List<CategoryEntry> categories = jobCategoryRepository.findAll().stream()
+                .map(category -> new CategoryEntry(
+                        category.getJcId(),
+                        category.getJcName(),
+                        category.getJcDescription(),
+                        category.getJcBaseSalary(),
+                        category.getCreatedAt(),
+                        category.getUpdatedAt()))
+                .sorted(Comparator.comparing(CategoryEntry::jcName))
+                .toList();
+        Map<String, RoleEntry> rolesByCode = roleRepository.findAll().stream()
+                .map(role -> new RoleEntry(
+                        role.getRoleId(),
+                        role.getRoleCode(),
+                        role.getRoleName(),
+                        role.getCreatedAt(),
+                        role.getUpdatedAt()))
+                .collect(Collectors.toUnmodifiableMap(RoleEntry::roleCode, Function.identity()));
+
+        Snapshot previous = snapshot;
+        snapshot = new Snapshot(
+                categories.stream().collect(Collectors.toUnmodifiableMap(CategoryEntry::jcId, Function.identity())),
+                categories,
+                rolesByCode,
+                version);
+        if (previous != null && !snapshot.categoriesById().entrySet().containsAll(previous.categoriesById().entrySet())) {
+            jobDetailCache.invalidateAll();
+        }
+        log.info("Reference data loaded: {} job categories, {} roles", categories.size(), rolesByCode.size());
+    }
+
+    /**
+     * Reload if categories or roles changed since the snapshot was taken (e.g. on another node)
+     * Returns true if the snapshot was reloaded
+     */
+    public boolean refreshIfChanged() {
+        Snapshot current = snapshot;
+        if (current != null && current.version().equals(loadVersion())) {
+            return false;
+        }
+        refresh();
+        return true;
+    }
+
+    public boolean categoryExists(Integer jcId) {
+        return category(jcId) != null;
+    }
+
+    /**
+     * Job category by id, as a detached entity
+     */
+    public Optional<JobCategory> findCategory(Integer jcId) {
+        return Optional.ofNullable(category(jcId)).map(entry -> {
+            JobCategory category = new JobCategory();
+            category.setJcId(entry.jcId());
+            category.setJcName(entry.jcName());
+            category.setJcDescription(entry.jcDescription());
+            category.setJcBaseSalary(entry.jcBaseSalary());
+            category.setCreatedAt(entry.createdAt());
+            category.setUpdatedAt(entry.updatedAt());
+            return category;
+        });
+    }
+
+    /**
+     * Job category by id, as a response DTO
+     */
+    public Optional<JobCategoryResponse> getCategory(Integer jcId) {
+        return Optional.ofNullable(category(jcId)).map(ReferenceDataRegistry::toResponse);
+    }
+
+    /**
+     * All job categories ordered by name
+     */
+    public List<JobCategoryResponse> getCategories() {
+        return current().categories().stream()
+                .map(ReferenceDataRegistry::toResponse)
+                .toList();
+    }
+
+    /**
+     * Role by code (ADM, DN, UV), as a detached entity
+     */
+    public Optional<Role> findRole(String roleCode) {
+        return Optional.ofNullable(current().rolesByCode().get(roleCode)).map(entry -> {
+            Role role = new Role();
+            role.setRoleId(entry.roleId());
+            role.setRoleCode(entry.roleCode());
+            role.setRoleName(entry.roleName());
+            role.setCreatedAt(entry.createdAt());
+            role.setUpdatedAt(entry.updatedAt());
+            return role;
+        });
+    }
+
+    /**
+     * Category by id, looked for again in a fresh snapshot when this one does not have it
+     */
+    private CategoryEntry category(Integer jcId) {
+        if (jcId == null) {
+            return null;
+        }
+        CategoryEntry entry = current().categoriesById().get(jcId);
+        if (entry == null && refreshIfChanged()) {
+            entry = current().categoriesById().get(jcId);
+        }
+        return entry;
+    }
+
+    private String loadVersion() {
+        return jobCategoryRepository.findVersion() + "|" + roleRepository.findVersion();
+    }
+
+    private static JobCategoryResponse toResponse(CategoryEntry entry) {
+        return new JobCategoryResponse(
+                entry.jcId(),
+                entry.jcName(),
+                entry.jcDescription(),
+                entry.jcBaseSalary(),
+                entry.createdAt(),
+                entry.updatedAt());
+    }
+
+    /**
+     * Current snapshot, loading it on first use if a request arrives before startup completes
+     */
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+}
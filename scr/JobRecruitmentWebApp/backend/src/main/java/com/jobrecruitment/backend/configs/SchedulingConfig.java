@@ -0,0 +1,12 @@
+package com.jobrecruitment.backend.configs;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled tasks (see scheduling package)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
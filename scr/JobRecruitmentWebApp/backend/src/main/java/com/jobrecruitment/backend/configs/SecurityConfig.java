@@ -72,10 +72,15 @@ public class SecurityConfig {
                 .requestMatchers(
                     "/api/jobs",                      // GET all jobs
                     "/api/jobs/{jobId}",             // GET job by ID
+                    "/api/jobs/{jobId}/similar",     // GET similar active jobs
                     "/api/jobs/search",              // GET search jobs
+                    "/api/jobs/quick-search",        // GET in-memory search of active jobs
+                    "/api/jobs/query",               // GET combined filter with facet counts
                     "/api/jobs/filter/salary",       // GET filter by salary
                     "/api/jobs/category/{jcid}",     // GET jobs by category
-                    "/api/jobs/company/{companyId}"  // GET jobs by company
+                    "/api/jobs/company/{companyId}", // GET jobs by company
+                    "/api/categories",               // GET all job categories
+                    "/api/categories/{jcId}"         // GET job category by ID
                 ).permitAll()
                 
                 // All other requests require authentication
@@ -0,0 +1,61 @@
+package com.jobrecruitment.backend.controllers;
+
+import com.jobrecruitment.backend.cache.JobDetailCache;
+import com.jobrecruitment.backend.dtos.response.ApiResponse;
+import com.jobrecruitment.backend.dtos.response.CacheStatsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADM')")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Administration", description = "Operational endpoints for Admins")
+public class AdminController {
+
+    private final JobDetailCache jobDetailCache;
+
+    @GetMapping("/cache")
+    @Operation(
+            summary = "Cache Statistics",
+            description = "Hit, miss, load and eviction counters of the in-memory caches (Admin only)"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Cache statistics retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - Admin only",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getCacheStats() {
+        return ResponseEntity.ok(
+                ApiResponse.<List<CacheStatsResponse>>builder()
+                        .status(HttpStatus.OK.value())
+                        .message("Cache statistics retrieved successfully")
+                        .data(List.of(jobDetailCache.stats()))
+                        .build()
+        );
+    }
+}
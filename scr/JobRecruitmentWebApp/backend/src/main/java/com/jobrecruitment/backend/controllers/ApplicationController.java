@@ -2,10 +2,21 @@ package com.jobrecruitment.backend.controllers;
 
 import com.jobrecruitment.backend.dtos.request.ApplicationRequest;
 import com.jobrecruitment.backend.dtos.request.ApplicationStatusRequest;
+import com.jobrecruitment.backend.dtos.request.BulkApplicationStatusRequest;
 import com.jobrecruitment.backend.dtos.response.ApiResponse;
+import com.jobrecruitment.backend.dtos.response.ApplicantResponse;
 import com.jobrecruitment.backend.dtos.response.ApplicationResponse;
+import com.jobrecruitment.backend.dtos.response.ApplicationTicketResponse;
+import com.jobrecruitment.backend.dtos.response.BulkApplicationStatusResponse;
+import com.jobrecruitment.backend.dtos.response.CompanyApplicationCountsResponse;
+import com.jobrecruitment.backend.dtos.response.CursorPage;
+import com.jobrecruitment.backend.dtos.response.JobApplicationCountsResponse;
+import com.jobrecruitment.backend.enums.ApplicantSort;
 import com.jobrecruitment.backend.enums.ApplicationStatus;
+import com.jobrecruitment.backend.services.ApplicationIngestService;
 import com.jobrecruitment.backend.services.ApplicationService;
+import com.jobrecruitment.backend.utils.ApiResponseStreamer;
+import com.jobrecruitment.backend.utils.ExportLimiter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,12 +26,18 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -29,7 +46,12 @@ import java.util.List;
 @Tag(name = "Application Management", description = "Job application operations for Candidates and Employers")
 public class ApplicationController {
 
+    private static final MediaType CSV_MEDIA_TYPE = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
     private final ApplicationService applicationService;
+    private final ApplicationIngestService applicationIngestService;
+    private final ApiResponseStreamer apiResponseStreamer;
+    private final ExportLimiter exportLimiter;
 
     @PostMapping
     @PreAuthorize("hasRole('UV')")
@@ -37,9 +59,12 @@ public class ApplicationController {
     @Operation(
             summary = "Apply to Job",
             description = "Submit a job application (Candidate only). " +
-                    "Validates: Job is ACTIVE, date within range (RBNT), CV is ACTIVE, not already applied. " +
+                    "Validates: Job is ACTIVE, date within range (RBNT), CV is ACTIVE, not already applied, job not full (maxCandidates). " +
+                    "The application that fills the job closes it. " +
                     "Generates unique ApplicationCode (DX + 8 digits). " +
-                    "Status defaults to PENDING."
+                    "Status defaults to PENDING. " +
+                    "With queued ingestion enabled (applications.ingest.enabled), returns 202 with a ticket instead: " +
+                    "poll GET /api/applications/tickets/{trackingCode} for the outcome."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -50,9 +75,17 @@ public class ApplicationController {
                             schema = @Schema(implementation = ApiResponse.class)
                     )
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "202",
+                    description = "Application queued (queued ingestion): Location points to its ticket",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "400",
-                    description = "Validation error (Job not active, date out of range, CV not active, already applied)",
+                    description = "Validation error (Job not active, date out of range, CV not active, already applied, no spots left)",
                     content = @Content
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -69,11 +102,26 @@ public class ApplicationController {
                     responseCode = "404",
                     description = "Job or CV not found",
                     content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "Application queue full (queued ingestion): retry after Retry-After seconds",
+                    content = @Content
             )
     })
-    public ResponseEntity<ApiResponse<ApplicationResponse>> applyToJob(
+    public ResponseEntity<? extends ApiResponse<?>> applyToJob(
             @Valid @RequestBody ApplicationRequest request,
             Authentication authentication) {
+        if (applicationIngestService.isEnabled()) {
+            ApplicationTicketResponse ticket = applicationIngestService.submit(request, authentication.getName());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/applications/tickets/" + ticket.getTrackingCode()))
+                    .body(ApiResponse.<ApplicationTicketResponse>builder()
+                            .status(HttpStatus.ACCEPTED.value())
+                            .message("Application queued")
+                            .data(ticket)
+                            .build());
+        }
         ApplicationResponse response = applicationService.applyToJob(request, authentication.getName());
         return ResponseEntity.status(HttpStatus.CREATED).body(
                 ApiResponse.<ApplicationResponse>builder()
@@ -84,6 +132,42 @@ public class ApplicationController {
         );
     }
 
+    @GetMapping("/tickets/{trackingCode}")
+    @PreAuthorize("hasRole('UV')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Get Application Ticket",
+            description = "Outcome of a queued application (Candidate only - own tickets): " +
+                    "QUEUED, APPLIED (with the application) or REJECTED (with the reason)"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Ticket found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Ticket not found (unknown, someone else's, or rejected and expired)",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<ApplicationTicketResponse>> getApplicationTicket(
+            @PathVariable String trackingCode,
+            Authentication authentication) {
+        ApplicationTicketResponse response = applicationIngestService.getTicket(trackingCode, authentication.getName());
+        return ResponseEntity.ok(
+                ApiResponse.<ApplicationTicketResponse>builder()
+                        .status(HttpStatus.OK.value())
+                        .message("Application ticket retrieved successfully")
+                        .data(response)
+                        .build()
+        );
+    }
+
     @GetMapping("/{applicationId}")
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
@@ -154,6 +238,41 @@ public class ApplicationController {
         );
     }
 
+    @GetMapping("/my-applications/stream")
+    @PreAuthorize("hasRole('UV')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Stream My Applications",
+            description = "Same envelope as /my-applications, written incrementally with constant server memory " +
+                    "(Candidate only). Intended for exports of large lists. Only a few exports run at once."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Applications streamed successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden - Only Candidates can access",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "Too many exports running, retry after the Retry-After delay",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> streamMyApplications(Authentication authentication) {
+        String username = authentication.getName();
+        return apiResponseStreamer.<ApplicationResponse>stream(
+                "Your applications retrieved successfully",
+                sink -> exportLimiter.run(() -> applicationService.streamMyApplications(username, sink)));
+    }
+
     @GetMapping("/job/{jobId}")
     @PreAuthorize("hasRole('DN')")
     @SecurityRequirement(name = "bearerAuth")
@@ -203,6 +322,230 @@ public class ApplicationController {
         );
     }
 
+    @GetMapping("/job/{jobId}/applicants")
+    @PreAuthorize("hasRole('DN')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Get Applicants by Job",
+            description = "Paginated applicant listing for a job with candidate name, skills summary and CV code " +
+                    "(Employer only - own jobs). Uses keyset pagination: pass nextCursor to get the next page. " +
+                    "Sort APPLY_TIME lists newest first; STATUS lists PENDING, APPROVED, then REJECTED; " +
+                    "SCORE lists best skill match (candidate skills vs job requirement) first, with matchScore set."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Applicants retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or page size",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - Can only view applications for own jobs",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Job not found",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<List<ApplicantResponse>>> getApplicants(
+            @PathVariable Long jobId,
+            @Parameter(description = "Filter by application status (PENDING, APPROVED, REJECTED)")
+            @RequestParam(required = false) ApplicationStatus status,
+            @Parameter(description = "Sort order (APPLY_TIME, STATUS, SCORE), default APPLY_TIME")
+            @RequestParam(required = false) ApplicantSort sort,
+            @Parameter(description = "Cursor from the previous page's nextCursor (omit for first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)")
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+        CursorPage<ApplicantResponse> response = applicationService.getApplicants(
+                jobId, status, sort, cursor, size, authentication.getName());
+        return ResponseEntity.ok(
+                ApiResponse.<List<ApplicantResponse>>builder()
+                        .status(HttpStatus.OK.value())
+                        .message("Job applicants retrieved successfully")
+                        .data(response.getItems())
+                        .nextCursor(response.getNextCursor())
+                        .build()
+        );
+    }
+
+    @GetMapping("/job/{jobId}/counts")
+    @PreAuthorize("hasRole('DN')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Get Application Counts by Job",
+            description = "Number of applications per status (PENDING, APPROVED, REJECTED) for a job " +
+                    "(Employer only - own jobs)"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Application counts retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - Can only view applications for own jobs",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Job not found",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<JobApplicationCountsResponse>> getApplicationCountsByJob(
+            @PathVariable Long jobId,
+            Authentication authentication) {
+        JobApplicationCountsResponse response = applicationService.getApplicationCountsByJob(
+                jobId, authentication.getName());
+        return ResponseEntity.ok(
+                ApiResponse.<JobApplicationCountsResponse>builder()
+                        .status(HttpStatus.OK.value())
+                        .message("Application counts retrieved successfully")
+                        .data(response)
+                        .build()
+        );
+    }
+
+    @GetMapping("/my-company/counts")
+    @PreAuthorize("hasRole('DN')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Get My Company Application Counts",
+            description = "Number of applications per status for every job of the logged-in employer's company, " +
+                    "with company-wide totals (Employer only). Computed in a single aggregate query."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Application counts retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Company profile not found",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<CompanyApplicationCountsResponse>> getMyCompanyApplicationCounts(
+            Authentication authentication) {
+        CompanyApplicationCountsResponse response = applicationService.getMyCompanyApplicationCounts(
+                authentication.getName());
+        return ResponseEntity.ok(
+                ApiResponse.<CompanyApplicationCountsResponse>builder()
+                        .status(HttpStatus.OK.value())
+                        .message("Application counts retrieved successfully")
+                        .data(response)
+                        .build()
+        );
+    }
+
+    @GetMapping("/job/{jobId}/stream")
+    @PreAuthorize("hasRole('DN')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Stream Applications by Job",
+            description = "Same envelope as /job/{jobId}, written incrementally with constant server memory " +
+                    "(Employer only - own jobs). Intended for exporting jobs with very many applicants. " +
+                    "Only a few exports run at once."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Applications streamed successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - Can only view applications for own jobs",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Job not found",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "Too many exports running, retry after the Retry-After delay",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> streamApplicationsByJob(
+            @PathVariable Long jobId,
+            Authentication authentication) {
+        String username = authentication.getName();
+        return apiResponseStreamer.<ApplicationResponse>stream(
+                "Job applications retrieved successfully",
+                sink -> exportLimiter.run(() -> applicationService.streamApplicationsByJob(jobId, username, sink)));
+    }
+
+    @GetMapping("/job/{jobId}/export")
+    @PreAuthorize("hasRole('DN')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Export Applicants as CSV",
+            description = "Download all applicants of a job (application code, apply time, status, candidate name, " +
+                    "email, phone, skills, CV code) as a UTF-8 CSV file, oldest application first " +
+                    "(Employer only - own jobs). Written incrementally with constant server memory. " +
+                    "Only a few exports run at once."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Applicants exported successfully",
+                    content = @Content(mediaType = "text/csv")
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - Can only export applicants for own jobs",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Job not found",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "Too many exports running, retry after the Retry-After delay",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportApplicants(
+            @PathVariable Long jobId,
+            Authentication authentication) {
+        // Access is checked before the body starts, so errors still get a JSON response
+        String fileName = applicationService.prepareApplicantExport(jobId, authentication.getName());
+        StreamingResponseBody body = out -> exportLimiter.run(() -> applicationService.writeApplicantsCsv(jobId, out));
+        return ResponseEntity.ok()
+                .contentType(CSV_MEDIA_TYPE)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
     @PatchMapping("/{applicationId}/status")
     @PreAuthorize("hasRole('DN')")
     @SecurityRequirement(name = "bearerAuth")
@@ -245,4 +588,48 @@ public class ApplicationController {
                         .build()
         );
     }
+
+    @PatchMapping("/bulk/status")
+    @PreAuthorize("hasRole('DN')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Bulk Update Application Status",
+            description = "Change the status of many applications in one request (Employer only - own jobs). " +
+                    "Select by applicationIds and/or jobId, optionally narrowed by currentStatus " +
+                    "(e.g. jobId + currentStatus PENDING to reject every pending application of a job). " +
+                    "Applications to other companies' jobs or already in the target status are skipped."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Application statuses updated successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Missing status or no selector given",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - Employer role required",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<BulkApplicationStatusResponse>> bulkUpdateApplicationStatus(
+            @Valid @RequestBody BulkApplicationStatusRequest request,
+            Authentication authentication) {
+        BulkApplicationStatusResponse response = applicationService.bulkUpdateApplicationStatus(
+                request, authentication.getName());
+        return ResponseEntity.ok(
+                ApiResponse.<BulkApplicationStatusResponse>builder()
+                        .status(HttpStatus.OK.value())
+                        .message("Application statuses updated successfully")
+                        .data(response)
+                        .build()
+        );
+    }
 }
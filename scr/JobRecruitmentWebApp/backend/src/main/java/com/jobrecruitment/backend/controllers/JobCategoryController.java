@@ -0,0 +1,165 @@
+package com.jobrecruitment.backend.controllers;
+
+import com.jobrecruitment.backend.dtos.request.JobCategoryRequest;
+import com.jobrecruitment.backend.dtos.response.ApiResponse;
+import com.jobrecruitment.backend.dtos.response.JobCategoryResponse;
+import com.jobrecruitment.backend.services.JobCategoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/categories")
+@RequiredArgsConstructor
+@Tag(name = "Job Category Management", description = "Job category listing and Admin management")
+public class JobCategoryController {
+
+    private final JobCategoryService jobCategoryService;
+
+    @GetMapping
+    @Operation(
+            summary = "Get All Job Categories",
+            description = "Retrieve all job categories ordered by name (Public access)"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Job categories retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<ApiResponse<List<JobCategoryResponse>>> getAllCategories() {
+        List<JobCategoryResponse> response = jobCategoryService.getAllCategories();
+        return ResponseEntity.ok(
+                ApiResponse.<List<JobCategoryResponse>>builder()
+                        .status(HttpStatus.OK.value())
+                        .message("Job categories retrieved successfully")
+                        .data(response)
+                        .build()
+        );
+    }
+
+    @GetMapping("/{jcId}")
+    @Operation(
+            summary = "Get Job Category by ID",
+            description = "Retrieve a job category (Public access)"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Job category retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Job category not found",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<JobCategoryResponse>> getCategoryById(@PathVariable Integer jcId) {
+        JobCategoryResponse response = jobCategoryService.getCategoryById(jcId);
+        return ResponseEntity.ok(
+                ApiResponse.<JobCategoryResponse>builder()
+                        .status(HttpStatus.OK.value())
+                        .message("Job category retrieved successfully")
+                        .data(response)
+                        .build()
+        );
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADM')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Create Job Category",
+            description = "Create a new job category (Admin only). Name must be unique."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "201",
+                    description = "Job category created successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Validation error or duplicate name",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - Admin only",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<JobCategoryResponse>> createCategory(
+            @Valid @RequestBody JobCategoryRequest request) {
+        JobCategoryResponse response = jobCategoryService.createCategory(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(
+                ApiResponse.<JobCategoryResponse>builder()
+                        .status(HttpStatus.CREATED.value())
+                        .message("Job category created successfully")
+                        .data(response)
+                        .build()
+        );
+    }
+
+    @PutMapping("/{jcId}")
+    @PreAuthorize("hasRole('ADM')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Update Job Category",
+            description = "Update a job category (Admin only). Name must be unique."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Job category updated successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Validation error or duplicate name",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Job category not found",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<JobCategoryResponse>> updateCategory(
+            @PathVariable Integer jcId,
+            @Valid @RequestBody JobCategoryRequest request) {
+        JobCategoryResponse response = jobCategoryService.updateCategory(jcId, request);
+        return ResponseEntity.ok(
+                ApiResponse.<JobCategoryResponse>builder()
+                        .status(HttpStatus.OK.value())
+                        .message("Job category updated successfully")
+                        .data(response)
+                        .build()
+        );
+    }
+}
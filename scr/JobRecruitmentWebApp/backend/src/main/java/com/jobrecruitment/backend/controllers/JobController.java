@@ -1,10 +1,21 @@
 package com.jobrecruitment.backend.controllers;
 
+import com.jobrecruitment.backend.dtos.request.BulkJobStatusRequest;
+import com.jobrecruitment.backend.dtos.request.JobQueryRequest;
 import com.jobrecruitment.backend.dtos.request.JobRequest;
 import com.jobrecruitment.backend.dtos.response.ApiResponse;
+import com.jobrecruitment.backend.dtos.response.BulkJobImportResponse;
+import com.jobrecruitment.backend.dtos.response.BulkJobStatusResponse;
+import com.jobrecruitment.backend.dtos.response.CursorPage;
+import com.jobrecruitment.backend.dtos.response.JobQueryResponse;
 import com.jobrecruitment.backend.dtos.response.JobResponse;
+import com.jobrecruitment.backend.dtos.response.JobSummaryResponse;
 import com.jobrecruitment.backend.enums.JobStatus;
+import com.jobrecruitment.backend.search.SearchOperator;
 import com.jobrecruitment.backend.services.JobService;
+import com.jobrecruitment.backend.utils.ApiResponseStreamer;
+import com.jobrecruitment.backend.utils.ExportLimiter;
+import com.jobrecruitment.backend.utils.ResourceVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,14 +23,19 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.Reader;
 import java.util.List;
 
 @RestController
@@ -29,6 +45,8 @@ import java.util.List;
 public class JobController {
 
     private final JobService jobService;
+    private final ApiResponseStreamer apiResponseStreamer;
+    private final ExportLimiter exportLimiter;
 
     @PostMapping
     @PreAuthorize("hasRole('DN')")
@@ -83,6 +101,80 @@ public class JobController {
         );
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('DN')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Bulk Import Job Postings (JSON)",
+            description = "Create up to 5000 job postings at once from a JSON array of job requests (Employer only). " +
+                    "Same rules as Create Job Posting. All rows are validated first: if any row is invalid, " +
+                    "no job is created and the errors of every invalid row are returned."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "201",
+                    description = "Jobs created successfully, in request row order",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid rows (errors: row, field, message) or too many rows",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden - Only Employers (DN) can create jobs",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<BulkJobImportResponse>> importJobs(
+            @RequestBody List<JobRequest> requests,
+            Authentication authentication) {
+        return importResponse(jobService.importJobs(requests, authentication.getName()));
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    @PreAuthorize("hasRole('DN')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Bulk Import Job Postings (CSV)",
+            description = "Same as the JSON import, rows read from CSV (RFC 4180, UTF-8). " +
+                    "The header line names the columns: jcId, jobTitle, jobDescription, jobRequirement, " +
+                    "jobSalary, jobLocation, startDate, endDate (yyyy-MM-dd), maxCandidates. " +
+                    "Row numbers in errors count data lines after the header.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(mediaType = "text/csv", schema = @Schema(type = "string"))
+            )
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "201",
+                    description = "Jobs created successfully, in CSV row order",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid rows or values (errors: row, field, message), unknown column or too many rows",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden - Only Employers (DN) can create jobs",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<BulkJobImportResponse>> importJobsCsv(
+            @Parameter(hidden = true) Reader csv,
+            Authentication authentication) {
+        return importResponse(jobService.importJobsCsv(csv, authentication.getName()));
+    }
+
     @PutMapping("/{jobId}")
     @PreAuthorize("hasRole('DN')")
     @SecurityRequirement(name = "bearerAuth")
@@ -114,6 +206,11 @@ public class JobController {
                     responseCode = "404",
                     description = "Job not found",
                     content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "409",
+                    description = "Job changed meanwhile (e.g. closed by an application) - reload and retry",
+                    content = @Content
             )
     })
     public ResponseEntity<ApiResponse<JobResponse>> updateJob(
@@ -133,7 +230,9 @@ public class JobController {
     @GetMapping("/{jobId}")
     @Operation(
             summary = "Get Job by ID",
-            description = "Retrieve job details by ID (Public access)"
+            description = "Retrieve job details by ID (Public access). " +
+                    "Supports conditional GET: send the returned ETag in If-None-Match " +
+                    "(or Last-Modified in If-Modified-Since) to get 304 when unchanged."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -144,14 +243,24 @@ public class JobController {
                             schema = @Schema(implementation = ApiResponse.class)
                     )
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "Job not modified since the given ETag / date",
+                    content = @Content
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "404",
                     description = "Job not found",
                     content = @Content
             )
     })
-    public ResponseEntity<ApiResponse<JobResponse>> getJobById(@PathVariable Long jobId) {
-        JobResponse response = jobService.getJobById(jobId);
+    public ResponseEntity<ApiResponse<JobResponse>> getJobById(@PathVariable Long jobId, WebRequest request) {
+        // Unchanged: 304 from the version query alone, no load/mapping/serialization
+        ResourceVersion version = jobService.getJobVersion(jobId);
+        if (request.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
+        JobResponse response = jobService.getJobById(jobId, version);
         return ResponseEntity.ok(
                 ApiResponse.<JobResponse>builder()
                         .status(HttpStatus.OK.value())
@@ -161,10 +270,51 @@ public class JobController {
         );
     }
 
+    @GetMapping("/{jobId}/similar")
+    @Operation(
+            summary = "Get Similar Jobs",
+            description = "ACTIVE jobs whose title, description and requirement are most similar to this job " +
+                    "(Public access). Most similar first; the job itself is left out."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Similar jobs retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid page size",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Job not found",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<List<JobSummaryResponse>>> getSimilarJobs(
+            @PathVariable Long jobId,
+            @Parameter(description = "Number of jobs (default 20, max 100)")
+            @RequestParam(required = false) Integer size) {
+        List<JobSummaryResponse> response = jobService.getSimilarJobs(jobId, size);
+        return ResponseEntity.ok(
+                ApiResponse.<List<JobSummaryResponse>>builder()
+                        .status(HttpStatus.OK.value())
+                        .message("Similar jobs retrieved successfully")
+                        .data(response)
+                        .build()
+        );
+    }
+
     @GetMapping
     @Operation(
             summary = "Get All Jobs",
-            description = "Retrieve all jobs with optional status filter (Public access)"
+            description = "Retrieve jobs with optional status filter (Public access). " +
+                    "Keyset-paginated newest first: pass the returned nextCursor to get the next page."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -176,15 +326,20 @@ public class JobController {
                     )
             )
     })
-    public ResponseEntity<ApiResponse<List<JobResponse>>> getAllJobs(
+    public ResponseEntity<ApiResponse<List<JobSummaryResponse>>> getAllJobs(
             @Parameter(description = "Filter by job status (PENDING, WAIT, ACTIVE, CLOSED, HIDDEN)")
-            @RequestParam(required = false) JobStatus status) {
-        List<JobResponse> response = jobService.getAllJobs(status);
+            @RequestParam(required = false) JobStatus status,
+            @Parameter(description = "Cursor from the previous page's nextCursor (omit for first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)")
+            @RequestParam(required = false) Integer size) {
+        CursorPage<JobSummaryResponse> response = jobService.getAllJobs(status, cursor, size);
         return ResponseEntity.ok(
-                ApiResponse.<List<JobResponse>>builder()
+                ApiResponse.<List<JobSummaryResponse>>builder()
                         .status(HttpStatus.OK.value())
                         .message("Jobs retrieved successfully")
-                        .data(response)
+                        .data(response.getItems())
+                        .nextCursor(response.getNextCursor())
                         .build()
         );
     }
@@ -216,10 +371,10 @@ public class JobController {
                     content = @Content
             )
     })
-    public ResponseEntity<ApiResponse<List<JobResponse>>> getMyJobs(Authentication authentication) {
-        List<JobResponse> response = jobService.getMyJobs(authentication.getName());
+    public ResponseEntity<ApiResponse<List<JobSummaryResponse>>> getMyJobs(Authentication authentication) {
+        List<JobSummaryResponse> response = jobService.getMyJobs(authentication.getName());
         return ResponseEntity.ok(
-                ApiResponse.<List<JobResponse>>builder()
+                ApiResponse.<List<JobSummaryResponse>>builder()
                         .status(HttpStatus.OK.value())
                         .message("Your jobs retrieved successfully")
                         .data(response)
@@ -227,10 +382,101 @@ public class JobController {
         );
     }
 
+    @GetMapping("/recommended")
+    @PreAuthorize("hasRole('UV')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Get Recommended Jobs",
+            description = "ACTIVE jobs ranked for the authenticated candidate (Candidate only): matches their skills " +
+                    "and experience, the jobs they saved and the categories they applied to. " +
+                    "Jobs already applied to are left out. Best match first."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Recommended jobs retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid page size",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden - Only Candidates can access",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<List<JobSummaryResponse>>> getRecommendedJobs(
+            @Parameter(description = "Number of jobs (default 20, max 100)")
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+        List<JobSummaryResponse> response = jobService.getRecommendedJobs(authentication.getName(), size);
+        return ResponseEntity.ok(
+                ApiResponse.<List<JobSummaryResponse>>builder()
+                        .status(HttpStatus.OK.value())
+                        .message("Recommended jobs retrieved successfully")
+                        .data(response)
+                        .build()
+        );
+    }
+
+    @GetMapping("/stream")
+    @PreAuthorize("hasRole('ADM')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Stream All Jobs",
+            description = "Export every job summary (optionally filtered by status) in one response, newest first " +
+                    "(Admin only). Same envelope and items as GET /api/jobs without pagination, written " +
+                    "incrementally with constant server memory. Only a few exports run at once."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Jobs streamed successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden - Only Admins can access",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "Too many exports running, retry after the Retry-After delay",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> streamAllJobs(
+            @Parameter(description = "Filter by job status (PENDING, WAIT, ACTIVE, CLOSED, HIDDEN)")
+            @RequestParam(required = false) JobStatus status) {
+        return apiResponseStreamer.<JobSummaryResponse>stream(
+                "Jobs retrieved successfully",
+                sink -> exportLimiter.run(() -> jobService.streamAllJobs(status, sink)));
+    }
+
     @GetMapping("/company/{companyId}")
     @Operation(
             summary = "Get Jobs by Company",
-            description = "Retrieve all jobs posted by a specific company (Public access)"
+            description = "Retrieve jobs posted by a specific company (Public access). Keyset-paginated newest first. " +
+                    "Supports conditional GET (ETag / Last-Modified): 304 while none of the company's jobs changed."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -241,19 +487,35 @@ public class JobController {
                             schema = @Schema(implementation = ApiResponse.class)
                     )
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "Company jobs not modified since the given ETag / date",
+                    content = @Content
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "404",
                     description = "Company not found",
                     content = @Content
             )
     })
-    public ResponseEntity<ApiResponse<List<JobResponse>>> getJobsByCompany(@PathVariable Long companyId) {
-        List<JobResponse> response = jobService.getJobsByCompany(companyId);
+    public ResponseEntity<ApiResponse<List<JobSummaryResponse>>> getJobsByCompany(
+            @PathVariable Long companyId,
+            @Parameter(description = "Cursor from the previous page's nextCursor (omit for first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)")
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        ResourceVersion version = jobService.getJobsByCompanyVersion(companyId);
+        if (request.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
+        CursorPage<JobSummaryResponse> response = jobService.getJobsByCompany(companyId, cursor, size);
         return ResponseEntity.ok(
-                ApiResponse.<List<JobResponse>>builder()
+                ApiResponse.<List<JobSummaryResponse>>builder()
                         .status(HttpStatus.OK.value())
                         .message("Company jobs retrieved successfully")
-                        .data(response)
+                        .data(response.getItems())
+                        .nextCursor(response.getNextCursor())
                         .build()
         );
     }
@@ -264,7 +526,8 @@ public class JobController {
     @Operation(
             summary = "Update Job Status",
             description = "Change job status (Employer only - own jobs). " +
-                    "Used to hide/unhide jobs or change status."
+                    "Used to hide/unhide jobs or change status. " +
+                    "ACTIVE before startDate is stored as WAIT; the job opens on startDate and closes after endDate."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -275,6 +538,11 @@ public class JobController {
                             schema = @Schema(implementation = ApiResponse.class)
                     )
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Cannot activate a job whose posting period has ended",
+                    content = @Content
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "403",
                     description = "Access denied - Can only modify own jobs",
@@ -300,6 +568,50 @@ public class JobController {
         );
     }
 
+    @PatchMapping("/bulk/status")
+    @PreAuthorize("hasAnyRole('DN', 'ADM')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Bulk Update Job Status",
+            description = "Change the status of many jobs in one request (Employer - own jobs, Admin - any company). " +
+                    "Jobs are selected by jobIds and/or filters (companyId for admins, currentStatus, endDateBefore), combined with AND. " +
+                    "Same rules as the single-job endpoint; jobs that cannot change are skipped and, for jobIds, listed in skippedJobIds."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Job statuses updated successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Missing status or no job selector",
+                    content = @Content
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - Employers can only modify own jobs",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<BulkJobStatusResponse>> bulkUpdateJobStatus(
+            @Valid @RequestBody BulkJobStatusRequest request,
+            Authentication authentication) {
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADM".equals(authority.getAuthority()));
+        BulkJobStatusResponse response = jobService.bulkUpdateJobStatus(request, authentication.getName(), admin);
+        return ResponseEntity.ok(
+                ApiResponse.<BulkJobStatusResponse>builder()
+                        .status(HttpStatus.OK.value())
+                        .message("Job statuses updated successfully")
+                        .data(response)
+                        .build()
+        );
+    }
+
     @DeleteMapping("/{jobId}")
     @PreAuthorize("hasRole('DN')")
     @SecurityRequirement(name = "bearerAuth")
@@ -343,7 +655,8 @@ public class JobController {
     @GetMapping("/search")
     @Operation(
             summary = "Search Jobs",
-            description = "Search jobs by keyword in title or location (Public access)"
+            description = "Full-text search in title, requirement, description and location (Public access). " +
+                    "Supports quoted phrases, OR and -exclusion. Ordered by relevance, keyset-paginated."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -355,14 +668,103 @@ public class JobController {
                     )
             )
     })
-    public ResponseEntity<ApiResponse<List<JobResponse>>> searchJobs(
-            @Parameter(description = "Search keyword") @RequestParam String keyword) {
-        List<JobResponse> response = jobService.searchJobs(keyword);
+    public ResponseEntity<ApiResponse<List<JobSummaryResponse>>> searchJobs(
+            @Parameter(description = "Search keyword") @RequestParam String keyword,
+            @Parameter(description = "Cursor from the previous page's nextCursor (omit for first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)")
+            @RequestParam(required = false) Integer size) {
+        CursorPage<JobSummaryResponse> response = jobService.searchJobs(keyword, cursor, size);
+        return ResponseEntity.ok(
+                ApiResponse.<List<JobSummaryResponse>>builder()
+                        .status(HttpStatus.OK.value())
+                        .message("Search completed successfully")
+                        .data(response.getItems())
+                        .nextCursor(response.getNextCursor())
+                        .build()
+        );
+    }
+
+    @GetMapping("/quick-search")
+    @Operation(
+            summary = "Quick Search Active Jobs",
+            description = "Search ACTIVE jobs in the in-memory index (Public access, no database round trip). " +
+                    "Multi-term queries combined with AND (all terms) or OR (any term), ranked by BM25. " +
+                    "Keyset-paginated: pass the returned nextCursor to get the next page."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Search completed successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Empty query or invalid cursor",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<List<JobSummaryResponse>>> quickSearch(
+            @Parameter(description = "Search terms") @RequestParam String q,
+            @Parameter(description = "How terms are combined (AND, OR), default AND")
+            @RequestParam(required = false) SearchOperator operator,
+            @Parameter(description = "Cursor from the previous page's nextCursor (omit for first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)")
+            @RequestParam(required = false) Integer size) {
+        CursorPage<JobSummaryResponse> response = jobService.quickSearch(q, operator, cursor, size);
         return ResponseEntity.ok(
-                ApiResponse.<List<JobResponse>>builder()
+                ApiResponse.<List<JobSummaryResponse>>builder()
                         .status(HttpStatus.OK.value())
                         .message("Search completed successfully")
+                        .data(response.getItems())
+                        .nextCursor(response.getNextCursor())
+                        .build()
+        );
+    }
+
+    @GetMapping("/query")
+    @Operation(
+            summary = "Query Jobs with Facets",
+            description = "Filter jobs by any combination of category, salary range, location, status " +
+                    "and posting date in one request (Public access). Keyset-paginated newest first. " +
+                    "The first page (no cursor) also returns facet counts per category, salary bucket " +
+                    "and location; each facet ignores its own filter."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Query completed successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid salary range, date window or cursor",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<ApiResponse<JobQueryResponse>> queryJobs(
+            @ParameterObject JobQueryRequest filter,
+            @Parameter(description = "Cursor from the previous page's nextCursor (omit for first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)")
+            @RequestParam(required = false) Integer size) {
+        CursorPage<JobSummaryResponse> page = jobService.queryJobs(filter, cursor, size);
+        JobQueryResponse response = new JobQueryResponse(
+                page.getItems(),
+                cursor == null || cursor.isBlank() ? jobService.getJobFacets(filter) : null);
+        return ResponseEntity.ok(
+                ApiResponse.<JobQueryResponse>builder()
+                        .status(HttpStatus.OK.value())
+                        .message("Query completed successfully")
                         .data(response)
+                        .nextCursor(page.getNextCursor())
                         .build()
         );
     }
@@ -370,7 +772,7 @@ public class JobController {
     @GetMapping("/filter/salary")
     @Operation(
             summary = "Filter Jobs by Salary",
-            description = "Filter jobs by salary range (Public access)"
+            description = "Filter jobs by salary range (Public access). Keyset-paginated newest first."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -387,15 +789,20 @@ public class JobController {
                     content = @Content
             )
     })
-    public ResponseEntity<ApiResponse<List<JobResponse>>> filterBySalary(
+    public ResponseEntity<ApiResponse<List<JobSummaryResponse>>> filterBySalary(
             @Parameter(description = "Minimum salary") @RequestParam Double minSalary,
-            @Parameter(description = "Maximum salary") @RequestParam Double maxSalary) {
-        List<JobResponse> response = jobService.filterBySalary(minSalary, maxSalary);
+            @Parameter(description = "Maximum salary") @RequestParam Double maxSalary,
+            @Parameter(description = "Cursor from the previous page's nextCursor (omit for first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)")
+            @RequestParam(required = false) Integer size) {
+        CursorPage<JobSummaryResponse> response = jobService.filterBySalary(minSalary, maxSalary, cursor, size);
         return ResponseEntity.ok(
-                ApiResponse.<List<JobResponse>>builder()
+                ApiResponse.<List<JobSummaryResponse>>builder()
                         .status(HttpStatus.OK.value())
                         .message("Filter completed successfully")
-                        .data(response)
+                        .data(response.getItems())
+                        .nextCursor(response.getNextCursor())
                         .build()
         );
     }
@@ -403,7 +810,7 @@ public class JobController {
     @GetMapping("/category/{jcid}")
     @Operation(
             summary = "Get Jobs by Category",
-            description = "Retrieve all jobs in a specific category (Public access)"
+            description = "Retrieve jobs in a specific category (Public access). Keyset-paginated newest first."
     )
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -420,12 +827,28 @@ public class JobController {
                     content = @Content
             )
     })
-    public ResponseEntity<ApiResponse<List<JobResponse>>> getJobsByCategory(@PathVariable Integer jcid) {
-        List<JobResponse> response = jobService.getJobsByCategory(jcid);
+    public ResponseEntity<ApiResponse<List<JobSummaryResponse>>> getJobsByCategory(
+            @PathVariable Integer jcid,
+            @Parameter(description = "Cursor from the previous page's nextCursor (omit for first page)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)")
+            @RequestParam(required = false) Integer size) {
+        CursorPage<JobSummaryResponse> response = jobService.getJobsByCategory(jcid, cursor, size);
         return ResponseEntity.ok(
-                ApiResponse.<List<JobResponse>>builder()
+                ApiResponse.<List<JobSummaryResponse>>builder()
                         .status(HttpStatus.OK.value())
                         .message("Category jobs retrieved successfully")
+                        .data(response.getItems())
+                        .nextCursor(response.getNextCursor())
+                        .build()
+        );
+    }
+
+    private ResponseEntity<ApiResponse<BulkJobImportResponse>> importResponse(BulkJobImportResponse response) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(
+                ApiResponse.<BulkJobImportResponse>builder()
+                        .status(HttpStatus.CREATED.value())
+                        .message(response.getCreated() + " jobs created successfully")
                         .data(response)
                         .build()
         );
@@ -0,0 +1,33 @@
+package com.jobrecruitment.backend.dtos.request;
+
+import java.util.List;
+
+import com.jobrecruitment.backend.enums.ApplicationStatus;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk Application Status Request DTO
+ * New status for the applications selected by ids and/or job (combined with AND),
+ * e.g. jobId + currentStatus PENDING rejects every pending application of a job.
+ * applicationIds or jobId is required; only applications to the employer's own jobs are changed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApplicationStatusRequest {
+
+    @NotNull(message = "Trạng thái không được để trống")
+    private ApplicationStatus applicationStatus;
+
+    @Size(max = 5000, message = "Tối đa 5000 đơn ứng tuyển mỗi lần")
+    private List<Long> applicationIds;
+
+    private Long jobId;
+
+    private ApplicationStatus currentStatus;
+}
@@ -0,0 +1,37 @@
+package com.jobrecruitment.backend.dtos.request;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.jobrecruitment.backend.enums.JobStatus;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk Job Status Request DTO
+ * New status for the jobs selected by ids and/or filters (combined with AND).
+ * At least one selector is required; employers only ever select their own jobs.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobStatusRequest {
+
+    @NotNull(message = "Trạng thái mới không được để trống")
+    private JobStatus status;
+
+    @Size(max = 5000, message = "Tối đa 5000 tin tuyển dụng mỗi lần")
+    private List<Long> jobIds;
+
+    // Admins only: employers are restricted to their own company
+    private Long companyId;
+
+    private JobStatus currentStatus;
+
+    // Jobs whose endDate is strictly before this day
+    private LocalDate endDateBefore;
+}
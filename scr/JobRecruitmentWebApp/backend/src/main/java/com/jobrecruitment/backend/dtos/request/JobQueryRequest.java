@@ -0,0 +1,40 @@
+package com.jobrecruitment.backend.dtos.request;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.jobrecruitment.backend.enums.JobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Job Query Request DTO
+ * Combined job filter bound from query parameters; every criterion is optional
+ * and the given ones are combined with AND.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobQueryRequest {
+
+    private Integer jcId;
+
+    private Double minSalary;
+
+    private Double maxSalary;
+
+    // Case-insensitive "contains" match on the job location
+    private String location;
+
+    private JobStatus status;
+
+    // Posting date window on createdAt, both ends inclusive
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate postedFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate postedTo;
+}
@@ -43,7 +43,7 @@ public class JobRequest {
     @NotNull(message = "Ngày kết thúc không được để trống")
     private LocalDate endDate; // RBNT validation in service layer
     
-    @Min(value = 0, message = "Số lượng tuyển không được nhỏ hơn 0") // RBSL
+    @Min(value = 1, message = "Số lượng tuyển phải lớn hơn 0") // RBSL
     private Integer maxCandidates;
     
     private JobStatus jobStatus;
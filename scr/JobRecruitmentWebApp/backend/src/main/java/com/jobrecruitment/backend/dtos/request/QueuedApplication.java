@@ -0,0 +1,23 @@
+package com.jobrecruitment.backend.dtos.request;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An accepted apply waiting in the ingestion queue
+ * trackingCode becomes the application code unless it collides with an existing one
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueuedApplication {
+
+    private String trackingCode;
+    private String username;
+    private Long jobId;
+    private Long cvId;
+    private LocalDateTime submittedAt;
+}
@@ -1,5 +1,7 @@
 package com.jobrecruitment.backend.dtos.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,7 +15,8 @@ import lombok.NoArgsConstructor;
  * {
  *   "status": 200,
  *   "message": "Success",
- *   "data": { ... }
+ *   "data": { ... },
+ *   "nextCursor": "..."   // keyset-paginated lists only
  * }
  */
 @Data
@@ -25,6 +28,14 @@ public class ApiResponse<T> {
     private String message;
     private T data;
     
+    // Token for the next page of a keyset-paginated list (omitted when null)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+    
+    public ApiResponse(int status, String message, T data) {
+        this(status, message, data, null);
+    }
+    
     /**
      * Create success response with data
      */
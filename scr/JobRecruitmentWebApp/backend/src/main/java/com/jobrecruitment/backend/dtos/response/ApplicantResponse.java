@@ -0,0 +1,34 @@
+package com.jobrecruitment.backend.dtos.response;
+
+import java.time.LocalDateTime;
+
+import com.jobrecruitment.backend.enums.ApplicationStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Applicant Response DTO
+ * One row of a job's applicant listing: the application with its candidate and CV.
+ * Read directly by constructor expression (ApplicationQueryRepositoryImpl):
+ * keep the field order in sync with it.
+ * skillsSummary: the first characters of the candidate's skills (full profile: CandidateResponse).
+ * matchScore: skill match with the job in [0, 1], only set when sorted by SCORE.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantResponse {
+
+    private Long applicationId;
+    private String applicationCode;
+    private LocalDateTime applyTime;
+    private ApplicationStatus applicationStatus;
+    private Long candidateId;
+    private String candidateName;
+    private String skillsSummary;
+    private Long cvId;
+    private String cvCode;
+    private Float matchScore;
+}
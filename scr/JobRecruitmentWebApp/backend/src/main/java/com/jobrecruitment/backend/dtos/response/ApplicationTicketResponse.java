@@ -0,0 +1,47 @@
+package com.jobrecruitment.backend.dtos.response;
+
+import java.time.LocalDateTime;
+
+import com.jobrecruitment.backend.dtos.request.QueuedApplication;
+import com.jobrecruitment.backend.enums.ApplicationTicketStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Application Ticket Response DTO
+ * State of a queued apply, polled by tracking code
+ * message: reason of a REJECTED apply; application: the created application once APPLIED
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationTicketResponse {
+
+    private String trackingCode;
+    private Long jobId;
+    private Long cvId;
+    private ApplicationTicketStatus status;
+    private String message;
+    private ApplicationResponse application;
+    private LocalDateTime submittedAt;
+
+    public static ApplicationTicketResponse queued(QueuedApplication queued) {
+        return of(queued, ApplicationTicketStatus.QUEUED, null, null);
+    }
+
+    public static ApplicationTicketResponse applied(QueuedApplication queued, ApplicationResponse application) {
+        return of(queued, ApplicationTicketStatus.APPLIED, null, application);
+    }
+
+    public static ApplicationTicketResponse rejected(QueuedApplication queued, String message) {
+        return of(queued, ApplicationTicketStatus.REJECTED, message, null);
+    }
+
+    private static ApplicationTicketResponse of(QueuedApplication queued, ApplicationTicketStatus status,
+                                                String message, ApplicationResponse application) {
+        return new ApplicationTicketResponse(queued.getTrackingCode(), queued.getJobId(), queued.getCvId(),
+                status, message, application, queued.getSubmittedAt());
+    }
+}
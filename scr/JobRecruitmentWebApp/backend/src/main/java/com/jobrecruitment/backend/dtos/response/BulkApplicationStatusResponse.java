@@ -0,0 +1,21 @@
+package com.jobrecruitment.backend.dtos.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk Application Status Response DTO
+ * skippedApplicationIds: requested ids left unchanged (not found, not for the
+ * employer's jobs, already in that status, or filtered out)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApplicationStatusResponse {
+
+    private int updated;
+    private List<Long> skippedApplicationIds;
+}
@@ -0,0 +1,20 @@
+package com.jobrecruitment.backend.dtos.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk Job Import Response DTO
+ * Created jobs in request row order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobImportResponse {
+
+    private int created;
+    private List<JobSummaryResponse> jobs;
+}
@@ -0,0 +1,26 @@
+package com.jobrecruitment.backend.dtos.response;
+
+import java.util.List;
+import java.util.Map;
+
+import com.jobrecruitment.backend.enums.JobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk Job Status Response DTO
+ * statusCounts: updated jobs per resulting status (ACTIVE before startDate becomes WAIT)
+ * skippedJobIds: requested ids left unchanged (not found, not owned, already in
+ * that status, filtered out, or ACTIVE requested after endDate)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobStatusResponse {
+
+    private int updated;
+    private Map<JobStatus, Long> statusCounts;
+    private List<Long> skippedJobIds;
+}
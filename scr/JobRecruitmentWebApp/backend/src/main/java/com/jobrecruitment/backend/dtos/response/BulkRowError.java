@@ -0,0 +1,20 @@
+package com.jobrecruitment.backend.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk Row Error DTO
+ * One invalid field of one row of a bulk request
+ * row is 1-based (CSV: first data line after the header); field is null for row-level errors.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRowError {
+
+    private int row;
+    private String field;
+    private String message;
+}
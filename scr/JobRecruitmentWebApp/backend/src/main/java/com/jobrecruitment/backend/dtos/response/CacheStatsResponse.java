@@ -0,0 +1,25 @@
+package com.jobrecruitment.backend.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cache Stats Response DTO
+ * Counters are cumulative since application start
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+
+    private String name;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long loadSuccessCount;
+    private long loadFailureCount;
+    private long evictionCount;
+    private double averageLoadMillis;
+}
@@ -0,0 +1,26 @@
+package com.jobrecruitment.backend.dtos.response;
+
+import java.util.List;
+import java.util.Map;
+
+import com.jobrecruitment.backend.enums.ApplicationStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Company Application Counts Response DTO
+ * statusCounts/total: sums over all jobs of the company
+ * jobs: counts per job, newest job first, jobs without applications included
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompanyApplicationCountsResponse {
+
+    private Long companyId;
+    private Map<ApplicationStatus, Long> statusCounts;
+    private long total;
+    private List<JobApplicationCountsResponse> jobs;
+}
@@ -0,0 +1,45 @@
+package com.jobrecruitment.backend.dtos.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cursor Page DTO
+ * One page of a keyset-paginated listing
+ * nextCursor is null when there are no more rows
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+    private String nextCursor;
+
+    /**
+     * Build a page from rows fetched with limit = size + 1
+     * The extra row only signals that another page exists and is dropped
+     *
+     * @param rows Rows fetched from the repository (at most size + 1)
+     * @param size Requested page size
+     * @param cursorOf Extracts the cursor token of a row
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(items, cursorOf.apply(items.get(size - 1)));
+    }
+
+    /**
+     * Convert page items, keeping the cursor
+     */
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
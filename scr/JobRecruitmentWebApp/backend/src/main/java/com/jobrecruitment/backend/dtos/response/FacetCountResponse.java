@@ -0,0 +1,20 @@
+package com.jobrecruitment.backend.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Facet Count Response DTO
+ * Number of matching jobs for one facet value
+ * value is what to send back as the filter, label is what to display.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountResponse {
+
+    private String value;
+    private String label;
+    private long count;
+}
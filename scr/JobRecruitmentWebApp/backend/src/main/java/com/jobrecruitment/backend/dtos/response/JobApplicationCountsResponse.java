@@ -0,0 +1,24 @@
+package com.jobrecruitment.backend.dtos.response;
+
+import java.util.Map;
+
+import com.jobrecruitment.backend.enums.ApplicationStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Job Application Counts Response DTO
+ * statusCounts: applications per status, every status present (0 when none)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationCountsResponse {
+
+    private Long jobId;
+    private String jobTitle;
+    private Map<ApplicationStatus, Long> statusCounts;
+    private long total;
+}
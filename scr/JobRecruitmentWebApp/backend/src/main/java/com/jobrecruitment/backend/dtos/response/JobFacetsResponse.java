@@ -0,0 +1,22 @@
+package com.jobrecruitment.backend.dtos.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Job Facets Response DTO
+ * Each facet counts the jobs matching every filter except its own,
+ * so the client can show how many jobs switching that filter would give.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobFacetsResponse {
+
+    private List<FacetCountResponse> categories;
+    private List<FacetCountResponse> salaryBuckets;
+    private List<FacetCountResponse> locations;
+}
@@ -0,0 +1,24 @@
+package com.jobrecruitment.backend.dtos.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Job Query Response DTO
+ * One page of filtered jobs, with facet counts on the first page
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobQueryResponse {
+
+    private List<JobSummaryResponse> jobs;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private JobFacetsResponse facets;
+}
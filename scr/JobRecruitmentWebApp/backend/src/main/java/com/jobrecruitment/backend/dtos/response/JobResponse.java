@@ -8,10 +8,12 @@ import com.jobrecruitment.backend.enums.JobStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.With;
 
 /**
  * Job Response DTO
  * Section 4.2 - Job Management
+ * spotsRemaining: maxCandidates minus applications received, null when there is no limit
  */
 @Data
 @NoArgsConstructor
@@ -32,6 +34,8 @@ public class JobResponse {
     private LocalDate startDate;
     private LocalDate endDate;
     private Integer maxCandidates;
+    @With
+    private Integer spotsRemaining;
     private JobStatus jobStatus;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
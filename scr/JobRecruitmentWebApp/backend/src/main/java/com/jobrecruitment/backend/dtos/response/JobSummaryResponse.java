@@ -0,0 +1,36 @@
+package com.jobrecruitment.backend.dtos.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.jobrecruitment.backend.enums.JobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Job Summary Response DTO
+ * Listing card: the small fields of a job without description/requirement.
+ * Read directly by constructor expression (JobRepository.SUMMARY_SELECT):
+ * keep the field order in sync with it. Full details: JobResponse.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSummaryResponse {
+    
+    private Long jobId;
+    private String jobCode;
+    private String jobTitle;
+    private Long companyId;
+    private String companyName;
+    private Integer jcId;
+    private String jcName;
+    private Double jobSalary;
+    private String jobLocation;
+    private LocalDate endDate;
+    private JobStatus jobStatus;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
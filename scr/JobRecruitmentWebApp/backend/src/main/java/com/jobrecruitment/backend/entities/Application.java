@@ -15,6 +15,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +24,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+    // Applicant listing per job: keyset on (applyTime DESC, applicationId DESC)
+    @Index(name = "idx_applications_job_apply_time", columnList = "job_id, apply_time DESC, application_id DESC"),
+    // Status counts (GROUP BY job, status) and the status-filtered applicant listing
+    @Index(name = "idx_applications_job_status", columnList = "job_id, application_status, apply_time DESC, application_id DESC")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -40,6 +46,12 @@ public class Application {
     @JoinColumn(name = "cv_id", nullable = false)
     private CV cv;
 
+    // Owner of the CV, copied on insert: one application per (job, candidate) is a
+    // unique constraint (see schema.sql), which cannot reach through cv_id
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "candidate_id", nullable = false)
+    private Candidate candidate;
+
     @Column(unique = true, nullable = false, length = 10)
     private String applicationCode; 
 
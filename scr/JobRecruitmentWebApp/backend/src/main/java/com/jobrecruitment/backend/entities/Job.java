@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -17,10 +18,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -30,13 +34,22 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+    // Keyset pagination: (createdAt DESC, jobId DESC) per listing filter
+    @Index(name = "idx_jobs_created_at_job_id", columnList = "created_at DESC, job_id DESC"),
+    @Index(name = "idx_jobs_status_created_at", columnList = "job_status, created_at DESC, job_id DESC"),
+    @Index(name = "idx_jobs_company_created_at", columnList = "company_id, created_at DESC, job_id DESC"),
+    @Index(name = "idx_jobs_category_created_at", columnList = "jc_id, created_at DESC, job_id DESC")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Job {
+    // Pooled sequence (not IDENTITY): ids are known before INSERT, so Hibernate can batch
+    // job inserts (bulk import); allocationSize must match the sequence increment
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_seq")
+    @SequenceGenerator(name = "jobs_seq", sequenceName = "jobs_seq", allocationSize = 50)
     private Long jobId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -70,9 +83,15 @@ public class Job {
     @NotNull
     private LocalDate endDate;
 
-    @Min(value = 0, message = "Số lượng tuyển không được nhỏ hơn 0") 
+    @Min(value = 1, message = "Số lượng tuyển phải lớn hơn 0") 
     private Integer maxCandidates;
 
+    // Applications received; written only by the conditional UPDATE on apply
+    // (JobRepository.incrementAppliedCount), never by entity saves
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Integer appliedCount = 0;
+
     @Enumerated(EnumType.STRING)
     private JobStatus jobStatus;
 
@@ -82,6 +101,14 @@ public class Job {
     @OneToMany(mappedBy = "job", fetch = FetchType.LAZY)
     private List<SavedJob> savedJobs;
 
+    // Optimistic lock: entity saves (edits, status changes) fail instead of overwriting a
+    // concurrent status change; native UPDATEs that change job_status bump it too
+    // (incrementAppliedCount, JobQueryRepository.updateStatuses / transitionDueJobs)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
     
@@ -0,0 +1,62 @@
+package com.jobrecruitment.backend.entities;
+
+import java.time.LocalDateTime;
+
+import com.jobrecruitment.backend.enums.OutboxEventType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Transactional outbox row
+ * Written in the same transaction as the change it describes, then delivered
+ * by the relay (OutboxService.relayBatch): publishedAt is set once every
+ * OutboxPublisher accepted it. Pending rows: idx_outbox_events_pending (schema.sql).
+ * Every node also reads every row once it is committed (OutboxBroadcaster).
+ */
+@Entity
+@Table(name = "outbox_events")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private OutboxEventType eventType;
+
+    // JSON of the event record (see OutboxEventType)
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    // Failed deliveries so far; the relay stops retrying at outbox.relay.max-attempts
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    // Node that recorded the row (NodeIdentity); its own broadcaster skips it
+    @Column(length = 36)
+    private String origin;
+}
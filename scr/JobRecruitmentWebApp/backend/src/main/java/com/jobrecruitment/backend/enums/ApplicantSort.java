@@ -0,0 +1,24 @@
+package com.jobrecruitment.backend.enums;
+
+/**
+ * Sort orders of the applicant listing of a job
+ * APPLY_TIME: newest applications first.
+ * STATUS: PENDING, then APPROVED, then REJECTED (screening queue first),
+ * newest first within each status.
+ * SCORE: best skill match first (see SkillMatcher).
+ */
+public enum ApplicantSort {
+    APPLY_TIME("Thời gian ứng tuyển"),
+    STATUS("Trạng thái"),
+    SCORE("Mức độ phù hợp");
+
+    private final String displayName;
+
+    ApplicantSort(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,20 @@
+package com.jobrecruitment.backend.enums;
+
+/**
+ * Outcome of a queued apply (asynchronous ingestion)
+ */
+public enum ApplicationTicketStatus {
+    QUEUED("Đang xử lý"),
+    APPLIED("Đã nộp"),
+    REJECTED("Không hợp lệ");
+
+    private final String displayName;
+
+    ApplicationTicketStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
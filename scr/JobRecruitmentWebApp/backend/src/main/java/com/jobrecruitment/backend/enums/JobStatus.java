@@ -1,5 +1,9 @@
 package com.jobrecruitment.backend.enums;
 
+import java.time.LocalDate;
+
+import com.jobrecruitment.backend.utils.VietnameseFolding;
+
 public enum JobStatus {
     PENDING("Chờ xét duyệt"),
     WAIT("Chưa mở"),
@@ -16,9 +20,40 @@ public enum JobStatus {
         return displayName;
     }
 
+    /**
+     * Status a job with this status should have on the given day
+     * Date-driven lifecycle: WAIT opens on startDate, WAIT/ACTIVE close after endDate.
+     * PENDING, CLOSED and HIDDEN are only changed by hand.
+     * The bulk UPDATE in JobQueryRepository.transitionDueJobs applies the same rules.
+     */
+    public JobStatus onDate(LocalDate startDate, LocalDate endDate, LocalDate today) {
+        if (this != WAIT && this != ACTIVE) {
+            return this;
+        }
+        if (endDate.isBefore(today)) {
+            return CLOSED;
+        }
+        return startDate.isAfter(today) ? WAIT : ACTIVE;
+    }
+
+    /**
+     * First day on which onDate changes this status, or null when it never does
+     */
+    public LocalDate nextTransitionDate(LocalDate startDate, LocalDate endDate) {
+        return switch (this) {
+            case WAIT -> startDate;
+            case ACTIVE -> endDate.plusDays(1);
+            default -> null;
+        };
+    }
+
+    /**
+     * Accent-insensitive lookup: "dang mo" and "Đang mở" both resolve to ACTIVE
+     */
     public static JobStatus fromDisplayName(String displayName) {
+        String folded = VietnameseFolding.fold(displayName);
         for (JobStatus status : JobStatus.values()) {
-            if (status.displayName.equals(displayName)) {
+            if (VietnameseFolding.fold(status.displayName).equals(folded)) {
                 return status;
             }
         }
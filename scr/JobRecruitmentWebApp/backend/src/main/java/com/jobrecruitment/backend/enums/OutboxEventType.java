@@ -0,0 +1,29 @@
+package com.jobrecruitment.backend.enums;
+
+/**
+ * Change events recorded in the outbox, with the payload each one carries
+ * JOB_CREATED / JOB_UPDATED: JobChangedEvent
+ * JOB_STATUS_CHANGED: JobStatusChangedEvent
+ * APPLICATION_CREATED: ApplicationCreatedEvent
+ * APPLICATION_STATUS_CHANGED: ApplicationStatusChangedEvent
+ * SAVED_JOB_ADDED / SAVED_JOB_REMOVED: SavedJobEvent
+ */
+public enum OutboxEventType {
+    JOB_CREATED("Tạo tin tuyển dụng"),
+    JOB_UPDATED("Cập nhật tin tuyển dụng"),
+    JOB_STATUS_CHANGED("Đổi trạng thái tin tuyển dụng"),
+    APPLICATION_CREATED("Nộp đơn ứng tuyển"),
+    APPLICATION_STATUS_CHANGED("Đổi trạng thái đơn ứng tuyển"),
+    SAVED_JOB_ADDED("Lưu tin tuyển dụng"),
+    SAVED_JOB_REMOVED("Bỏ lưu tin tuyển dụng");
+
+    private final String displayName;
+
+    OutboxEventType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,44 @@
+package com.jobrecruitment.backend.enums;
+
+/**
+ * Salary ranges reported as facets by the job query endpoint (VND / month)
+ * Bounds are [min, max): a 15,000,000 salary falls in FROM_15M_TO_30M.
+ * Jobs without a salary are counted as NEGOTIABLE.
+ * Bounded buckets are declared in ascending order (the facet SQL relies on it).
+ */
+public enum SalaryBucket {
+    UNDER_10M("Dưới 10 triệu", null, 10_000_000d),
+    FROM_10M_TO_15M("10 - 15 triệu", 10_000_000d, 15_000_000d),
+    FROM_15M_TO_30M("15 - 30 triệu", 15_000_000d, 30_000_000d),
+    FROM_30M_TO_50M("30 - 50 triệu", 30_000_000d, 50_000_000d),
+    OVER_50M("Trên 50 triệu", 50_000_000d, null),
+    NEGOTIABLE("Thỏa thuận", null, null);
+
+    private final String displayName;
+    private final Double min;
+    private final Double max;
+
+    SalaryBucket(String displayName, Double min, Double max) {
+        this.displayName = displayName;
+        this.min = min;
+        this.max = max;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Inclusive lower bound, null when unbounded
+     */
+    public Double getMin() {
+        return min;
+    }
+
+    /**
+     * Exclusive upper bound, null when unbounded
+     */
+    public Double getMax() {
+        return max;
+    }
+}
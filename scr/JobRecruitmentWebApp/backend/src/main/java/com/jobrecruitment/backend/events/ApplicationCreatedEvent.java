@@ -0,0 +1,17 @@
+package com.jobrecruitment.backend.events;
+
+import java.time.LocalDateTime;
+
+/**
+ * Payload of APPLICATION_CREATED
+ *
+ * @param appliedCount the job's applied_count after this application
+ */
+public record ApplicationCreatedEvent(
+        Long applicationId,
+        Long jobId,
+        Long candidateId,
+        Long cvId,
+        LocalDateTime applyTime,
+        Integer appliedCount) {
+}
@@ -0,0 +1,18 @@
+package com.jobrecruitment.backend.events;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.jobrecruitment.backend.enums.ApplicationStatus;
+import com.jobrecruitment.backend.repositories.projections.ApplicationStatusChange;
+
+/**
+ * Payload of APPLICATION_STATUS_CHANGED
+ * Recorded once per status update, single or bulk, with every application it changed.
+ */
+public record ApplicationStatusChangedEvent(
+        Long companyId,
+        ApplicationStatus applicationStatus,
+        List<ApplicationStatusChange> changes,
+        LocalDateTime changedAt) {
+}
@@ -0,0 +1,36 @@
+package com.jobrecruitment.backend.events;
+
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.jobrecruitment.backend.enums.OutboxEventType;
+import com.jobrecruitment.backend.search.JobRecommender;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Rebuilds a candidate's recommendation profile when they apply or save/unsave a job on another node
+ */
+@Component
+@RequiredArgsConstructor
+public class CandidateActivitySubscriber implements OutboxBroadcastSubscriber {
+
+    private final JobRecommender jobRecommender;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    public Set<OutboxEventType> eventTypes() {
+        return Set.of(OutboxEventType.APPLICATION_CREATED,
+                OutboxEventType.SAVED_JOB_ADDED, OutboxEventType.SAVED_JOB_REMOVED);
+    }
+
+    @Override
+    public void handle(OutboxMessage message) {
+        Long candidateId = message.eventType() == OutboxEventType.APPLICATION_CREATED
+                ? jsonMapper.readValue(message.payload(), ApplicationCreatedEvent.class).candidateId()
+                : jsonMapper.readValue(message.payload(), SavedJobEvent.class).candidateId();
+        jobRecommender.refreshCandidate(candidateId);
+    }
+}
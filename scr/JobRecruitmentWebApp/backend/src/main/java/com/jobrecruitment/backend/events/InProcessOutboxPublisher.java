@@ -0,0 +1,35 @@
+package com.jobrecruitment.backend.events;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.jobrecruitment.backend.enums.OutboxEventType;
+
+/**
+ * Dispatches relayed messages to the OutboxSubscriber beans handling their type
+ * Subscribers run one after another; the first failure fails the message.
+ */
+@Component
+public class InProcessOutboxPublisher implements OutboxPublisher {
+
+    private final Map<OutboxEventType, List<OutboxSubscriber>> subscribers = new EnumMap<>(OutboxEventType.class);
+
+    public InProcessOutboxPublisher(List<OutboxSubscriber> subscribers) {
+        for (OutboxSubscriber subscriber : subscribers) {
+            for (OutboxEventType eventType : subscriber.eventTypes()) {
+                this.subscribers.computeIfAbsent(eventType, type -> new ArrayList<>()).add(subscriber);
+            }
+        }
+    }
+
+    @Override
+    public void publish(OutboxMessage message) {
+        for (OutboxSubscriber subscriber : subscribers.getOrDefault(message.eventType(), List.of())) {
+            subscriber.handle(message);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.jobrecruitment.backend.events;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.jobrecruitment.backend.cache.JobApplicantCounters;
+import com.jobrecruitment.backend.dtos.response.JobResponse;
+import com.jobrecruitment.backend.enums.OutboxEventType;
+import com.jobrecruitment.backend.repositories.projections.JobStatusChange;
+import com.jobrecruitment.backend.search.SkillMatcher;
+import com.jobrecruitment.backend.services.JobLifecycleService;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Brings this node's job caches and indexes in line with job changes made on other nodes
+ * Jobs are reloaded by id (JobLifecycleService.refresh), so a late message only
+ * re-applies the current state; reloading also tracks their next lifecycle transition.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobChangeSubscriber implements OutboxBroadcastSubscriber {
+
+    private final JobLifecycleService jobLifecycleService;
+    private final SkillMatcher skillMatcher;
+    private final JobApplicantCounters jobApplicantCounters;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    public Set<OutboxEventType> eventTypes() {
+        return Set.of(OutboxEventType.JOB_CREATED, OutboxEventType.JOB_UPDATED,
+                OutboxEventType.JOB_STATUS_CHANGED, OutboxEventType.APPLICATION_CREATED);
+    }
+
+    @Override
+    public void handle(OutboxMessage message) {
+        switch (message.eventType()) {
+            case JOB_CREATED, JOB_UPDATED -> {
+                JobChangedEvent event = jsonMapper.readValue(message.payload(), JobChangedEvent.class);
+                // Title and requirement may have changed: re-score the job's applicants
+                List<JobResponse> jobs = jobLifecycleService.refresh(event.jobIds());
+                jobs.forEach(skillMatcher::index);
+            }
+            case JOB_STATUS_CHANGED -> {
+                JobStatusChangedEvent event = jsonMapper.readValue(message.payload(), JobStatusChangedEvent.class);
+                jobLifecycleService.refresh(event.changes().stream().map(JobStatusChange::jobId).toList());
+            }
+            case APPLICATION_CREATED -> {
+                ApplicationCreatedEvent event = jsonMapper.readValue(message.payload(), ApplicationCreatedEvent.class);
+                jobApplicantCounters.observe(event.jobId(), event.appliedCount());
+            }
+            default -> {
+            }
+        }
+    }
+}
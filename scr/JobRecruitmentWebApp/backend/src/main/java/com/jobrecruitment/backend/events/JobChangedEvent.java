@@ -0,0 +1,10 @@
+package com.jobrecruitment.backend.events;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Payload of JOB_CREATED and JOB_UPDATED: jobs of one company created or edited together
+ */
+public record JobChangedEvent(Long companyId, List<Long> jobIds, LocalDateTime changedAt) {
+}
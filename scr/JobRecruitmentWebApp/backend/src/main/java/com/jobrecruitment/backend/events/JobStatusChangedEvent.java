@@ -0,0 +1,14 @@
+package com.jobrecruitment.backend.events;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.jobrecruitment.backend.repositories.projections.JobStatusChange;
+
+/**
+ * Payload of JOB_STATUS_CHANGED: every job one operation moved, with its new status
+ * Sources: employer/admin status updates, deletion (HIDDEN), the date-driven
+ * lifecycle and a job closing when its last spot is taken.
+ */
+public record JobStatusChangedEvent(List<JobStatusChange> changes, LocalDateTime changedAt) {
+}
@@ -0,0 +1,22 @@
+package com.jobrecruitment.backend.events;
+
+import java.util.Set;
+
+import com.jobrecruitment.backend.enums.OutboxEventType;
+
+/**
+ * In-process consumer of outbox messages on every node (see OutboxBroadcaster)
+ * For state each node keeps in memory (caches, indexes): the node that made the change
+ * updated its own after commit, every other node gets the message here, within
+ * outbox.broadcast.interval of the commit. Delivery is best effort and unordered
+ * across ids, so handlers reload current state rather than apply deltas.
+ */
+public interface OutboxBroadcastSubscriber {
+
+    /**
+     * Event types handled by this subscriber
+     */
+    Set<OutboxEventType> eventTypes();
+
+    void handle(OutboxMessage message);
+}
@@ -0,0 +1,136 @@
+package com.jobrecruitment.backend.events;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.jobrecruitment.backend.entities.OutboxEvent;
+import com.jobrecruitment.backend.enums.OutboxEventType;
+import com.jobrecruitment.backend.repositories.OutboxEventRepository;
+import com.jobrecruitment.backend.utils.NodeIdentity;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hands every committed outbox row to this node's OutboxBroadcastSubscriber beans
+ *
+ * The relay gives each row to one node, but every node keeps its own job caches,
+ * indexes, recommender profiles, applied-count mirror and lifecycle wheel. So each node
+ * also tails outbox_events by id, without locking, starting from the newest id when it
+ * starts (its in-memory state is built from the database after that). Rows this node
+ * recorded are skipped: the writer updated its state after commit.
+ *
+ * Ids are drawn at insert but become visible at commit, so a lower id can show up after
+ * a higher one. Ids passed over are kept as gaps and looked for again on each poll until
+ * they show up, or for gap-timeout (a rolled back insert never does).
+ *
+ * Polled by OutboxRelayScheduler; a failing subscriber is logged and the row is not retried.
+ */
+@Slf4j
+@Component
+public class OutboxBroadcaster {
+
+    // Gaps held at once; a burst of rolled back inserts beyond this is not waited for
+    private static final int MAX_GAPS = 10_000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final NodeIdentity nodeIdentity;
+    private final Map<OutboxEventType, List<OutboxBroadcastSubscriber>> subscribers = new EnumMap<>(OutboxEventType.class);
+    private final int batchSize;
+    private final Duration gapTimeout;
+
+    // Guarded by this; newest id read, and the ids below it not seen yet (with when they were first missed)
+    private long highestId = -1;
+    private final TreeMap<Long, Instant> gaps = new TreeMap<>();
+
+    public OutboxBroadcaster(
+            OutboxEventRepository outboxEventRepository,
+            NodeIdentity nodeIdentity,
+            List<OutboxBroadcastSubscriber> subscribers,
+            @Value("${outbox.broadcast.batch-size:500}") int batchSize,
+            @Value("${outbox.broadcast.gap-timeout:1m}") Duration gapTimeout) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.nodeIdentity = nodeIdentity;
+        for (OutboxBroadcastSubscriber subscriber : subscribers) {
+            for (OutboxEventType eventType : subscriber.eventTypes()) {
+                this.subscribers.computeIfAbsent(eventType, type -> new ArrayList<>()).add(subscriber);
+            }
+        }
+        this.batchSize = batchSize;
+        this.gapTimeout = gapTimeout;
+    }
+
+    /**
+     * Start at the newest row, before the in-memory state is built (ApplicationReadyEvent)
+     * Recent ids not visible yet may belong to transactions still running: they are gaps.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public synchronized void start() {
+        long newest = outboxEventRepository.findMaxOutboxId();
+        long from = Math.max(0, newest - batchSize);
+        Set<Long> visible = new HashSet<>(outboxEventRepository.findIdsAfter(from));
+        Instant now = Instant.now();
+        for (long id = from + 1; id < newest; id++) {
+            if (!visible.contains(id)) {
+                gaps.put(id, now);
+            }
+        }
+        highestId = newest;
+        log.debug("Outbox broadcast starts after id {} ({} gaps)", newest, gaps.size());
+    }
+
+    /**
+     * Deliver rows committed since the last poll: gaps that showed up, then up to batch-size new rows
+     * Returns the number of new rows read (batch-size: more may be waiting)
+     */
+    public synchronized int poll() {
+        if (highestId < 0) {
+            return 0;
+        }
+        Instant now = Instant.now();
+        if (!gaps.isEmpty()) {
+            for (OutboxEvent event : outboxEventRepository.findByOutboxIdIn(gaps.keySet())) {
+                gaps.remove(event.getOutboxId());
+                deliver(event);
+            }
+            gaps.values().removeIf(missedAt -> missedAt.plus(gapTimeout).isBefore(now));
+        }
+
+        List<OutboxEvent> events = outboxEventRepository.findAfter(highestId, batchSize);
+        for (OutboxEvent event : events) {
+            for (long id = highestId + 1; id < event.getOutboxId() && gaps.size() < MAX_GAPS; id++) {
+                gaps.put(id, now);
+            }
+            highestId = event.getOutboxId();
+            deliver(event);
+        }
+        return events.size();
+    }
+
+    private void deliver(OutboxEvent event) {
+        if (nodeIdentity.id().equals(event.getOrigin())) {
+            return;
+        }
+        OutboxMessage message = new OutboxMessage(
+                event.getOutboxId(), event.getEventType(), event.getPayload(), event.getCreatedAt(), 1);
+        for (OutboxBroadcastSubscriber subscriber : subscribers.getOrDefault(event.getEventType(), List.of())) {
+            try {
+                subscriber.handle(message);
+            } catch (RuntimeException e) {
+                log.warn("Outbox broadcast of event {} ({}) failed in {}",
+                        event.getOutboxId(), event.getEventType(), subscriber.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
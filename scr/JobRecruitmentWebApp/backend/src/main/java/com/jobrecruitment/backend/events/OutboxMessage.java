@@ -0,0 +1,21 @@
+package com.jobrecruitment.backend.events;
+
+import java.time.LocalDateTime;
+
+import com.jobrecruitment.backend.enums.OutboxEventType;
+
+/**
+ * An outbox row as handed to publishers and subscribers
+ * Delivery is at least once: a message is redelivered (same outboxId) when any
+ * publisher failed it, so handlers must tolerate duplicates.
+ *
+ * @param payload JSON of the event record named by eventType
+ * @param attempt 1 on first delivery
+ */
+public record OutboxMessage(
+        Long outboxId,
+        OutboxEventType eventType,
+        String payload,
+        LocalDateTime createdAt,
+        int attempt) {
+}
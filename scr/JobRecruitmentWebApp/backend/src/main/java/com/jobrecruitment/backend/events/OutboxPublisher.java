@@ -0,0 +1,12 @@
+package com.jobrecruitment.backend.events;
+
+/**
+ * Destination of relayed outbox messages
+ * Every OutboxPublisher bean receives every message: InProcessOutboxPublisher
+ * feeds in-process subscribers, a message broker adapter is added as another bean.
+ * Throwing marks the message failed; it is retried with backoff for all publishers.
+ */
+public interface OutboxPublisher {
+
+    void publish(OutboxMessage message);
+}
@@ -0,0 +1,21 @@
+package com.jobrecruitment.backend.events;
+
+import java.util.Set;
+
+import com.jobrecruitment.backend.enums.OutboxEventType;
+
+/**
+ * In-process consumer of outbox messages (see InProcessOutboxPublisher)
+ * Runs on the relay thread after the change has committed, on whichever node claimed
+ * the message: use it for side effects that must happen once. Per-node state
+ * (caches, indexes) subscribes with OutboxBroadcastSubscriber instead.
+ */
+public interface OutboxSubscriber {
+
+    /**
+     * Event types handled by this subscriber
+     */
+    Set<OutboxEventType> eventTypes();
+
+    void handle(OutboxMessage message);
+}
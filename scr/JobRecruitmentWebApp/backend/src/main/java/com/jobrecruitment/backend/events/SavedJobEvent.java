@@ -0,0 +1,9 @@
+package com.jobrecruitment.backend.events;
+
+import java.time.LocalDateTime;
+
+/**
+ * Payload of SAVED_JOB_ADDED and SAVED_JOB_REMOVED
+ */
+public record SavedJobEvent(Long candidateId, Long jobId, LocalDateTime changedAt) {
+}
@@ -0,0 +1,23 @@
+package com.jobrecruitment.backend.exceptions;
+
+import java.util.List;
+
+import com.jobrecruitment.backend.dtos.response.BulkRowError;
+
+/**
+ * Exception thrown when rows of a bulk request fail validation
+ * Carries every invalid row, so the whole request can be fixed at once
+ */
+public class BulkValidationException extends ValidationException {
+    
+    private final List<BulkRowError> errors;
+    
+    public BulkValidationException(String message, List<BulkRowError> errors) {
+        super(message);
+        this.errors = errors;
+    }
+    
+    public List<BulkRowError> getErrors() {
+        return errors;
+    }
+}
@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -71,6 +73,48 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
     
+    /**
+     * Handle BulkValidationException
+     * Returns 400 BAD REQUEST with the errors of every invalid row
+     */
+    @ExceptionHandler(BulkValidationException.class)
+    public ResponseEntity<Map<String, Object>> handleBulkValidationException(
+            BulkValidationException ex,
+            WebRequest request) {
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", HttpStatus.BAD_REQUEST.value());
+        response.put("message", ex.getMessage());
+        response.put("errors", ex.getErrors());
+        response.put("timestamp", LocalDateTime.now());
+        response.put("path", request.getDescription(false).replace("uri=", ""));
+        
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+    
+    /**
+     * Handle TooManyRequestsException
+     * Returns 429 TOO MANY REQUESTS with a Retry-After header (seconds)
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Map<String, Object>> handleTooManyRequestsException(
+            TooManyRequestsException ex,
+            WebRequest request) {
+        
+        long retryAfterSeconds = Math.max(1, ex.getRetryAfter().toSeconds());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        response.put("message", ex.getMessage());
+        response.put("retryAfter", retryAfterSeconds);
+        response.put("timestamp", LocalDateTime.now());
+        response.put("path", request.getDescription(false).replace("uri=", ""));
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(response);
+    }
+    
     /**
      * Handle Jakarta Validation Errors (@Valid)
      * Returns 400 BAD REQUEST
@@ -151,6 +195,26 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.CONFLICT);
     }
     
+    /**
+     * Handle OptimisticLockingFailureException
+     * The row changed between read and write (e.g. a job closed by an apply while
+     * its employer edited it); the client should reload and retry.
+     * Returns 409 CONFLICT
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex,
+            WebRequest request) {
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", HttpStatus.CONFLICT.value());
+        response.put("message", "The record was changed by another request, please reload and try again");
+        response.put("timestamp", LocalDateTime.now());
+        response.put("path", request.getDescription(false).replace("uri=", ""));
+        
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+    
     /**
      * Handle IllegalArgumentException
      * Returns 400 BAD REQUEST
@@ -0,0 +1,21 @@
+package com.jobrecruitment.backend.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a request is refused for lack of capacity
+ * The client should retry after retryAfter
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.stereotype.Component;
 
 import com.jobrecruitment.backend.dtos.request.JobRequest;
 import com.jobrecruitment.backend.dtos.response.JobResponse;
+import com.jobrecruitment.backend.dtos.response.JobSummaryResponse;
 import com.jobrecruitment.backend.entities.Job;
 
 /**
@@ -36,6 +37,43 @@ public class JobMapper {
             job.getStartDate(),
             job.getEndDate(),
             job.getMaxCandidates(),
+            spotsRemaining(job),
+            job.getJobStatus(),
+            job.getCreatedAt(),
+            job.getUpdatedAt()
+        );
+    }
+    
+    /**
+     * Open spots of a job, null when maxCandidates is not set
+     */
+    private Integer spotsRemaining(Job job) {
+        if (job.getMaxCandidates() == null) {
+            return null;
+        }
+        int applied = job.getAppliedCount() != null ? job.getAppliedCount() : 0;
+        return Math.max(0, job.getMaxCandidates() - applied);
+    }
+    
+    /**
+     * Convert JobResponse DTO to its listing summary
+     */
+    public JobSummaryResponse toSummary(JobResponse job) {
+        if (job == null) {
+            return null;
+        }
+        
+        return new JobSummaryResponse(
+            job.getJobId(),
+            job.getJobCode(),
+            job.getJobTitle(),
+            job.getCompanyId(),
+            job.getCompanyName(),
+            job.getJcId(),
+            job.getJcName(),
+            job.getJobSalary(),
+            job.getJobLocation(),
+            job.getEndDate(),
             job.getJobStatus(),
             job.getCreatedAt(),
             job.getUpdatedAt()
@@ -0,0 +1,84 @@
+package com.jobrecruitment.backend.repositories;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.jobrecruitment.backend.enums.ApplicationStatus;
+import com.jobrecruitment.backend.repositories.projections.ApplicantExportRow;
+import com.jobrecruitment.backend.utils.EntityStreams;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applicant export reads
+ * Plain JDBC rather than JPA: rows go straight from a server-side cursor to the
+ * consumer, with no EntityManager or persistence context involved. The cursor
+ * needs autocommit off, so the connection runs its own read-only transaction,
+ * independent of any Spring-managed one, and is held until the last row is consumed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicantExportRepository {
+
+    private static final String EXPORT_SQL = "SELECT a.application_code, a.apply_time, a.application_status, " +
+            "c.candidate_name, c.candidate_email, c.candidate_phone, c.candidate_skills, cv.cv_code " +
+            "FROM applications a " +
+            "JOIN candidates c ON c.candidate_id = a.candidate_id " +
+            "JOIN cvs cv ON cv.cv_id = a.cv_id " +
+            "WHERE a.job_id = ? " +
+            "ORDER BY a.apply_time, a.application_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Pass every applicant of a job to action, oldest application first
+     * Rows are fetched EntityStreams.FETCH_SIZE at a time
+     */
+    public void forEachApplicant(Long jobId, Consumer<ApplicantExportRow> action) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(EXPORT_SQL)) {
+                statement.setFetchSize(EntityStreams.FETCH_SIZE);
+                statement.setLong(1, jobId);
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        action.accept(toRow(rows));
+                    }
+                }
+            } finally {
+                restore(connection, autoCommit);
+            }
+            return null;
+        });
+    }
+
+    private static ApplicantExportRow toRow(ResultSet rows) throws SQLException {
+        String status = rows.getString("application_status");
+        return new ApplicantExportRow(
+                rows.getString("application_code"),
+                rows.getObject("apply_time", LocalDateTime.class),
+                status != null ? ApplicationStatus.valueOf(status) : null,
+                rows.getString("candidate_name"),
+                rows.getString("candidate_email"),
+                rows.getString("candidate_phone"),
+                rows.getString("candidate_skills"),
+                rows.getString("cv_code"));
+    }
+
+    // End the read-only transaction before the connection goes back to the pool
+    private static void restore(Connection connection, boolean autoCommit) throws SQLException {
+        connection.rollback();
+        connection.setReadOnly(false);
+        connection.setAutoCommit(autoCommit);
+    }
+}
@@ -0,0 +1,44 @@
+package com.jobrecruitment.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import com.jobrecruitment.backend.dtos.request.BulkApplicationStatusRequest;
+import com.jobrecruitment.backend.dtos.response.ApplicantResponse;
+import com.jobrecruitment.backend.enums.ApplicantSort;
+import com.jobrecruitment.backend.enums.ApplicationStatus;
+import com.jobrecruitment.backend.repositories.projections.ApplicantKey;
+import com.jobrecruitment.backend.repositories.projections.ApplicationStatusChange;
+import com.jobrecruitment.backend.utils.ApplicantCursor;
+
+/**
+ * Dynamic application queries and updates (custom ApplicationRepository fragment)
+ */
+public interface ApplicationQueryRepository {
+
+    /**
+     * Page of a job's applicants with candidate and CV, after the cursor row
+     * One joined query; status filters when not null. Fetch limit = page size + 1.
+     */
+    List<ApplicantResponse> findApplicantPage(Long jobId, ApplicationStatus status, ApplicantSort sort,
+                                              ApplicantCursor after, int limit);
+
+    /**
+     * Application and candidate ids of a job's applicants, ascending by candidate id
+     * status filters when not null
+     */
+    List<ApplicantKey> findApplicantKeys(Long jobId, ApplicationStatus status);
+
+    /**
+     * Applicant rows of the given applications, in no particular order
+     */
+    List<ApplicantResponse> findApplicantsByIds(Collection<Long> applicationIds);
+
+    /**
+     * Set the status of every selected application in one UPDATE
+     * Selection: request ids/job/current status, restricted to jobs of the company owned by username.
+     * Applications already in the target status are not touched.
+     */
+    List<ApplicationStatusChange> updateStatuses(BulkApplicationStatusRequest request, String username, LocalDateTime now);
+}
@@ -0,0 +1,171 @@
+package com.jobrecruitment.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.query.NativeQuery;
+
+import com.jobrecruitment.backend.dtos.request.BulkApplicationStatusRequest;
+import com.jobrecruitment.backend.dtos.response.ApplicantResponse;
+import com.jobrecruitment.backend.enums.ApplicantSort;
+import com.jobrecruitment.backend.enums.ApplicationStatus;
+import com.jobrecruitment.backend.repositories.projections.ApplicantKey;
+import com.jobrecruitment.backend.repositories.projections.ApplicationStatusChange;
+import com.jobrecruitment.backend.utils.ApplicantCursor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Applicant listing: constructor expression over applications joined to
+ * candidate and CV, with a keyset predicate matching the requested sort.
+ * Sorting by status orders on the ApplicationStatus declaration order.
+ * Sorting by match score is done in memory (ApplicationServiceImpl): findApplicantKeys
+ * lists the candidates to score, findApplicantsByIds loads the selected page.
+ *
+ * Bulk application status: one UPDATE ... RETURNING
+ * The subquery joins applications to the employer through jobs and companies
+ * (ownership check and selection in the same statement) and locks the selected rows,
+ * so the previous status it reads is the one being overwritten.
+ */
+public class ApplicationQueryRepositoryImpl implements ApplicationQueryRepository {
+
+    // Characters of candidateSkills returned as skillsSummary
+    private static final int SKILLS_SUMMARY_LENGTH = 200;
+
+    private static final String APPLICANT_SELECT = "SELECT new com.jobrecruitment.backend.dtos.response.ApplicantResponse(" +
+            "a.applicationId, a.applicationCode, a.applyTime, a.applicationStatus, " +
+            "c.candidateId, c.candidateName, SUBSTRING(c.candidateSkills, 1, " + SKILLS_SUMMARY_LENGTH + "), " +
+            "cv.cvId, cv.cvCode, CAST(NULL AS Float)) " +
+            "FROM Application a JOIN a.candidate c JOIN a.cv cv ";
+
+    private static final String STATUS_RANK = statusRank();
+
+    private static final String APPLY_TIME_AFTER =
+            "(a.applyTime < :applyTime OR (a.applyTime = :applyTime AND a.applicationId < :applicationId))";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ApplicantResponse> findApplicantPage(Long jobId, ApplicationStatus status, ApplicantSort sort,
+                                                     ApplicantCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder(APPLICANT_SELECT).append("WHERE a.job.jobId = :jobId ");
+        if (status != null) {
+            jpql.append("AND a.applicationStatus = :status ");
+        }
+        if (sort == ApplicantSort.STATUS) {
+            jpql.append("AND (").append(STATUS_RANK).append(" > :statusRank OR (")
+                    .append(STATUS_RANK).append(" = :statusRank AND ").append(APPLY_TIME_AFTER).append(")) ")
+                    .append("ORDER BY ").append(STATUS_RANK).append(", a.applyTime DESC, a.applicationId DESC");
+        } else {
+            jpql.append("AND ").append(APPLY_TIME_AFTER).append(" ")
+                    .append("ORDER BY a.applyTime DESC, a.applicationId DESC");
+        }
+
+        TypedQuery<ApplicantResponse> query = entityManager.createQuery(jpql.toString(), ApplicantResponse.class)
+                .setParameter("jobId", jobId)
+                .setParameter("applyTime", after.applyTime())
+                .setParameter("applicationId", after.id())
+                .setMaxResults(limit);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (sort == ApplicantSort.STATUS) {
+            // The first page starts before every status
+            query.setParameter("statusRank", after.status() != null ? after.status().ordinal() : -1);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public List<ApplicantKey> findApplicantKeys(Long jobId, ApplicationStatus status) {
+        String jpql = "SELECT new com.jobrecruitment.backend.repositories.projections.ApplicantKey(" +
+                "a.applicationId, a.candidate.candidateId) FROM Application a WHERE a.job.jobId = :jobId " +
+                (status != null ? "AND a.applicationStatus = :status " : "") +
+                "ORDER BY a.candidate.candidateId";
+        TypedQuery<ApplicantKey> query = entityManager.createQuery(jpql, ApplicantKey.class)
+                .setParameter("jobId", jobId);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public List<ApplicantResponse> findApplicantsByIds(Collection<Long> applicationIds) {
+        return entityManager.createQuery(APPLICANT_SELECT + "WHERE a.applicationId IN :applicationIds",
+                        ApplicantResponse.class)
+                .setParameter("applicationIds", applicationIds)
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ApplicationStatusChange> updateStatuses(BulkApplicationStatusRequest request, String username,
+                                                        LocalDateTime now) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("status", request.getApplicationStatus().name());
+        params.put("username", username);
+        params.put("now", now);
+
+        List<String> where = new ArrayList<>();
+        where.add("u.username = :username");
+        where.add("x.application_status <> :status");
+        if (request.getApplicationIds() != null && !request.getApplicationIds().isEmpty()) {
+            where.add("x.application_id = ANY(:applicationIds)");
+            params.put("applicationIds", request.getApplicationIds().toArray(Long[]::new));
+        }
+        if (request.getJobId() != null) {
+            where.add("x.job_id = :jobId");
+            params.put("jobId", request.getJobId());
+        }
+        if (request.getCurrentStatus() != null) {
+            where.add("x.application_status = :currentStatus");
+            params.put("currentStatus", request.getCurrentStatus().name());
+        }
+
+        String sql = "UPDATE applications a SET application_status = :status, updated_at = :now " +
+                "FROM (SELECT x.application_id, x.application_status AS previous_status " +
+                "FROM applications x " +
+                "JOIN jobs j ON j.job_id = x.job_id " +
+                "JOIN companies c ON c.company_id = j.company_id " +
+                "JOIN users u ON u.user_id = c.user_id " +
+                "WHERE " + String.join(" AND ", where) + " " +
+                "FOR UPDATE OF x) o " +
+                "WHERE a.application_id = o.application_id " +
+                "RETURNING a.application_id, a.job_id, o.previous_status";
+
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class)
+                .addScalar("application_id", Long.class)
+                .addScalar("job_id", Long.class)
+                .addScalar("previous_status", String.class);
+        params.forEach(query::setParameter);
+
+        List<ApplicationStatusChange> changes = new ArrayList<>();
+        for (Object[] row : query.getResultList()) {
+            changes.add(new ApplicationStatusChange(
+                    (Long) row[0],
+                    (Long) row[1],
+                    ApplicationStatus.valueOf((String) row[2])));
+        }
+        return changes;
+    }
+
+    /**
+     * CASE expression mapping applicationStatus to its declaration order
+     */
+    private static String statusRank() {
+        StringBuilder jpql = new StringBuilder("CASE a.applicationStatus");
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            jpql.append(" WHEN ").append(ApplicationStatus.class.getName()).append('.').append(status.name())
+                    .append(" THEN ").append(status.ordinal());
+        }
+        return jpql.append(" END").toString();
+    }
+}
@@ -2,36 +2,145 @@ package com.jobrecruitment.backend.repositories;
 
 import com.jobrecruitment.backend.entities.Application;
 import com.jobrecruitment.backend.enums.ApplicationStatus;
+import com.jobrecruitment.backend.repositories.projections.ApplicationStatusCount;
+import com.jobrecruitment.backend.repositories.projections.ApplyEligibilityRow;
+import com.jobrecruitment.backend.repositories.projections.CandidateJobLink;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * Application Repository
+ * Queries feeding ApplicationMapper fetch job and cv in the same statement
+ * so mapping a list never triggers per-row lazy loads.
+ *
+ * Applying is three statements: findApplyEligibility reads every check at once,
+ * insertIfAbsent inserts unless a unique constraint (job + candidate, or code) is hit,
+ * and JobRepository.incrementAppliedCount takes a spot on the job.
+ *
+ * Dashboard counts are one GROUP BY (job, status) served from idx_applications_job_status;
+ * jobs are LEFT JOINed so a job without applications still gets a row.
+ *
+ * Bulk status updates live in ApplicationQueryRepositoryImpl.
+ */
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, Long> {
+public interface ApplicationRepository extends JpaRepository<Application, Long>, ApplicationQueryRepository {
+    
+    String STATUS_COUNT_SELECT = "SELECT new com.jobrecruitment.backend.repositories.projections.ApplicationStatusCount(" +
+            "j.jobId, j.jobTitle, a.applicationStatus, COUNT(a.applicationId)) " +
+            "FROM Job j LEFT JOIN Application a ON a.job = j ";
+    
+    String STATUS_COUNT_GROUP = "GROUP BY j.jobId, j.jobTitle, a.applicationStatus ";
     
     Optional<Application> findByApplicationCode(String applicationCode);
     
     boolean existsByApplicationCode(String applicationCode);
     
+    // Find application with job and CV loaded
+    @EntityGraph(attributePaths = {"job", "cv"})
+    Optional<Application> findWithDetailsByApplicationId(Long applicationId);
+    
+    // Find a candidate's application by code with job and CV loaded (queued apply tracking)
+    @EntityGraph(attributePaths = {"job", "cv"})
+    Optional<Application> findWithDetailsByApplicationCodeAndCandidateUserUsername(String applicationCode, String username);
+    
     // Find applications by job
+    @EntityGraph(attributePaths = {"job", "cv"})
     List<Application> findByJobJobId(Long jobId);
     
     // Find applications by job and status
+    @EntityGraph(attributePaths = {"job", "cv"})
     List<Application> findByJobJobIdAndApplicationStatus(Long jobId, ApplicationStatus status);
     
     // Find applications by candidate (via CV)
-    @Query("SELECT a FROM Application a WHERE a.cv.candidate.candidateId = :candidateId")
+    @Query("SELECT a FROM Application a JOIN FETCH a.job JOIN FETCH a.cv cv " +
+           "WHERE cv.candidate.candidateId = :candidateId")
     List<Application> findByCandidateId(@Param("candidateId") Long candidateId);
     
+    // Stream of a job's applications for export: server-side cursor, read-only entities
+    // Must be consumed inside a transaction (see EntityStreams)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Application a JOIN FETCH a.job JOIN FETCH a.cv " +
+           "WHERE a.job.jobId = :jobId ORDER BY a.applicationId")
+    Stream<Application> streamByJobId(@Param("jobId") Long jobId);
+    
+    // Stream of a candidate's applications for export
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Application a JOIN FETCH a.job JOIN FETCH a.cv cv " +
+           "WHERE cv.candidate.candidateId = :candidateId ORDER BY a.applicationId")
+    Stream<Application> streamByCandidateId(@Param("candidateId") Long candidateId);
+    
     // Check if candidate already applied to job
     @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END " +
-           "FROM Application a WHERE a.job.jobId = :jobId AND a.cv.candidate.candidateId = :candidateId")
+           "FROM Application a WHERE a.job.jobId = :jobId AND a.candidate.candidateId = :candidateId")
     boolean existsByJobIdAndCandidateId(@Param("jobId") Long jobId, @Param("candidateId") Long candidateId);
     
+    // Candidate of username with the job, the CV and whether they already applied
+    // Empty when username has no candidate profile
+    @Query(value = "SELECT c.candidate_id AS candidateId, " +
+                   "j.job_id AS jobId, j.job_title AS jobTitle, j.job_status AS jobStatus, " +
+                   "j.start_date AS startDate, j.end_date AS endDate, " +
+                   "j.max_candidates AS maxCandidates, j.applied_count AS appliedCount, " +
+                   "cv.cv_id AS cvId, cv.cv_code AS cvCode, cv.candidate_id AS cvCandidateId, cv.cv_status AS cvStatus, " +
+                   "EXISTS (SELECT 1 FROM applications a " +
+                   "WHERE a.job_id = :jobId AND a.candidate_id = c.candidate_id) AS applied " +
+                   "FROM users u " +
+                   "JOIN candidates c ON c.user_id = u.user_id " +
+                   "LEFT JOIN jobs j ON j.job_id = :jobId " +
+                   "LEFT JOIN cvs cv ON cv.cv_id = :cvId " +
+                   "WHERE u.username = :username",
+           nativeQuery = true)
+    Optional<ApplyEligibilityRow> findApplyEligibility(@Param("username") String username,
+                                                       @Param("jobId") Long jobId,
+                                                       @Param("cvId") Long cvId);
+    
+    // Insert a PENDING application; returns its id, or nothing when a unique constraint
+    // (job + candidate, application code) already holds a row
+    @Query(value = "INSERT INTO applications " +
+                   "(job_id, cv_id, candidate_id, application_code, apply_time, application_status, created_at, updated_at) " +
+                   "VALUES (:jobId, :cvId, :candidateId, :applicationCode, :applyTime, 'PENDING', :now, :now) " +
+                   "ON CONFLICT DO NOTHING " +
+                   "RETURNING application_id",
+           nativeQuery = true)
+    List<Long> insertIfAbsent(@Param("jobId") Long jobId,
+                              @Param("cvId") Long cvId,
+                              @Param("candidateId") Long candidateId,
+                              @Param("applicationCode") String applicationCode,
+                              @Param("applyTime") LocalDateTime applyTime,
+                              @Param("now") LocalDateTime now);
+    
+    // Application counts per status of one job
+    @Query(STATUS_COUNT_SELECT + "WHERE j.jobId = :jobId " + STATUS_COUNT_GROUP)
+    List<ApplicationStatusCount> countByStatusForJob(@Param("jobId") Long jobId);
+    
+    // Application counts per job and status of every job of a company, newest job first
+    @Query(STATUS_COUNT_SELECT + "WHERE j.company.companyId = :companyId " + STATUS_COUNT_GROUP +
+           "ORDER BY j.jobId DESC")
+    List<ApplicationStatusCount> countByStatusForCompany(@Param("companyId") Long companyId);
+    
     // Find application by job and CV
     Optional<Application> findByJobJobIdAndCvCvId(Long jobId, Long cvId);
+    
+    // Jobs the given candidates applied to, with their category (JobRecommender profiles)
+    @Query("SELECT new com.jobrecruitment.backend.repositories.projections.CandidateJobLink(" +
+           "a.candidate.candidateId, j.jobId, j.jobCategory.jcId) " +
+           "FROM Application a JOIN a.job j WHERE a.candidate.candidateId IN :candidateIds")
+    List<CandidateJobLink> findJobLinksByCandidateIdIn(@Param("candidateIds") Collection<Long> candidateIds);
 }
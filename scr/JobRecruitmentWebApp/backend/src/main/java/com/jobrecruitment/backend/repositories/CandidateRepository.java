@@ -1,14 +1,24 @@
 package com.jobrecruitment.backend.repositories;
 
 import com.jobrecruitment.backend.entities.Candidate;
+import com.jobrecruitment.backend.repositories.projections.SkillText;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CandidateRepository extends JpaRepository<Candidate, Long> {
     
+    String PROFILE_TEXT_SELECT = "SELECT new com.jobrecruitment.backend.repositories.projections.SkillText(" +
+            "c.candidateId, CONCAT(COALESCE(c.candidateSkills, ''), ' ', COALESCE(c.candidateExp, ''))) " +
+            "FROM Candidate c ";
+    
     Optional<Candidate> findByCandidateCode(String candidateCode);
     
     Optional<Candidate> findByUserUserId(Long userId);
@@ -16,4 +26,17 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
     boolean existsByCandidateCode(String candidateCode);
     
     boolean existsByCandidateEmail(String candidateEmail);
+    
+    // Skills of candidates after the given id, ascending (builds SkillMatcher)
+    @Query("SELECT new com.jobrecruitment.backend.repositories.projections.SkillText(c.candidateId, c.candidateSkills) " +
+           "FROM Candidate c WHERE c.candidateId > :after ORDER BY c.candidateId")
+    List<SkillText> findSkillTextPage(@Param("after") Long after, Limit limit);
+    
+    // Skills and experience of candidates after the given id, ascending (builds JobRecommender)
+    @Query(PROFILE_TEXT_SELECT + "WHERE c.candidateId > :after ORDER BY c.candidateId")
+    List<SkillText> findProfileTextPage(@Param("after") Long after, Limit limit);
+    
+    // Skills and experience of the given candidates
+    @Query(PROFILE_TEXT_SELECT + "WHERE c.candidateId IN :candidateIds")
+    List<SkillText> findProfileTextByCandidateIdIn(@Param("candidateIds") Collection<Long> candidateIds);
 }
@@ -2,6 +2,8 @@ package com.jobrecruitment.backend.repositories;
 
 import com.jobrecruitment.backend.entities.Company;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,6 +15,10 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
     
     Optional<Company> findByUserUserId(Long userId);
     
+    // Id of the company owned by a user, without loading the entities (ownership checks)
+    @Query("SELECT c.companyId FROM Company c WHERE c.user.username = :username")
+    Optional<Long> findCompanyIdByUsername(@Param("username") String username);
+    
     boolean existsByCompanyCode(String companyCode);
     
     boolean existsByCompanyEmail(String companyEmail);
@@ -2,6 +2,7 @@ package com.jobrecruitment.backend.repositories;
 
 import com.jobrecruitment.backend.entities.JobCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +13,11 @@ public interface JobCategoryRepository extends JpaRepository<JobCategory, Intege
     Optional<JobCategory> findByJcName(String jcName);
     
     boolean existsByJcName(String jcName);
+    
+    // Fingerprint of every row's id and update time: changes with any insert, update or delete
+    // (MAX(updated_at) would miss an update that commits after a later-stamped one)
+    @Query(value = "SELECT COALESCE(md5(string_agg(jc_id || '@' || COALESCE(updated_at::text, ''), ',' ORDER BY jc_id)), '') " +
+                   "FROM job_categories",
+           nativeQuery = true)
+    String findVersion();
 }
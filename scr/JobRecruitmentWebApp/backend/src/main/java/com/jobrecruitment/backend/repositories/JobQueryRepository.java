@@ -0,0 +1,45 @@
+package com.jobrecruitment.backend.repositories;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jobrecruitment.backend.dtos.request.BulkJobStatusRequest;
+import com.jobrecruitment.backend.dtos.request.JobQueryRequest;
+import com.jobrecruitment.backend.dtos.response.JobSummaryResponse;
+import com.jobrecruitment.backend.entities.Job;
+import com.jobrecruitment.backend.repositories.projections.JobFacetRow;
+import com.jobrecruitment.backend.repositories.projections.JobStatusChange;
+
+/**
+ * Dynamic job queries and updates (custom JobRepository fragment)
+ */
+public interface JobQueryRepository {
+
+    /**
+     * Summaries of the jobs matching spec, newest first (createdAt DESC, jobId DESC)
+     */
+    List<JobSummaryResponse> findSummaries(Specification<Job> spec, int limit);
+
+    /**
+     * Count jobs per category, salary bucket and location in one query
+     * Each facet applies every filter except its own (see JobFacetsResponse).
+     */
+    List<JobFacetRow> countFacets(JobQueryRequest filter);
+
+    /**
+     * Set the status of every selected job in one UPDATE
+     * Selection: request ids/filters, restricted to companyId when not null.
+     * The new status follows JobStatus.onDate (ACTIVE before startDate is stored as WAIT);
+     * ACTIVE is never applied after endDate, and unchanged rows are not touched.
+     */
+    List<JobStatusChange> updateStatuses(BulkJobStatusRequest request, Long companyId, LocalDate today, LocalDateTime now);
+
+    /**
+     * Apply the date-driven lifecycle (see JobStatus.onDate) to every due job in one UPDATE
+     * Returns the jobs that changed status, with their new status
+     */
+    List<JobStatusChange> transitionDueJobs(LocalDate today, LocalDateTime now);
+}
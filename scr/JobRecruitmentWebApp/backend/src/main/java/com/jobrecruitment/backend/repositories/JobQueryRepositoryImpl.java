@@ -0,0 +1,251 @@
+package com.jobrecruitment.backend.repositories;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jobrecruitment.backend.dtos.request.BulkJobStatusRequest;
+import com.jobrecruitment.backend.dtos.request.JobQueryRequest;
+import com.jobrecruitment.backend.dtos.response.JobSummaryResponse;
+import com.jobrecruitment.backend.entities.Company;
+import com.jobrecruitment.backend.entities.Job;
+import com.jobrecruitment.backend.entities.JobCategory;
+import com.jobrecruitment.backend.enums.JobStatus;
+import com.jobrecruitment.backend.enums.SalaryBucket;
+import com.jobrecruitment.backend.repositories.projections.JobFacetRow;
+import com.jobrecruitment.backend.repositories.projections.JobStatusChange;
+import com.jobrecruitment.backend.repositories.specifications.JobSpecifications;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Combined job filter queries and bulk updates
+ *
+ * Summaries: Criteria query selecting the JobSummaryResponse constructor
+ * (same columns as JobRepository.SUMMARY_SELECT) under a Specification.
+ *
+ * Facets: filters shared by every facet (status, posting window) go in the CTE's WHERE;
+ * the facet-specific filters (category, salary, location) become boolean columns,
+ * so one scan feeds three GROUP BYs that each skip their own filter.
+ * Predicates mirror JobSpecifications.
+ *
+ * Bulk status: one UPDATE ... RETURNING with only the given selectors in its WHERE.
+ * Lifecycle transitions: the same RETURNING, so callers get each job's new status.
+ */
+public class JobQueryRepositoryImpl implements JobQueryRepository {
+
+    private static final String SALARY_BUCKET_CASE = salaryBucketCase();
+
+    // New status per row, same rules as JobStatus.onDate
+    private static final String TARGET_STATUS_CASE =
+            "CASE WHEN :status NOT IN ('WAIT', 'ACTIVE') THEN :status " +
+            "WHEN end_date < :today THEN 'CLOSED' " +
+            "WHEN start_date > :today THEN 'WAIT' " +
+            "ELSE 'ACTIVE' END";
+
+    private static final String STATUS_CHANGE_RETURNING = "RETURNING job_id, job_status, start_date, end_date";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<JobSummaryResponse> findSummaries(Specification<Job> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobSummaryResponse> query = cb.createQuery(JobSummaryResponse.class);
+        Root<Job> job = query.from(Job.class);
+        Join<Job, Company> company = job.join("company");
+        Join<Job, JobCategory> category = job.join("jobCategory");
+
+        query.select(cb.construct(JobSummaryResponse.class,
+                job.get("jobId"), job.get("jobCode"), job.get("jobTitle"),
+                company.get("companyId"), company.get("companyName"),
+                category.get("jcId"), category.get("jcName"),
+                job.get("jobSalary"), job.get("jobLocation"), job.get("endDate"),
+                job.get("jobStatus"), job.get("createdAt"), job.get("updatedAt")));
+        Predicate predicate = spec.toPredicate(job, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.desc(job.get("createdAt")), cb.desc(job.get("jobId")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobFacetRow> countFacets(JobQueryRequest filter) {
+        Map<String, Object> params = new HashMap<>();
+
+        List<String> where = new ArrayList<>();
+        if (filter.getStatus() != null) {
+            where.add("j.job_status = :status");
+            params.put("status", filter.getStatus().name());
+        }
+        if (filter.getPostedFrom() != null) {
+            where.add("j.created_at >= :postedFrom");
+            params.put("postedFrom", filter.getPostedFrom().atStartOfDay());
+        }
+        if (filter.getPostedTo() != null) {
+            where.add("j.created_at < :postedBefore");
+            params.put("postedBefore", filter.getPostedTo().plusDays(1).atStartOfDay());
+        }
+
+        String inCategory = "TRUE";
+        if (filter.getJcId() != null) {
+            inCategory = "j.jc_id = :jcId";
+            params.put("jcId", filter.getJcId());
+        }
+
+        List<String> salary = new ArrayList<>();
+        if (filter.getMinSalary() != null) {
+            salary.add("j.job_salary >= :minSalary");
+            params.put("minSalary", filter.getMinSalary());
+        }
+        if (filter.getMaxSalary() != null) {
+            salary.add("j.job_salary <= :maxSalary");
+            params.put("maxSalary", filter.getMaxSalary());
+        }
+        String inSalary = salary.isEmpty() ? "TRUE" : "COALESCE(" + String.join(" AND ", salary) + ", FALSE)";
+
+        String inLocation = "TRUE";
+        if (filter.getLocation() != null && !filter.getLocation().isBlank()) {
+            inLocation = "COALESCE(f_unaccent(lower(j.job_location)) LIKE f_unaccent(:location) ESCAPE '\\', FALSE)";
+            params.put("location", JobSpecifications.containsPattern(filter.getLocation()));
+        }
+
+        String sql = "WITH base AS (" +
+                "SELECT j.jc_id, j.job_location, " + SALARY_BUCKET_CASE + " AS salary_bucket, " +
+                inCategory + " AS in_category, " +
+                inSalary + " AS in_salary, " +
+                inLocation + " AS in_location " +
+                "FROM jobs j" +
+                (where.isEmpty() ? "" : " WHERE " + String.join(" AND ", where)) +
+                ") " +
+                "SELECT '" + JobFacetRow.CATEGORY + "', CAST(b.jc_id AS varchar), c.jc_name, COUNT(*) " +
+                "FROM base b JOIN job_categories c ON c.jc_id = b.jc_id " +
+                "WHERE b.in_salary AND b.in_location GROUP BY b.jc_id, c.jc_name " +
+                "UNION ALL " +
+                "SELECT '" + JobFacetRow.SALARY + "', salary_bucket, NULL, COUNT(*) " +
+                "FROM base WHERE in_category AND in_location GROUP BY salary_bucket " +
+                "UNION ALL " +
+                "SELECT '" + JobFacetRow.LOCATION + "', job_location, NULL, COUNT(*) " +
+                "FROM base WHERE in_category AND in_salary AND job_location IS NOT NULL GROUP BY job_location";
+
+        Query query = entityManager.createNativeQuery(sql);
+        params.forEach(query::setParameter);
+
+        List<Object[]> rows = query.getResultList();
+        List<JobFacetRow> facets = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            facets.add(new JobFacetRow(
+                    (String) row[0],
+                    (String) row[1],
+                    (String) row[2],
+                    ((Number) row[3]).longValue()));
+        }
+        return facets;
+    }
+
+    @Override
+    public List<JobStatusChange> updateStatuses(BulkJobStatusRequest request, Long companyId,
+                                                LocalDate today, LocalDateTime now) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("status", request.getStatus().name());
+        params.put("today", today);
+        params.put("now", now);
+
+        List<String> where = new ArrayList<>();
+        where.add("job_status <> " + TARGET_STATUS_CASE);
+        if (request.getStatus() == JobStatus.ACTIVE) {
+            where.add("end_date >= :today");
+        }
+        if (companyId != null) {
+            where.add("company_id = :companyId");
+            params.put("companyId", companyId);
+        }
+        if (request.getJobIds() != null && !request.getJobIds().isEmpty()) {
+            where.add("job_id = ANY(:jobIds)");
+            params.put("jobIds", request.getJobIds().toArray(Long[]::new));
+        }
+        if (request.getCurrentStatus() != null) {
+            where.add("job_status = :currentStatus");
+            params.put("currentStatus", request.getCurrentStatus().name());
+        }
+        if (request.getEndDateBefore() != null) {
+            where.add("end_date < :endDateBefore");
+            params.put("endDateBefore", request.getEndDateBefore());
+        }
+
+        String sql = "UPDATE jobs SET job_status = " + TARGET_STATUS_CASE + ", updated_at = :now, version = version + 1 " +
+                "WHERE " + String.join(" AND ", where) + " " +
+                STATUS_CHANGE_RETURNING;
+        return statusChanges(sql, params);
+    }
+
+    @Override
+    public List<JobStatusChange> transitionDueJobs(LocalDate today, LocalDateTime now) {
+        String sql = "UPDATE jobs SET " +
+                "job_status = CASE WHEN end_date < :today THEN 'CLOSED' ELSE 'ACTIVE' END, " +
+                "updated_at = :now, version = version + 1 " +
+                "WHERE (job_status = 'WAIT' AND start_date <= :today) " +
+                "OR (job_status = 'ACTIVE' AND end_date < :today) " +
+                STATUS_CHANGE_RETURNING;
+        return statusChanges(sql, Map.of("today", today, "now", now));
+    }
+
+    /**
+     * Run an UPDATE ending with STATUS_CHANGE_RETURNING
+     */
+    @SuppressWarnings("unchecked")
+    private List<JobStatusChange> statusChanges(String sql, Map<String, Object> params) {
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class)
+                .addScalar("job_id", Long.class)
+                .addScalar("job_status", String.class)
+                .addScalar("start_date", LocalDate.class)
+                .addScalar("end_date", LocalDate.class);
+        params.forEach(query::setParameter);
+
+        List<JobStatusChange> changes = new ArrayList<>();
+        for (Object[] row : query.getResultList()) {
+            changes.add(new JobStatusChange(
+                    (Long) row[0],
+                    JobStatus.valueOf((String) row[1]),
+                    (LocalDate) row[2],
+                    (LocalDate) row[3]));
+        }
+        return changes;
+    }
+
+    /**
+     * CASE expression mapping job_salary to its SalaryBucket name
+     * Bounds are enum constants, so they are inlined rather than bound.
+     */
+    private static String salaryBucketCase() {
+        StringBuilder sql = new StringBuilder("CASE WHEN j.job_salary IS NULL THEN '")
+                .append(SalaryBucket.NEGOTIABLE.name()).append("'");
+        for (SalaryBucket bucket : SalaryBucket.values()) {
+            if (bucket.getMax() != null) {
+                sql.append(" WHEN j.job_salary < ").append(bucket.getMax().longValue())
+                        .append(" THEN '").append(bucket.name()).append("'");
+            } else if (bucket.getMin() != null) {
+                sql.append(" ELSE '").append(bucket.name()).append("'");
+            }
+        }
+        return sql.append(" END").toString();
+    }
+}
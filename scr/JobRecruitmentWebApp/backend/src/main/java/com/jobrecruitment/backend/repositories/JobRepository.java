@@ -1,41 +1,207 @@
 package com.jobrecruitment.backend.repositories;
 
+import com.jobrecruitment.backend.dtos.response.JobSummaryResponse;
 import com.jobrecruitment.backend.entities.Job;
 import com.jobrecruitment.backend.enums.JobStatus;
+import com.jobrecruitment.backend.repositories.projections.JobCapacityRow;
+import com.jobrecruitment.backend.repositories.projections.JobSearchHit;
+import com.jobrecruitment.backend.repositories.projections.JobTransitionRow;
+import com.jobrecruitment.backend.repositories.projections.JobVersion;
+import com.jobrecruitment.backend.repositories.projections.ListVersion;
+import com.jobrecruitment.backend.repositories.projections.SkillText;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * Job Repository
+ * List queries use keyset pagination ordered by (createdAt DESC, jobId DESC):
+ * each page continues strictly after the (createdAt, jobId) of the previous page's last row.
+ *
+ * List routes read JobSummaryResponse through a constructor expression (SUMMARY_SELECT):
+ * only the card columns plus company and category names, never the TEXT columns.
+ * Queries feeding JobMapper fetch company and jobCategory in the same statement
+ * (entity graph) so mapping never triggers per-row lazy loads.
+ *
+ * Combined filters are built as Specifications (see JobSpecifications) and
+ * run by the JobQueryRepository fragment, which also computes facet counts.
+ *
+ * Date-driven status changes (WAIT -> ACTIVE -> CLOSED) are applied in bulk by
+ * transitionDueJobs, so status-filtered reads never need date predicates.
+ */
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long> {
-    
+public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job>, JobQueryRepository {
+
+    // Listing card projection; argument order matches the JobSummaryResponse constructor
+    String SUMMARY_SELECT = "SELECT new com.jobrecruitment.backend.dtos.response.JobSummaryResponse(" +
+            "j.jobId, j.jobCode, j.jobTitle, c.companyId, c.companyName, jc.jcId, jc.jcName, " +
+            "j.jobSalary, j.jobLocation, j.endDate, j.jobStatus, j.createdAt, j.updatedAt) " +
+            "FROM Job j JOIN j.company c JOIN j.jobCategory jc ";
+
+    String KEYSET_AFTER = "(j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.jobId < :jobId)) ";
+
+    String KEYSET_ORDER = "ORDER BY j.createdAt DESC, j.jobId DESC";
+
     Optional<Job> findByJobCode(String jobCode);
-    
+
+    // Find job with company and category loaded (detail view / write paths)
+    @EntityGraph(attributePaths = {"company", "jobCategory"})
+    Optional<Job> findWithDetailsByJobId(Long jobId);
+
+    // Jobs by ids with company and category loaded (refreshes in-memory copies)
+    @EntityGraph(attributePaths = {"company", "jobCategory"})
+    List<Job> findWithDetailsByJobIdIn(Collection<Long> jobIds);
+
     boolean existsByJobCode(String jobCode);
-    
-    // Find jobs by company
-    List<Job> findByCompanyCompanyId(Long companyId);
-    
+
+    // Which of the given codes are taken (bulk code generation)
+    // One array parameter instead of an IN list of thousands of bind parameters
+    @Query(value = "SELECT job_code FROM jobs WHERE job_code = ANY(:jobCodes)", nativeQuery = true)
+    List<String> findExistingJobCodes(@Param("jobCodes") String[] jobCodes);
+
+    // Version of a job detail: JobResponse also embeds company and category names,
+    // and spotsRemaining, which follows appliedCount
+    @Query("SELECT GREATEST(j.updatedAt, c.updatedAt, jc.updatedAt) AS lastModified, " +
+           "j.appliedCount AS appliedCount FROM Job j " +
+           "JOIN j.company c JOIN j.jobCategory jc WHERE j.jobId = :jobId")
+    Optional<JobVersion> findVersionByJobId(@Param("jobId") Long jobId);
+
+    // Version of a company's job list (empty when the company does not exist)
+    @Query("SELECT GREATEST(c.updatedAt, MAX(j.updatedAt), MAX(jc.updatedAt)) AS lastModified, " +
+           "COUNT(j.jobId) AS count FROM Company c " +
+           "LEFT JOIN c.jobs j LEFT JOIN j.jobCategory jc " +
+           "WHERE c.companyId = :companyId GROUP BY c.companyId, c.updatedAt")
+    Optional<ListVersion> findJobsVersionByCompanyId(@Param("companyId") Long companyId);
+
+    // Summaries of jobs by ids (hydrates search hits)
+    @Query(SUMMARY_SELECT + "WHERE j.jobId IN :jobIds")
+    List<JobSummaryResponse> findSummariesByJobIdIn(@Param("jobIds") Collection<Long> jobIds);
+
+    // Summaries of all jobs of a company, newest first
+    @Query(SUMMARY_SELECT + "WHERE c.companyId = :companyId " + KEYSET_ORDER)
+    List<JobSummaryResponse> findSummariesByCompanyId(@Param("companyId") Long companyId);
+
     // Find jobs by company and status
     List<Job> findByCompanyCompanyIdAndJobStatus(Long companyId, JobStatus jobStatus);
-    
-    // Find active jobs (for candidates to view)
-    List<Job> findByJobStatus(JobStatus jobStatus);
-    
-    // Find jobs by category
-    List<Job> findByJobCategoryJcId(Integer jcId);
-    
-    // Search jobs by title or location
-    @Query("SELECT j FROM Job j WHERE " +
-           "LOWER(j.jobTitle) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(j.jobLocation) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Job> searchJobs(@Param("keyword") String keyword);
-    
-    // Find jobs by salary range
-    @Query("SELECT j FROM Job j WHERE j.jobSalary BETWEEN :minSalary AND :maxSalary")
-    List<Job> findBySalaryRange(@Param("minSalary") Double minSalary, @Param("maxSalary") Double maxSalary);
+
+    // Page of all jobs
+    @Query(SUMMARY_SELECT + "WHERE " + KEYSET_AFTER + KEYSET_ORDER)
+    List<JobSummaryResponse> findSummaryPage(@Param("createdAt") LocalDateTime createdAt,
+                                             @Param("jobId") Long jobId,
+                                             Limit limit);
+
+    // Page of jobs by status (e.g. ACTIVE jobs for candidates to view)
+    @Query(SUMMARY_SELECT + "WHERE j.jobStatus = :status AND " + KEYSET_AFTER + KEYSET_ORDER)
+    List<JobSummaryResponse> findSummaryPageByStatus(@Param("status") JobStatus status,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("jobId") Long jobId,
+                                                     Limit limit);
+
+    // Page of full jobs by status (builds the in-memory search index, which needs the text)
+    @EntityGraph(attributePaths = {"company", "jobCategory"})
+    @Query("SELECT j FROM Job j WHERE j.jobStatus = :status AND " +
+           "(j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.jobId < :jobId)) " +
+           "ORDER BY j.createdAt DESC, j.jobId DESC")
+    List<Job> findPageByStatus(@Param("status") JobStatus status,
+                               @Param("createdAt") LocalDateTime createdAt,
+                               @Param("jobId") Long jobId,
+                               Limit limit);
+
+    // Page of jobs by company
+    @Query(SUMMARY_SELECT + "WHERE j.company.companyId = :companyId AND " + KEYSET_AFTER + KEYSET_ORDER)
+    List<JobSummaryResponse> findSummaryPageByCompany(@Param("companyId") Long companyId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("jobId") Long jobId,
+                                                      Limit limit);
+
+    // Page of jobs by category
+    @Query(SUMMARY_SELECT + "WHERE j.jobCategory.jcId = :jcId AND " + KEYSET_AFTER + KEYSET_ORDER)
+    List<JobSummaryResponse> findSummaryPageByCategory(@Param("jcId") Integer jcId,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("jobId") Long jobId,
+                                                       Limit limit);
+
+    // Title and requirement of jobs after the given id, ascending (builds SkillMatcher)
+    @Query("SELECT new com.jobrecruitment.backend.repositories.projections.SkillText(" +
+           "j.jobId, CONCAT(j.jobTitle, ' ', COALESCE(j.jobRequirement, ''))) " +
+           "FROM Job j WHERE j.jobId > :after ORDER BY j.jobId")
+    List<SkillText> findSkillTextPage(@Param("after") Long after, Limit limit);
+
+    // Stream of all job summaries for export: server-side cursor, no TEXT columns
+    // DTOs are not managed, so nothing accumulates in the persistence context.
+    // Must be consumed inside a transaction (see EntityStreams)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SUMMARY_SELECT + KEYSET_ORDER)
+    Stream<JobSummaryResponse> streamSummaries();
+
+    // Stream of job summaries by status for export
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SUMMARY_SELECT + "WHERE j.jobStatus = :status " + KEYSET_ORDER)
+    Stream<JobSummaryResponse> streamSummariesByStatus(@Param("status") JobStatus status);
+
+    // Full-text search over the GIN-indexed search_vector (see schema.sql)
+    // Accent-insensitive: the vector and the query are both unaccented
+    // Ordered by relevance, keyset-paginated on (rank, jobId)
+    @Query(value = "SELECT j.job_id AS jobId, ts_rank(j.search_vector, q.query) AS rank " +
+                   "FROM jobs j, websearch_to_tsquery('simple', f_unaccent(:keyword)) AS q(query) " +
+                   "WHERE j.search_vector @@ q.query AND " +
+                   "(ts_rank(j.search_vector, q.query) < CAST(:rank AS real) OR " +
+                   "(ts_rank(j.search_vector, q.query) = CAST(:rank AS real) AND j.job_id < :jobId)) " +
+                   "ORDER BY rank DESC, j.job_id DESC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<JobSearchHit> searchJobs(@Param("keyword") String keyword,
+                                  @Param("rank") float rank,
+                                  @Param("jobId") Long jobId,
+                                  @Param("limit") int limit);
+
+    // Page of jobs by salary range
+    @Query(SUMMARY_SELECT + "WHERE j.jobSalary BETWEEN :minSalary AND :maxSalary AND " + KEYSET_AFTER + KEYSET_ORDER)
+    List<JobSummaryResponse> findSummaryPageBySalaryRange(@Param("minSalary") Double minSalary,
+                                                          @Param("maxSalary") Double maxSalary,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("jobId") Long jobId,
+                                                          Limit limit);
+
+    // Transaction-scoped PostgreSQL advisory lock: blocks until no other transaction holds key,
+    // released automatically on commit/rollback
+    @Query(value = "SELECT true FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+    Boolean acquireTransactionLock(@Param("key") long key);
+
+    // Count one application against an ACTIVE job with a free spot, closing it when this fills it
+    // Empty when the job is full or no longer ACTIVE. The row stays locked until commit:
+    // run it last in the apply transaction so concurrent applies to one job wait the least
+    @Query(value = "UPDATE jobs SET " +
+                   "applied_count = applied_count + 1, " +
+                   "job_status = CASE WHEN applied_count + 1 >= max_candidates THEN 'CLOSED' ELSE job_status END, " +
+                   "updated_at = CASE WHEN applied_count + 1 >= max_candidates THEN :now ELSE updated_at END , " +
+                   "version = CASE WHEN applied_count + 1 >= max_candidates THEN version + 1 ELSE version END " +
+                   "WHERE job_id = :jobId AND job_status = 'ACTIVE' " +
+                   "AND (max_candidates IS NULL OR applied_count < max_candidates) " +
+                   "RETURNING applied_count AS appliedCount, job_status AS jobStatus",
+           nativeQuery = true)
+    Optional<JobCapacityRow> incrementAppliedCount(@Param("jobId") Long jobId, @Param("now") LocalDateTime now);
+
+    // Upcoming lifecycle transitions due between from and to (inclusive)
+    @Query(value = "SELECT job_id AS jobId, " +
+                   "CASE WHEN job_status = 'WAIT' THEN start_date ELSE end_date + 1 END AS dueDate " +
+                   "FROM jobs " +
+                   "WHERE (job_status = 'WAIT' AND start_date BETWEEN :from AND :to) " +
+                   "OR (job_status = 'ACTIVE' AND end_date BETWEEN CAST(:from AS date) - 1 AND CAST(:to AS date) - 1)",
+           nativeQuery = true)
+    List<JobTransitionRow> findTransitionsBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
@@ -0,0 +1,65 @@
+package com.jobrecruitment.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jobrecruitment.backend.entities.OutboxEvent;
+
+/**
+ * Outbox Event Repository
+ * Relays on several nodes claim disjoint batches: rows locked by another
+ * relay's transaction are skipped rather than waited for. Broadcasters read
+ * rows by id without locking, every node all of them.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Append a pending row; a plain statement, so nothing stays in the persistence context
+    // (a rolled back savepoint leaves no managed entity behind to be flushed at commit)
+    @Modifying
+    @Query(value = "INSERT INTO outbox_events (event_type, payload, created_at, next_attempt_at, attempts, origin) " +
+                   "VALUES (:eventType, :payload, :now, :now, 0, :origin)",
+           nativeQuery = true)
+    void insertPending(@Param("eventType") String eventType,
+                       @Param("payload") String payload,
+                       @Param("now") LocalDateTime now,
+                       @Param("origin") String origin);
+
+    // Oldest deliverable rows, locked until the claiming transaction ends
+    @Query(value = "SELECT * FROM outbox_events " +
+                   "WHERE published_at IS NULL AND next_attempt_at <= :now AND attempts < :maxAttempts " +
+                   "ORDER BY outbox_id " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> claimPending(@Param("now") LocalDateTime now,
+                                   @Param("maxAttempts") int maxAttempts,
+                                   @Param("limit") int limit);
+
+    // Committed rows after afterId, in id order (broadcast tail, primary key range scan)
+    @Query(value = "SELECT * FROM outbox_events WHERE outbox_id > :afterId ORDER BY outbox_id LIMIT :limit",
+           nativeQuery = true)
+    List<OutboxEvent> findAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    // Rows among ids that have been committed since they were last looked for
+    List<OutboxEvent> findByOutboxIdIn(Collection<Long> outboxIds);
+
+    // Ids from afterId on, to tell which ids below the newest are not committed yet
+    @Query(value = "SELECT outbox_id FROM outbox_events WHERE outbox_id > :afterId", nativeQuery = true)
+    List<Long> findIdsAfter(@Param("afterId") long afterId);
+
+    @Query(value = "SELECT COALESCE(MAX(outbox_id), 0) FROM outbox_events", nativeQuery = true)
+    long findMaxOutboxId();
+
+    // Drop rows delivered before the retention cutoff
+    @Modifying
+    @Query(value = "DELETE FROM outbox_events WHERE published_at < :before", nativeQuery = true)
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
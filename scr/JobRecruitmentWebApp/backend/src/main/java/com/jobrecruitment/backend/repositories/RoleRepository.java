@@ -2,6 +2,7 @@ package com.jobrecruitment.backend.repositories;
 
 import com.jobrecruitment.backend.entities.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,4 +15,10 @@ public interface RoleRepository extends JpaRepository<Role, Integer> {
     boolean existsByRoleCode(String roleCode);
     
     boolean existsByRoleName(String roleName);
+    
+    // Fingerprint of every row's id and update time (see JobCategoryRepository.findVersion)
+    @Query(value = "SELECT COALESCE(md5(string_agg(role_id || '@' || COALESCE(updated_at::text, ''), ',' ORDER BY role_id)), '') " +
+                   "FROM roles",
+           nativeQuery = true)
+    String findVersion();
 }
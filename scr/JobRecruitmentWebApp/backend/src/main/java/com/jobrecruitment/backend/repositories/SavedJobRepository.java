@@ -1,18 +1,22 @@
 package com.jobrecruitment.backend.repositories;
 
 import com.jobrecruitment.backend.entities.SavedJob;
+import com.jobrecruitment.backend.repositories.projections.CandidateJobLink;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SavedJobRepository extends JpaRepository<SavedJob, Long> {
     
-    // Find saved jobs by candidate
+    // Find saved jobs by candidate (job with company and category loaded for SavedJobMapper)
+    @EntityGraph(attributePaths = {"job", "job.company", "job.jobCategory"})
     List<SavedJob> findByCandidateCandidateId(Long candidateId);
     
     // Find specific saved job
@@ -25,4 +29,10 @@ public interface SavedJobRepository extends JpaRepository<SavedJob, Long> {
     
     // Delete saved job
     void deleteByCandidateCandidateIdAndJobJobId(Long candidateId, Long jobId);
+    
+    // Jobs saved by the given candidates, with their category (JobRecommender profiles)
+    @Query("SELECT new com.jobrecruitment.backend.repositories.projections.CandidateJobLink(" +
+           "s.candidate.candidateId, j.jobId, j.jobCategory.jcId) " +
+           "FROM SavedJob s JOIN s.job j WHERE s.candidate.candidateId IN :candidateIds")
+    List<CandidateJobLink> findJobLinksByCandidateIdIn(@Param("candidateIds") Collection<Long> candidateIds);
 }
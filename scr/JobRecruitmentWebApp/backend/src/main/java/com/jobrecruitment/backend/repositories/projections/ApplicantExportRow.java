@@ -0,0 +1,19 @@
+package com.jobrecruitment.backend.repositories.projections;
+
+import java.time.LocalDateTime;
+
+import com.jobrecruitment.backend.enums.ApplicationStatus;
+
+/**
+ * One row of the applicant export (ApplicantExportRepository)
+ */
+public record ApplicantExportRow(
+        String applicationCode,
+        LocalDateTime applyTime,
+        ApplicationStatus applicationStatus,
+        String candidateName,
+        String candidateEmail,
+        String candidatePhone,
+        String candidateSkills,
+        String cvCode) {
+}
@@ -0,0 +1,7 @@
+package com.jobrecruitment.backend.repositories.projections;
+
+/**
+ * Application of a job with its candidate (ranks applicants by match score)
+ */
+public record ApplicantKey(Long applicationId, Long candidateId) {
+}
@@ -0,0 +1,9 @@
+package com.jobrecruitment.backend.repositories.projections;
+
+import com.jobrecruitment.backend.enums.ApplicationStatus;
+
+/**
+ * An application whose status was changed, with the status it had before
+ */
+public record ApplicationStatusChange(Long applicationId, Long jobId, ApplicationStatus previousStatus) {
+}
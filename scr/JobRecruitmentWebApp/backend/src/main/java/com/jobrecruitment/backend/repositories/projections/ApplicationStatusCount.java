@@ -0,0 +1,10 @@
+package com.jobrecruitment.backend.repositories.projections;
+
+import com.jobrecruitment.backend.enums.ApplicationStatus;
+
+/**
+ * One row of the application status aggregate: a job and its applications in one status
+ * applicationStatus is null (count 0) for a job without applications.
+ */
+public record ApplicationStatusCount(Long jobId, String jobTitle, ApplicationStatus applicationStatus, Long count) {
+}
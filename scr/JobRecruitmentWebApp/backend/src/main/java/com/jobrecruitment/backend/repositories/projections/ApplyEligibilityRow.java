@@ -0,0 +1,41 @@
+package com.jobrecruitment.backend.repositories.projections;
+
+import java.time.LocalDate;
+
+import com.jobrecruitment.backend.enums.CVStatus;
+import com.jobrecruitment.backend.enums.JobStatus;
+
+/**
+ * Everything applyToJob checks, read in one query
+ * Job and CV columns are null when the job / CV does not exist.
+ */
+public interface ApplyEligibilityRow {
+
+    Long getCandidateId();
+
+    Long getJobId();
+
+    String getJobTitle();
+
+    JobStatus getJobStatus();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    Integer getMaxCandidates();
+
+    Integer getAppliedCount();
+
+    Long getCvId();
+
+    String getCvCode();
+
+    // Owner of the CV
+    Long getCvCandidateId();
+
+    CVStatus getCvStatus();
+
+    // Candidate already applied to the job
+    boolean getApplied();
+}
@@ -0,0 +1,7 @@
+package com.jobrecruitment.backend.repositories.projections;
+
+/**
+ * A job a candidate saved or applied to, with its category (builds JobRecommender profiles)
+ */
+public record CandidateJobLink(Long candidateId, Long jobId, Integer jcId) {
+}
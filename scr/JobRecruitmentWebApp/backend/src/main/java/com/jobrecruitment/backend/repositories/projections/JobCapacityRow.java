@@ -0,0 +1,13 @@
+package com.jobrecruitment.backend.repositories.projections;
+
+import com.jobrecruitment.backend.enums.JobStatus;
+
+/**
+ * Applied count and status of a job right after an apply was counted
+ */
+public interface JobCapacityRow {
+
+    Integer getAppliedCount();
+
+    JobStatus getJobStatus();
+}
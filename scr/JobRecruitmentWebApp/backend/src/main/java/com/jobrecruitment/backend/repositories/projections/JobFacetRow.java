@@ -0,0 +1,16 @@
+package com.jobrecruitment.backend.repositories.projections;
+
+/**
+ * One row of the job facet aggregate
+ *
+ * @param facet Facet dimension (CATEGORY, SALARY, LOCATION)
+ * @param value Facet value (category id, SalaryBucket name, location)
+ * @param label Display name when the value is an id, otherwise null
+ * @param count Number of matching jobs
+ */
+public record JobFacetRow(String facet, String value, String label, long count) {
+
+    public static final String CATEGORY = "CATEGORY";
+    public static final String SALARY = "SALARY";
+    public static final String LOCATION = "LOCATION";
+}
@@ -0,0 +1,12 @@
+package com.jobrecruitment.backend.repositories.projections;
+
+/**
+ * Full-text search hit
+ * Job id with its ts_rank relevance score
+ */
+public interface JobSearchHit {
+
+    Long getJobId();
+
+    Float getRank();
+}
@@ -0,0 +1,11 @@
+package com.jobrecruitment.backend.repositories.projections;
+
+import java.time.LocalDate;
+
+import com.jobrecruitment.backend.enums.JobStatus;
+
+/**
+ * A job whose status was changed by a bulk UPDATE, with its new status
+ */
+public record JobStatusChange(Long jobId, JobStatus jobStatus, LocalDate startDate, LocalDate endDate) {
+}
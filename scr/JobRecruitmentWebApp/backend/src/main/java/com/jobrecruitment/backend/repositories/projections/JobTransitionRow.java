@@ -0,0 +1,13 @@
+package com.jobrecruitment.backend.repositories.projections;
+
+import java.time.LocalDate;
+
+/**
+ * Upcoming lifecycle transition of a job: the day its status changes by date
+ */
+public interface JobTransitionRow {
+
+    Long getJobId();
+
+    LocalDate getDueDate();
+}
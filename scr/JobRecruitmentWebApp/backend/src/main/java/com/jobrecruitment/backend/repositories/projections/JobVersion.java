@@ -0,0 +1,14 @@
+package com.jobrecruitment.backend.repositories.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version of a job detail: latest update time and applied count
+ * The count moves on every apply without touching updatedAt.
+ */
+public interface JobVersion {
+
+    LocalDateTime getLastModified();
+
+    Integer getAppliedCount();
+}
@@ -0,0 +1,13 @@
+package com.jobrecruitment.backend.repositories.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version of a list of rows: latest update time and row count
+ */
+public interface ListVersion {
+
+    LocalDateTime getLastModified();
+
+    Long getCount();
+}
@@ -0,0 +1,7 @@
+package com.jobrecruitment.backend.repositories.projections;
+
+/**
+ * Text analyzed by SkillMatcher: candidate skills, or job title and requirement
+ */
+public record SkillText(Long id, String text) {
+}
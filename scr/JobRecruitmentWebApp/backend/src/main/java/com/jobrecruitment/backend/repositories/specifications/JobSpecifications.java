@@ -0,0 +1,126 @@
+package com.jobrecruitment.backend.repositories.specifications;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jobrecruitment.backend.dtos.request.JobQueryRequest;
+import com.jobrecruitment.backend.entities.Job;
+import com.jobrecruitment.backend.enums.JobStatus;
+import com.jobrecruitment.backend.utils.KeysetCursor;
+
+/**
+ * Job Specifications
+ * Building blocks of the dynamic job query; a null argument means "no restriction".
+ * Keep in sync with the facet predicates in JobQueryRepositoryImpl.
+ */
+public final class JobSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private JobSpecifications() {
+    }
+
+    /**
+     * All criteria of the request combined with AND
+     */
+    public static Specification<Job> matching(JobQueryRequest filter) {
+        return Specification.allOf(
+                hasCategory(filter.getJcId()),
+                salaryBetween(filter.getMinSalary(), filter.getMaxSalary()),
+                locationContains(filter.getLocation()),
+                hasStatus(filter.getStatus()),
+                postedBetween(filter.getPostedFrom(), filter.getPostedTo()));
+    }
+
+    public static Specification<Job> hasCategory(Integer jcId) {
+        if (jcId == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.equal(root.get("jobCategory").get("jcId"), jcId);
+    }
+
+    public static Specification<Job> salaryBetween(Double minSalary, Double maxSalary) {
+        return (root, query, cb) -> {
+            if (minSalary != null && maxSalary != null) {
+                return cb.between(root.get("jobSalary"), minSalary, maxSalary);
+            }
+            if (minSalary != null) {
+                return cb.greaterThanOrEqualTo(root.get("jobSalary"), minSalary);
+            }
+            if (maxSalary != null) {
+                return cb.lessThanOrEqualTo(root.get("jobSalary"), maxSalary);
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Accent-insensitive: "ho chi minh" matches "Hồ Chí Minh" (f_unaccent, see schema.sql)
+     */
+    public static Specification<Job> locationContains(String location) {
+        if (location == null || location.isBlank()) {
+            return Specification.unrestricted();
+        }
+        String pattern = containsPattern(location);
+        return (root, query, cb) -> cb.like(
+                cb.function("f_unaccent", String.class, cb.lower(root.get("jobLocation"))),
+                // value(): bound as a parameter, not inlined like cb.literal
+                cb.function("f_unaccent", String.class, ((HibernateCriteriaBuilder) cb).value(pattern)),
+                LIKE_ESCAPE);
+    }
+
+    public static Specification<Job> hasStatus(JobStatus status) {
+        if (status == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.equal(root.get("jobStatus"), status);
+    }
+
+    /**
+     * Posted on or after from and on or before to (whole days)
+     */
+    public static Specification<Job> postedBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            if (from != null && to != null) {
+                return cb.and(
+                        cb.greaterThanOrEqualTo(root.get("createdAt"), from.atStartOfDay()),
+                        cb.lessThan(root.get("createdAt"), to.plusDays(1).atStartOfDay()));
+            }
+            if (from != null) {
+                return cb.greaterThanOrEqualTo(root.get("createdAt"), from.atStartOfDay());
+            }
+            if (to != null) {
+                return cb.lessThan(root.get("createdAt"), to.plusDays(1).atStartOfDay());
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Rows strictly after the cursor in (createdAt DESC, jobId DESC) order
+     */
+    public static Specification<Job> after(KeysetCursor cursor) {
+        LocalDateTime createdAt = cursor.time();
+        Long jobId = cursor.id();
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.and(
+                        cb.equal(root.get("createdAt"), createdAt),
+                        cb.lessThan(root.get("jobId"), jobId)));
+    }
+
+    /**
+     * Lower-cased LIKE pattern matching value anywhere, with wildcards in value escaped
+     */
+    public static String containsPattern(String value) {
+        String escaped = value.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,50 @@
+package com.jobrecruitment.backend.scheduling;
+
+import java.time.LocalDate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jobrecruitment.backend.services.JobLifecycleService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the job lifecycle at each day boundary
+ * Every node runs it; JobLifecycleService serializes the runs in the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobLifecycleScheduler {
+
+    private final JobLifecycleService jobLifecycleService;
+
+    /**
+     * Catch up on transitions missed while the application was down
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        run();
+    }
+
+    /**
+     * Jobs open on their startDate and close the day after their endDate
+     */
+    @Scheduled(cron = "${job-lifecycle.cron:0 0 0 * * *}")
+    public void onDayBoundary() {
+        run();
+    }
+
+    private void run() {
+        try {
+            int changed = jobLifecycleService.runTransitions(LocalDate.now());
+            log.info("Job lifecycle run: {} jobs changed status", changed);
+        } catch (RuntimeException e) {
+            log.error("Job lifecycle run failed", e);
+        }
+    }
+}
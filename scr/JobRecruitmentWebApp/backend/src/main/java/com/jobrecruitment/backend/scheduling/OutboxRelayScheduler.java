@@ -0,0 +1,85 @@
+package com.jobrecruitment.backend.scheduling;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jobrecruitment.backend.events.OutboxBroadcaster;
+import com.jobrecruitment.backend.services.OutboxService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Relays outbox events shortly after they are committed, broadcasts them to this
+ * node's in-memory state, and purges old ones
+ * Every node relays; SKIP LOCKED keeps their batches disjoint. Every node also
+ * reads every event (OutboxBroadcaster).
+ */
+@Slf4j
+@Component
+public class OutboxRelayScheduler {
+
+    // Batches per tick: a steady backlog cannot hold the scheduler thread indefinitely
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    private final OutboxService outboxService;
+    private final OutboxBroadcaster outboxBroadcaster;
+    private final int batchSize;
+    private final int broadcastBatchSize;
+
+    public OutboxRelayScheduler(
+            OutboxService outboxService,
+            OutboxBroadcaster outboxBroadcaster,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.broadcast.batch-size:500}") int broadcastBatchSize) {
+        this.outboxService = outboxService;
+        this.outboxBroadcaster = outboxBroadcaster;
+        this.batchSize = batchSize;
+        this.broadcastBatchSize = broadcastBatchSize;
+    }
+
+    /**
+     * Drain pending events, one transaction per batch
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:1s}")
+    public void relay() {
+        try {
+            for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+                if (outboxService.relayBatch() < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Outbox relay failed", e);
+        }
+    }
+
+    /**
+     * Apply events committed on other nodes to this node's caches and indexes
+     */
+    @Scheduled(fixedDelayString = "${outbox.broadcast.interval:1s}")
+    public void broadcast() {
+        try {
+            for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+                if (outboxBroadcaster.poll() < broadcastBatchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Outbox broadcast failed", e);
+        }
+    }
+
+    /**
+     * Delete delivered events older than outbox.retention
+     */
+    @Scheduled(cron = "${outbox.purge.cron:0 30 3 * * *}")
+    public void purge() {
+        try {
+            int deleted = outboxService.purgePublished();
+            log.info("Outbox purge: {} delivered events deleted", deleted);
+        } catch (RuntimeException e) {
+            log.error("Outbox purge failed", e);
+        }
+    }
+}
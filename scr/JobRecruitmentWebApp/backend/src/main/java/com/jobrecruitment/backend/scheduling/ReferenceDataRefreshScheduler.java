@@ -0,0 +1,31 @@
+package com.jobrecruitment.backend.scheduling;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jobrecruitment.backend.cache.ReferenceDataRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Picks up job categories and roles changed on other nodes
+ * The writing node refreshes right after commit; the others within reference-data.refresh-interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataRefreshScheduler {
+
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    @Scheduled(fixedDelayString = "${reference-data.refresh-interval:30s}",
+               initialDelayString = "${reference-data.refresh-interval:30s}")
+    public void refresh() {
+        try {
+            referenceDataRegistry.refreshIfChanged();
+        } catch (RuntimeException e) {
+            log.error("Reference data refresh failed", e);
+        }
+    }
+}
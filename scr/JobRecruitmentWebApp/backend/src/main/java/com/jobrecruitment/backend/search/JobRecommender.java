@@ -0,0 +1,576 @@
+package com.jobrecruitment.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.jobrecruitment.backend.dtos.response.JobResponse;
+import com.jobrecruitment.backend.dtos.response.JobSummaryResponse;
+import com.jobrecruitment.backend.entities.Job;
+import com.jobrecruitment.backend.enums.JobStatus;
+import com.jobrecruitment.backend.mappers.JobMapper;
+import com.jobrecruitment.backend.repositories.ApplicationRepository;
+import com.jobrecruitment.backend.repositories.CandidateRepository;
+import com.jobrecruitment.backend.repositories.JobRepository;
+import com.jobrecruitment.backend.repositories.SavedJobRepository;
+import com.jobrecruitment.backend.repositories.projections.CandidateJobLink;
+import com.jobrecruitment.backend.repositories.projections.SkillText;
+import com.jobrecruitment.backend.utils.KeysetCursor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Personalized job recommendations for candidates (GET /api/jobs/recommended)
+ *
+ * Job matrix: one sparse row per ACTIVE job (title twice, requirement, description),
+ * TF-IDF weighted and unit-normalized when indexed; term ids ascending with parallel
+ * weights, next to the JobSummaryResponse served. Kept in step with JobSearchIndex.
+ *
+ * Candidate profiles, precomputed:
+ * - interest vector: own skills + experience, plus each saved ACTIVE job at SAVED_JOB_WEIGHT
+ * - category affinity: share of the candidate's applications in each job category
+ * - applied jobs, left out of the results
+ * Rebuilt after commit when the candidate registers, saves/unsaves a job or applies (on other nodes
+ * when the change is broadcast, see CandidateActivitySubscriber);
+ * a candidate without a profile on this node (e.g. registered elsewhere) is loaded on first request.
+ *
+ * score = cosine(interest, job) + CATEGORY_WEIGHT * affinity(job category)
+ * A request is a profile lookup and one pass over the live rows into a bounded min-heap.
+ * Weights use the idf of the moment they are computed and are not re-weighted as jobs come and go.
+ *
+ * Thread-safety: requests share a read lock, updates take the write lock.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobRecommender {
+
+    private static final float SAVED_JOB_WEIGHT = 0.5f;
+    private static final float CATEGORY_WEIGHT = 0.3f;
+    private static final int BUILD_BATCH_SIZE = 500;
+    private static final int MIN_COMPACTION_GARBAGE = 1024;
+
+    private static final Profile EMPTY_PROFILE =
+            new Profile(new int[0], new float[0], new int[0], new float[0], new long[0]);
+
+    private final JobRepository jobRepository;
+    private final CandidateRepository candidateRepository;
+    private final SavedJobRepository savedJobRepository;
+    private final ApplicationRepository applicationRepository;
+    private final JobMapper jobMapper;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    // Document frequency per term id, over live job rows
+    private int[] df = new int[1024];
+
+    // Job rows, indexed by row id
+    private JobSummaryResponse[] rowJobs = new JobSummaryResponse[1024];
+    private int[][] rowTerms = new int[1024][];
+    private float[][] rowWeights = new float[1024][];
+    private final BitSet live = new BitSet();
+    private int maxRow;
+    private int liveCount;
+    private final Map<Long, Integer> rowByJobId = new HashMap<>();
+    // Job ids changed by live updates while build() loads jobs, null otherwise
+    private Set<Long> touchedDuringBuild;
+
+    private final Map<Long, Profile> profiles = new HashMap<>();
+
+    /**
+     * Load ACTIVE jobs, then every candidate profile, once the application is ready
+     * Both are read in keyset-paginated batches so startup heap stays bounded
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        lock.writeLock().lock();
+        try {
+            touchedDuringBuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        KeysetCursor after = KeysetCursor.START;
+        try {
+            while (true) {
+                List<Job> batch = jobRepository.findPageByStatus(
+                        JobStatus.ACTIVE, after.time(), after.id(), Limit.of(BUILD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                lock.writeLock().lock();
+                try {
+                    for (Job job : batch) {
+                        // A live update or removal since the snapshot was read is newer: keep it
+                        if (!touchedDuringBuild.contains(job.getJobId())) {
+                            upsert(jobMapper.toResponse(job));
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                Job last = batch.get(batch.size() - 1);
+                after = new KeysetCursor(last.getCreatedAt(), last.getJobId());
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                touchedDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        long afterCandidate = 0;
+        int candidates = 0;
+        while (true) {
+            List<SkillText> batch = candidateRepository.findProfileTextPage(afterCandidate, Limit.of(BUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            // Profiles refreshed since startup are newer than this snapshot
+            loadProfiles(batch, false);
+            candidates += batch.size();
+            afterCandidate = batch.get(batch.size() - 1).id();
+        }
+        log.info("Job recommender built: {} active jobs, {} candidate profiles, {} terms",
+                liveCount, candidates, termIds.size());
+    }
+
+    /**
+     * Add or refresh a job; jobs that are no longer ACTIVE are removed
+     */
+    public void index(JobResponse job) {
+        indexAll(List.of(job));
+    }
+
+    /**
+     * Add or refresh several jobs under one write lock (see index)
+     */
+    public void indexAll(Collection<JobResponse> jobs) {
+        lock.writeLock().lock();
+        try {
+            for (JobResponse job : jobs) {
+                touch(job.getJobId());
+                if (job.getJobStatus() == JobStatus.ACTIVE) {
+                    upsert(job);
+                } else {
+                    delete(job.getJobId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a job from the recommendations
+     */
+    public void remove(Long jobId) {
+        removeAll(List.of(jobId));
+    }
+
+    /**
+     * Remove several jobs under one write lock
+     */
+    public void removeAll(Collection<Long> jobIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long jobId : jobIds) {
+                touch(jobId);
+                delete(jobId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild a candidate's profile from their skills, experience, saved jobs and applications
+     */
+    public void refreshCandidate(Long candidateId) {
+        List<SkillText> texts = candidateRepository.findProfileTextByCandidateIdIn(List.of(candidateId));
+        if (texts.isEmpty()) {
+            lock.writeLock().lock();
+            try {
+                profiles.remove(candidateId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+        loadProfiles(texts, true);
+    }
+
+    /**
+     * Best matching ACTIVE jobs for a candidate, best first
+     * Jobs the candidate applied to and jobs without any match are left out.
+     */
+    public List<JobSummaryResponse> recommend(Long candidateId, int size) {
+        lock.readLock().lock();
+        try {
+            Profile profile = profiles.get(candidateId);
+            if (profile != null) {
+                return topJobs(profile, size);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        refreshCandidate(candidateId);
+        lock.readLock().lock();
+        try {
+            return topJobs(profiles.getOrDefault(candidateId, EMPTY_PROFILE), size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of jobs that can be recommended
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Scoring (caller holds the read lock)
+    // ------------------------------------------------------------------
+
+    private List<JobSummaryResponse> topJobs(Profile profile, int size) {
+        TopRows top = new TopRows(size);
+        for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+            JobSummaryResponse job = rowJobs[row];
+            if (Arrays.binarySearch(profile.appliedJobIds, job.getJobId()) >= 0) {
+                continue;
+            }
+            float score = dot(profile.terms, profile.weights, rowTerms[row], rowWeights[row])
+                    + CATEGORY_WEIGHT * profile.affinity(job.getJcId());
+            if (score > 0) {
+                top.offer(row, job.getJobId(), score);
+            }
+        }
+        return top.sortedDescending().stream().map(hit -> rowJobs[hit.row()]).toList();
+    }
+
+    /**
+     * Dot product of two sparse vectors (merge of the sorted term ids)
+     */
+    private static float dot(int[] termsA, float[] weightsA, int[] termsB, float[] weightsB) {
+        float dot = 0f;
+        int a = 0;
+        int b = 0;
+        while (a < termsA.length && b < termsB.length) {
+            if (termsA[a] < termsB[b]) {
+                a++;
+            } else if (termsA[a] > termsB[b]) {
+                b++;
+            } else {
+                dot += weightsA[a++] * weightsB[b++];
+            }
+        }
+        return dot;
+    }
+
+    private float idf(int term) {
+        return (float) (Math.log((liveCount + 1.0) / (df[term] + 1.0)) + 1);
+    }
+
+    // ------------------------------------------------------------------
+    // Job rows (caller holds the write lock)
+    // ------------------------------------------------------------------
+
+    private void upsert(JobResponse job) {
+        Integer existing = rowByJobId.get(job.getJobId());
+        if (existing != null) {
+            JobSummaryResponse current = rowJobs[existing];
+            // Ignore snapshots older than what is already indexed (startup build racing live updates)
+            if (current.getUpdatedAt() != null && job.getUpdatedAt() != null
+                    && job.getUpdatedAt().isBefore(current.getUpdatedAt())) {
+                return;
+            }
+            tombstone(existing);
+        }
+
+        Map<Integer, Integer> counts = termCounts(
+                job.getJobTitle(), job.getJobTitle(), job.getJobRequirement(), job.getJobDescription());
+        int row = maxRow++;
+        ensureCapacity(row + 1);
+        int[] terms = sortedKeys(counts);
+        for (int term : terms) {
+            df[term]++;
+        }
+        liveCount++;
+        float[] weights = new float[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            weights[i] = (float) (1 + Math.log(counts.get(terms[i]))) * idf(terms[i]);
+        }
+        normalize(weights);
+
+        rowJobs[row] = jobMapper.toSummary(job);
+        rowTerms[row] = terms;
+        rowWeights[row] = weights;
+        live.set(row);
+        rowByJobId.put(job.getJobId(), row);
+        if (existing != null) {
+            // Updates leave a tombstone too
+            compactIfNeeded();
+        }
+    }
+
+    private void delete(Long jobId) {
+        Integer row = rowByJobId.remove(jobId);
+        if (row != null) {
+            tombstone(row);
+            compactIfNeeded();
+        }
+    }
+
+    private void touch(Long jobId) {
+        if (touchedDuringBuild != null) {
+            touchedDuringBuild.add(jobId);
+        }
+    }
+
+    private void tombstone(int row) {
+        live.clear(row);
+        liveCount--;
+        for (int term : rowTerms[row]) {
+            df[term]--;
+        }
+        rowJobs[row] = null;
+        rowTerms[row] = null;
+        rowWeights[row] = null;
+    }
+
+    /**
+     * Renumber live rows densely once tombstones dominate
+     */
+    private void compactIfNeeded() {
+        int garbage = maxRow - liveCount;
+        if (garbage < MIN_COMPACTION_GARBAGE || garbage < liveCount) {
+            return;
+        }
+        int capacity = Math.max(1024, liveCount * 2);
+        JobSummaryResponse[] newJobs = new JobSummaryResponse[capacity];
+        int[][] newTerms = new int[capacity][];
+        float[][] newWeights = new float[capacity][];
+        int next = 0;
+        for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+            newJobs[next] = rowJobs[row];
+            newTerms[next] = rowTerms[row];
+            newWeights[next] = rowWeights[row];
+            rowByJobId.put(rowJobs[row].getJobId(), next);
+            next++;
+        }
+        rowJobs = newJobs;
+        rowTerms = newTerms;
+        rowWeights = newWeights;
+        live.clear();
+        live.set(0, next);
+        maxRow = next;
+        log.debug("Job recommender compacted: {} live jobs", liveCount);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > rowJobs.length) {
+            int newLength = Math.max(capacity, rowJobs.length * 2);
+            rowJobs = Arrays.copyOf(rowJobs, newLength);
+            rowTerms = Arrays.copyOf(rowTerms, newLength);
+            rowWeights = Arrays.copyOf(rowWeights, newLength);
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Candidate profiles
+    // ------------------------------------------------------------------
+
+    /**
+     * Build and store the profiles of a batch of candidates
+     *
+     * @param replace false keeps profiles already present (newer than a startup snapshot)
+     */
+    private void loadProfiles(List<SkillText> texts, boolean replace) {
+        List<Long> candidateIds = texts.stream().map(SkillText::id).toList();
+        Map<Long, List<CandidateJobLink>> saved = savedJobRepository.findJobLinksByCandidateIdIn(candidateIds)
+                .stream().collect(Collectors.groupingBy(CandidateJobLink::candidateId));
+        Map<Long, List<CandidateJobLink>> applied = applicationRepository.findJobLinksByCandidateIdIn(candidateIds)
+                .stream().collect(Collectors.groupingBy(CandidateJobLink::candidateId));
+
+        lock.writeLock().lock();
+        try {
+            for (SkillText text : texts) {
+                if (replace || !profiles.containsKey(text.id())) {
+                    profiles.put(text.id(), toProfile(text.text(),
+                            saved.getOrDefault(text.id(), List.of()),
+                            applied.getOrDefault(text.id(), List.of())));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Profile toProfile(String text, List<CandidateJobLink> saved, List<CandidateJobLink> applied) {
+        // Interest: own text (unit length), plus each saved job row scaled down
+        Map<Integer, Integer> counts = termCounts(text);
+        int[] ownTerms = sortedKeys(counts);
+        float[] ownWeights = new float[ownTerms.length];
+        for (int i = 0; i < ownTerms.length; i++) {
+            ownWeights[i] = (float) (1 + Math.log(counts.get(ownTerms[i]))) * idf(ownTerms[i]);
+        }
+        normalize(ownWeights);
+
+        Map<Integer, Float> interest = new HashMap<>();
+        for (int i = 0; i < ownTerms.length; i++) {
+            interest.put(ownTerms[i], ownWeights[i]);
+        }
+        for (CandidateJobLink link : saved) {
+            Integer row = rowByJobId.get(link.jobId());
+            if (row != null) {
+                for (int i = 0; i < rowTerms[row].length; i++) {
+                    interest.merge(rowTerms[row][i], SAVED_JOB_WEIGHT * rowWeights[row][i], Float::sum);
+                }
+            }
+        }
+        int[] terms = interest.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        float[] weights = new float[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            weights[i] = interest.get(terms[i]);
+        }
+        normalize(weights);
+
+        // Category affinity: share of applications per category
+        Map<Integer, Long> perCategory = applied.stream()
+                .filter(link -> link.jcId() != null)
+                .collect(Collectors.groupingBy(CandidateJobLink::jcId, Collectors.counting()));
+        int[] categories = perCategory.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        float[] affinity = new float[categories.length];
+        for (int i = 0; i < categories.length; i++) {
+            affinity[i] = (float) perCategory.get(categories[i]) / applied.size();
+        }
+
+        long[] appliedJobIds = applied.stream().mapToLong(CandidateJobLink::jobId).sorted().toArray();
+        return new Profile(terms, weights, categories, affinity, appliedJobIds);
+    }
+
+    // ------------------------------------------------------------------
+    // Helpers (caller holds the write lock: new terms get ids)
+    // ------------------------------------------------------------------
+
+    private Map<Integer, Integer> termCounts(String... texts) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (String text : texts) {
+            VietnameseAnalyzer.analyze(text, term -> counts.merge(termId(term), 1, Integer::sum));
+        }
+        return counts;
+    }
+
+    private int termId(String term) {
+        Integer id = termIds.get(term);
+        if (id == null) {
+            id = termIds.size();
+            termIds.put(term, id);
+            if (id >= df.length) {
+                df = Arrays.copyOf(df, df.length * 2);
+            }
+        }
+        return id;
+    }
+
+    private static int[] sortedKeys(Map<Integer, Integer> counts) {
+        return counts.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    private static void normalize(float[] weights) {
+        double norm = 0;
+        for (float weight : weights) {
+            norm += weight * weight;
+        }
+        if (norm > 0) {
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] *= scale;
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Data structures
+    // ------------------------------------------------------------------
+
+    /**
+     * Precomputed candidate profile
+     * terms/weights: unit interest vector; categories/affinity: parallel, categories ascending;
+     * appliedJobIds ascending
+     */
+    private record Profile(int[] terms, float[] weights, int[] categories, float[] affinity, long[] appliedJobIds) {
+
+        float affinity(Integer jcId) {
+            if (jcId == null) {
+                return 0f;
+            }
+            int index = Arrays.binarySearch(categories, jcId);
+            return index >= 0 ? affinity[index] : 0f;
+        }
+    }
+
+    private record Hit(int row, long jobId, float score) {
+    }
+
+    /**
+     * Bounded min-heap keeping the best rows; ties go to the newer (higher id) job
+     */
+    private static final class TopRows {
+        private static final Comparator<Hit> ASCENDING =
+                Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::jobId);
+
+        private final int capacity;
+        private final PriorityQueue<Hit> heap;
+
+        TopRows(int capacity) {
+            this.capacity = capacity;
+            this.heap = new PriorityQueue<>(capacity, ASCENDING);
+        }
+
+        void offer(int row, long jobId, float score) {
+            if (heap.size() < capacity) {
+                heap.add(new Hit(row, jobId, score));
+                return;
+            }
+            Hit worst = heap.peek();
+            if (score > worst.score() || (score == worst.score() && jobId > worst.jobId())) {
+                heap.poll();
+                heap.add(new Hit(row, jobId, score));
+            }
+        }
+
+        List<Hit> sortedDescending() {
+            List<Hit> hits = new ArrayList<>(heap);
+            hits.sort(ASCENDING.reversed());
+            return hits;
+        }
+    }
+}
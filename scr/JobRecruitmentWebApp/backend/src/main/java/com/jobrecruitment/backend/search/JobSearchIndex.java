@@ -0,0 +1,533 @@
+package com.jobrecruitment.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.jobrecruitment.backend.dtos.response.CursorPage;
+import com.jobrecruitment.backend.dtos.response.JobResponse;
+import com.jobrecruitment.backend.dtos.response.JobSummaryResponse;
+import com.jobrecruitment.backend.entities.Job;
+import com.jobrecruitment.backend.enums.JobStatus;
+import com.jobrecruitment.backend.mappers.JobMapper;
+import com.jobrecruitment.backend.repositories.JobRepository;
+import com.jobrecruitment.backend.utils.KeysetCursor;
+import com.jobrecruitment.backend.utils.RankCursor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory inverted index over ACTIVE jobs
+ * Serves public job search without touching the database.
+ *
+ * - Built at startup from JobRepository, then updated incrementally by JobServiceImpl after commit
+ *   (JobChangeSubscriber for changes made on other nodes)
+ * - Indexes the full job text but keeps only the JobSummaryResponse it returns
+ * - Postings are primitive int arrays (doc ids ascending + term frequencies)
+ * - Text analyzed by VietnameseAnalyzer: "ke toan" matches "Kế toán"
+ * - Ranking: BM25 (k1 = 1.2, b = 0.75); title terms count twice
+ * - Removed/replaced documents are tombstoned; once they outnumber live ones, doc ids
+ *   are renumbered in place (no re-analysis, the text is no longer held)
+ * - Jobs updated or removed while the startup build runs keep their live state:
+ *   the build skips them instead of re-inserting its older snapshot
+ *
+ * Thread-safety: queries share a read lock, updates take the write lock.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int BUILD_BATCH_SIZE = 500;
+    private static final int MIN_COMPACTION_GARBAGE = 1024;
+
+    private final JobRepository jobRepository;
+    private final JobMapper jobMapper;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Per-document state, indexed by internal doc id
+    private JobSummaryResponse[] docs = new JobSummaryResponse[1024];
+    private int[] docLengths = new int[1024];
+    // Posting lists containing each doc, to update document frequencies on removal
+    private PostingList[][] docTerms = new PostingList[1024][];
+    private final BitSet live = new BitSet();
+    private int maxDoc;
+    private int liveCount;
+    private long liveLength;
+
+    private final Map<Long, Integer> docByJobId = new HashMap<>();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    // Job ids changed by live updates while build() runs, null otherwise
+    private Set<Long> touchedDuringBuild;
+
+    /**
+     * Load all ACTIVE jobs once the application is ready
+     * Reads in keyset-paginated batches so startup heap stays bounded
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        lock.writeLock().lock();
+        try {
+            touchedDuringBuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        KeysetCursor after = KeysetCursor.START;
+        try {
+            while (true) {
+                List<Job> batch = jobRepository.findPageByStatus(
+                        JobStatus.ACTIVE, after.time(), after.id(), Limit.of(BUILD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                lock.writeLock().lock();
+                try {
+                    for (Job job : batch) {
+                        // A live update or removal since the snapshot was read is newer: keep it
+                        if (!touchedDuringBuild.contains(job.getJobId())) {
+                            upsert(jobMapper.toResponse(job));
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                Job last = batch.get(batch.size() - 1);
+                after = new KeysetCursor(last.getCreatedAt(), last.getJobId());
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                touchedDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Job search index built: {} active jobs, {} terms", size(), postings.size());
+    }
+
+    /**
+     * Add or refresh a job; jobs that are no longer ACTIVE are removed
+     */
+    public void index(JobResponse job) {
+        indexAll(List.of(job));
+    }
+
+    /**
+     * Remove a job from the index
+     */
+    public void remove(Long jobId) {
+        removeAll(List.of(jobId));
+    }
+
+    /**
+     * Add or refresh several jobs under one write lock (see index)
+     */
+    public void indexAll(Collection<JobResponse> jobs) {
+        lock.writeLock().lock();
+        try {
+            for (JobResponse job : jobs) {
+                touch(job.getJobId());
+                if (job.getJobStatus() == JobStatus.ACTIVE) {
+                    upsert(job);
+                } else {
+                    delete(job.getJobId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove several jobs under one write lock
+     */
+    public void removeAll(Collection<Long> jobIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long jobId : jobIds) {
+                touch(jobId);
+                delete(jobId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Search ACTIVE jobs
+     * Results ordered by BM25 score, keyset-paginated on (score, jobId)
+     *
+     * @param query Free-text query
+     * @param operator AND: all terms required, OR: any term
+     * @param after Cursor of the previous page's last hit
+     * @param size Page size
+     */
+    public CursorPage<JobSummaryResponse> search(String query, SearchOperator operator, RankCursor after, int size) {
+        Set<String> terms = new LinkedHashSet<>();
+        tokenize(query, terms::add);
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list != null && list.liveDf > 0) {
+                    lists.add(list);
+                } else if (operator == SearchOperator.AND) {
+                    return new CursorPage<>(List.of(), null);
+                }
+            }
+            if (lists.isEmpty()) {
+                return new CursorPage<>(List.of(), null);
+            }
+
+            TopHits top = new TopHits(size + 1, after);
+            if (operator == SearchOperator.AND) {
+                collectConjunction(lists, top);
+            } else {
+                collectDisjunction(lists, top);
+            }
+
+            List<Hit> hits = top.sortedDescending();
+            return CursorPage.of(hits, size, hit -> new RankCursor(hit.score(), hit.jobId()).encode())
+                    .map(hit -> docs[hit.doc()]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of live (searchable) jobs
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Query evaluation
+    // ------------------------------------------------------------------
+
+    /**
+     * AND: walk the shortest posting list and leapfrog the others to each candidate
+     */
+    private void collectConjunction(List<PostingList> lists, TopHits top) {
+        lists.sort(Comparator.comparingInt(list -> list.size));
+        int[] positions = new int[lists.size()];
+        PostingList lead = lists.get(0);
+
+        candidates:
+        for (int i = 0; i < lead.size; i++) {
+            int doc = lead.docs[i];
+            if (!live.get(doc)) {
+                continue;
+            }
+            float score = termScore(lead, lead.freqs[i], doc);
+            for (int t = 1; t < lists.size(); t++) {
+                PostingList list = lists.get(t);
+                int pos = advance(list, positions[t], doc);
+                positions[t] = pos;
+                if (pos == list.size) {
+                    return;
+                }
+                if (list.docs[pos] != doc) {
+                    continue candidates;
+                }
+                score += termScore(list, list.freqs[pos], doc);
+            }
+            top.offer(doc, docs[doc].getJobId(), score);
+        }
+    }
+
+    /**
+     * OR: document-at-a-time merge of all posting lists
+     */
+    private void collectDisjunction(List<PostingList> lists, TopHits top) {
+        int[] positions = new int[lists.size()];
+        while (true) {
+            int doc = Integer.MAX_VALUE;
+            for (int t = 0; t < lists.size(); t++) {
+                PostingList list = lists.get(t);
+                if (positions[t] < list.size) {
+                    doc = Math.min(doc, list.docs[positions[t]]);
+                }
+            }
+            if (doc == Integer.MAX_VALUE) {
+                return;
+            }
+            float score = 0f;
+            for (int t = 0; t < lists.size(); t++) {
+                PostingList list = lists.get(t);
+                int pos = positions[t];
+                if (pos < list.size && list.docs[pos] == doc) {
+                    score += termScore(list, list.freqs[pos], doc);
+                    positions[t] = pos + 1;
+                }
+            }
+            if (live.get(doc)) {
+                top.offer(doc, docs[doc].getJobId(), score);
+            }
+        }
+    }
+
+    /**
+     * First position >= from whose doc id is >= target (galloping + binary search)
+     */
+    private static int advance(PostingList list, int from, int target) {
+        if (from >= list.size) {
+            return list.size;
+        }
+        int bound = 1;
+        int low = from;
+        while (low + bound < list.size && list.docs[low + bound] < target) {
+            low += bound;
+            bound <<= 1;
+        }
+        int index = Arrays.binarySearch(list.docs, low, Math.min(low + bound + 1, list.size), target);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private float termScore(PostingList list, int freq, int doc) {
+        float idf = (float) Math.log(1 + (liveCount - list.liveDf + 0.5) / (list.liveDf + 0.5));
+        float avgLength = liveCount == 0 ? 1f : (float) liveLength / liveCount;
+        float norm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+        return idf * (freq * (K1 + 1)) / (freq + norm);
+    }
+
+    // ------------------------------------------------------------------
+    // Index maintenance (caller holds the write lock)
+    // ------------------------------------------------------------------
+
+    private void upsert(JobResponse job) {
+        Integer existing = docByJobId.get(job.getJobId());
+        if (existing != null) {
+            JobSummaryResponse current = docs[existing];
+            // Ignore snapshots older than what is already indexed (startup build racing live updates)
+            if (current.getUpdatedAt() != null && job.getUpdatedAt() != null
+                    && job.getUpdatedAt().isBefore(current.getUpdatedAt())) {
+                return;
+            }
+            tombstone(existing);
+        }
+
+        Map<String, Integer> freqs = new HashMap<>();
+        Consumer<String> counter = term -> freqs.merge(term, 1, Integer::sum);
+        tokenize(job.getJobTitle(), counter);
+        tokenize(job.getJobTitle(), counter);
+        tokenize(job.getJobRequirement(), counter);
+        tokenize(job.getJobDescription(), counter);
+        tokenize(job.getJobLocation(), counter);
+        tokenize(job.getCompanyName(), counter);
+        tokenize(job.getJcName(), counter);
+
+        int doc = maxDoc++;
+        ensureCapacity(doc + 1);
+        int length = 0;
+        PostingList[] terms = new PostingList[freqs.size()];
+        int t = 0;
+        for (Map.Entry<String, Integer> entry : freqs.entrySet()) {
+            PostingList list = postings.computeIfAbsent(entry.getKey(), term -> new PostingList());
+            list.add(doc, entry.getValue());
+            terms[t++] = list;
+            length += entry.getValue();
+        }
+        docs[doc] = jobMapper.toSummary(job);
+        docLengths[doc] = length;
+        docTerms[doc] = terms;
+        live.set(doc);
+        liveCount++;
+        liveLength += length;
+        docByJobId.put(job.getJobId(), doc);
+        if (existing != null) {
+            // Updates leave a tombstone too
+            compactIfNeeded();
+        }
+    }
+
+    private void delete(Long jobId) {
+        Integer doc = docByJobId.remove(jobId);
+        if (doc != null) {
+            tombstone(doc);
+            compactIfNeeded();
+        }
+    }
+
+    private void touch(Long jobId) {
+        if (touchedDuringBuild != null) {
+            touchedDuringBuild.add(jobId);
+        }
+    }
+
+    private void tombstone(int doc) {
+        live.clear(doc);
+        liveCount--;
+        liveLength -= docLengths[doc];
+        for (PostingList list : docTerms[doc]) {
+            list.liveDf--;
+        }
+        docs[doc] = null;
+        docTerms[doc] = null;
+    }
+
+    /**
+     * Renumber live documents densely once tombstones dominate
+     * The mapping preserves order, so postings stay sorted without re-sorting.
+     */
+    private void compactIfNeeded() {
+        int garbage = maxDoc - liveCount;
+        if (garbage < MIN_COMPACTION_GARBAGE || garbage < liveCount) {
+            return;
+        }
+        int[] remap = new int[maxDoc];
+        int next = 0;
+        for (int doc = 0; doc < maxDoc; doc++) {
+            remap[doc] = live.get(doc) ? next++ : -1;
+        }
+        postings.values().removeIf(list -> list.compact(remap) == 0);
+
+        int capacity = Math.max(1024, next * 2);
+        JobSummaryResponse[] newDocs = new JobSummaryResponse[capacity];
+        int[] newLengths = new int[capacity];
+        PostingList[][] newTerms = new PostingList[capacity][];
+        for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+            newDocs[remap[doc]] = docs[doc];
+            newLengths[remap[doc]] = docLengths[doc];
+            newTerms[remap[doc]] = docTerms[doc];
+        }
+        docs = newDocs;
+        docLengths = newLengths;
+        docTerms = newTerms;
+        live.clear();
+        live.set(0, next);
+        maxDoc = next;
+        docByJobId.replaceAll((jobId, doc) -> remap[doc]);
+        log.debug("Job search index compacted: {} live jobs", liveCount);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > docs.length) {
+            int newLength = Math.max(capacity, docs.length * 2);
+            docs = Arrays.copyOf(docs, newLength);
+            docLengths = Arrays.copyOf(docLengths, newLength);
+            docTerms = Arrays.copyOf(docTerms, newLength);
+        }
+    }
+
+    /**
+     * Index and query text go through the same analyzer (diacritic folding, syllable tokens)
+     */
+    private static void tokenize(String text, Consumer<String> sink) {
+        VietnameseAnalyzer.analyze(text, sink);
+    }
+
+    // ------------------------------------------------------------------
+    // Data structures
+    // ------------------------------------------------------------------
+
+    /**
+     * Postings of one term: doc ids (ascending) with parallel term frequencies
+     * liveDf counts only documents that are not tombstoned
+     */
+    private static final class PostingList {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+        private int liveDf;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+            liveDf++;
+        }
+
+        /**
+         * Keep only docs with remap >= 0, renumbered; returns the new size
+         */
+        int compact(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return kept;
+        }
+    }
+
+    private record Hit(int doc, long jobId, float score) {
+    }
+
+    /**
+     * Bounded min-heap keeping the best hits strictly after the cursor
+     */
+    private static final class TopHits {
+        private static final Comparator<Hit> ASCENDING =
+                Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::jobId);
+
+        private final int capacity;
+        private final RankCursor after;
+        private final PriorityQueue<Hit> heap;
+
+        TopHits(int capacity, RankCursor after) {
+            this.capacity = capacity;
+            this.after = after;
+            this.heap = new PriorityQueue<>(capacity, ASCENDING);
+        }
+
+        void offer(int doc, long jobId, float score) {
+            // Keyset: only hits ranked strictly below the previous page's last hit
+            if (score > after.rank() || (score == after.rank() && jobId >= after.id())) {
+                return;
+            }
+            if (heap.size() < capacity) {
+                heap.add(new Hit(doc, jobId, score));
+                return;
+            }
+            Hit worst = heap.peek();
+            if (score > worst.score() || (score == worst.score() && jobId > worst.jobId())) {
+                heap.poll();
+                heap.add(new Hit(doc, jobId, score));
+            }
+        }
+
+        List<Hit> sortedDescending() {
+            List<Hit> hits = new ArrayList<>(heap);
+            hits.sort(ASCENDING.reversed());
+            return hits;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.jobrecruitment.backend.search;
+
+/**
+ * How query terms are combined
+ * AND: every term must match, OR: any term may match
+ */
+public enum SearchOperator {
+    AND,
+    OR
+}
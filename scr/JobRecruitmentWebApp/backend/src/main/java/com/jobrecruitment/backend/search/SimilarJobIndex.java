@@ -0,0 +1,447 @@
+package com.jobrecruitment.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.jobrecruitment.backend.dtos.response.JobResponse;
+import com.jobrecruitment.backend.dtos.response.JobSummaryResponse;
+import com.jobrecruitment.backend.entities.Job;
+import com.jobrecruitment.backend.enums.JobStatus;
+import com.jobrecruitment.backend.mappers.JobMapper;
+import com.jobrecruitment.backend.repositories.JobRepository;
+import com.jobrecruitment.backend.utils.KeysetCursor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Near-duplicate / similar job lookup (GET /api/jobs/{jobId}/similar) via MinHash + LSH
+ *
+ * Shingles: folded syllable bigrams of title, description and requirement (within each field),
+ * plus the title syllables on their own. Each shingle is hashed once to 64 bits.
+ *
+ * Signature: NUM_HASHES minimums, hash i being the 64-bit hash xor a fixed seed, re-mixed.
+ * The share of equal positions between two signatures estimates their Jaccard similarity.
+ * Seeds are constant, so every node computes the same signatures.
+ *
+ * LSH: the signature is cut into BANDS bands of ROWS_PER_BAND values; jobs sharing any band
+ * land in the same bucket. With 32 x 4 a pair at Jaccard 0.5 collides with ~87% probability,
+ * at 0.2 with ~5%. A lookup only scores the jobs in its own buckets, then keeps the best
+ * (estimated similarity >= MIN_SIMILARITY) in a bounded heap.
+ *
+ * Only ACTIVE jobs are indexed, kept in step with JobSearchIndex.
+ * Thread-safety: lookups share a read lock, updates take the write lock.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SimilarJobIndex {
+
+    private static final int BANDS = 32;
+    private static final int ROWS_PER_BAND = 4;
+    private static final int NUM_HASHES = BANDS * ROWS_PER_BAND;
+    private static final float MIN_SIMILARITY = 0.2f;
+    private static final int BUILD_BATCH_SIZE = 500;
+
+    private static final long[] SEEDS = new SplittableRandom(0x5EEDL).longs(NUM_HASHES).toArray();
+
+    private final JobRepository jobRepository;
+    private final JobMapper jobMapper;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    // Band key -> ids of the jobs in that bucket
+    private final Map<Long, Set<Long>> buckets = new HashMap<>();
+    // Job ids changed by live updates while build() runs, null otherwise
+    private Set<Long> touchedDuringBuild;
+
+    /**
+     * Load every ACTIVE job once the application is ready
+     * Read in keyset-paginated batches so startup heap stays bounded
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        lock.writeLock().lock();
+        try {
+            touchedDuringBuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        KeysetCursor after = KeysetCursor.START;
+        try {
+            while (true) {
+                List<Job> batch = jobRepository.findPageByStatus(
+                        JobStatus.ACTIVE, after.time(), after.id(), Limit.of(BUILD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                List<Entry> loaded = batch.stream()
+                        .map(jobMapper::toResponse)
+                        .map(job -> new Entry(jobMapper.toSummary(job), signature(job)))
+                        .toList();
+                lock.writeLock().lock();
+                try {
+                    for (Entry entry : loaded) {
+                        // A live update or removal since the snapshot was read is newer: keep it
+                        if (!touchedDuringBuild.contains(entry.job().getJobId())) {
+                            delete(entry.job().getJobId());
+                            insert(entry);
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                Job last = batch.get(batch.size() - 1);
+                after = new KeysetCursor(last.getCreatedAt(), last.getJobId());
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                touchedDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Similar job index built: {} active jobs, {} buckets", size(), bucketCount());
+    }
+
+    /**
+     * Add or refresh a job; jobs that are no longer ACTIVE are removed
+     */
+    public void index(JobResponse job) {
+        indexAll(List.of(job));
+    }
+
+    /**
+     * Add or refresh several jobs; signatures are computed before taking the write lock
+     */
+    public void indexAll(Collection<JobResponse> jobs) {
+        List<Entry> added = new ArrayList<>(jobs.size());
+        List<Long> removed = new ArrayList<>();
+        for (JobResponse job : jobs) {
+            if (job.getJobStatus() == JobStatus.ACTIVE) {
+                added.add(new Entry(jobMapper.toSummary(job), signature(job)));
+            } else {
+                removed.add(job.getJobId());
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Entry entry : added) {
+                touch(entry.job().getJobId());
+                Entry current = entries.get(entry.job().getJobId());
+                // Ignore snapshots older than what is already indexed (startup build racing live updates)
+                if (current != null && current.job().getUpdatedAt() != null && entry.job().getUpdatedAt() != null
+                        && entry.job().getUpdatedAt().isBefore(current.job().getUpdatedAt())) {
+                    continue;
+                }
+                delete(entry.job().getJobId());
+                insert(entry);
+            }
+            for (Long jobId : removed) {
+                touch(jobId);
+                delete(jobId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a job from the index
+     */
+    public void remove(Long jobId) {
+        removeAll(List.of(jobId));
+    }
+
+    /**
+     * Remove several jobs under one write lock
+     */
+    public void removeAll(Collection<Long> jobIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long jobId : jobIds) {
+                touch(jobId);
+                delete(jobId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ACTIVE jobs most similar to an indexed job, most similar first
+     *
+     * @return empty when the job is not indexed (not ACTIVE): use similarTo with the job itself
+     */
+    public Optional<List<JobSummaryResponse>> similar(Long jobId, int size) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(jobId);
+            return entry == null ? Optional.empty() : Optional.of(neighbors(jobId, entry.signature(), size));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ACTIVE jobs most similar to the given job, most similar first (the job itself excluded)
+     */
+    public List<JobSummaryResponse> similarTo(JobResponse job, int size) {
+        int[] signature = signature(job);
+        lock.readLock().lock();
+        try {
+            return neighbors(job.getJobId(), signature, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed jobs
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int bucketCount() {
+        lock.readLock().lock();
+        try {
+            return buckets.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Lookup (caller holds the read lock)
+    // ------------------------------------------------------------------
+
+    private List<JobSummaryResponse> neighbors(Long jobId, int[] signature, int size) {
+        if (signature == null) {
+            return List.of();
+        }
+        TopJobs top = new TopJobs(size);
+        Set<Long> seen = new HashSet<>();
+        for (long key : bandKeys(signature)) {
+            Set<Long> bucket = buckets.get(key);
+            if (bucket == null) {
+                continue;
+            }
+            for (Long candidateId : bucket) {
+                if (candidateId.equals(jobId) || !seen.add(candidateId)) {
+                    continue;
+                }
+                Entry candidate = entries.get(candidateId);
+                float similarity = estimate(signature, candidate.signature());
+                if (similarity >= MIN_SIMILARITY) {
+                    top.offer(candidate.job(), similarity);
+                }
+            }
+        }
+        return top.sortedDescending();
+    }
+
+    private static float estimate(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (float) equal / NUM_HASHES;
+    }
+
+    // ------------------------------------------------------------------
+    // Buckets (caller holds the write lock)
+    // ------------------------------------------------------------------
+
+    private void insert(Entry entry) {
+        Long jobId = entry.job().getJobId();
+        entries.put(jobId, entry);
+        if (entry.signature() != null) {
+            for (long key : bandKeys(entry.signature())) {
+                buckets.computeIfAbsent(key, k -> new HashSet<>()).add(jobId);
+            }
+        }
+    }
+
+    private void touch(Long jobId) {
+        if (touchedDuringBuild != null) {
+            touchedDuringBuild.add(jobId);
+        }
+    }
+
+    private void delete(Long jobId) {
+        Entry entry = entries.remove(jobId);
+        if (entry == null || entry.signature() == null) {
+            return;
+        }
+        for (long key : bandKeys(entry.signature())) {
+            Set<Long> bucket = buckets.get(key);
+            if (bucket != null && bucket.remove(jobId) && bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // MinHash
+    // ------------------------------------------------------------------
+
+    /**
+     * MinHash signature of a job's text, or null when it has no tokens at all
+     */
+    private static int[] signature(JobResponse job) {
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        boolean[] any = new boolean[1];
+        ShingleSink sink = shingle -> {
+            any[0] = true;
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int hash = (int) (mix(shingle ^ SEEDS[i]) >>> 32);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        };
+        shingles(job.getJobTitle(), true, sink);
+        shingles(job.getJobDescription(), false, sink);
+        shingles(job.getJobRequirement(), false, sink);
+        return any[0] ? signature : null;
+    }
+
+    /**
+     * Emit the hashed syllable bigrams of a text (and its syllables when withUnigrams)
+     * A text of a single syllable emits that syllable.
+     */
+    private static void shingles(String text, boolean withUnigrams, ShingleSink sink) {
+        long[] previous = new long[1];
+        int[] count = new int[1];
+        VietnameseAnalyzer.analyze(text, (VietnameseAnalyzer.TokenSink) (buffer, length) -> {
+            long hash = hash(buffer, length);
+            if (withUnigrams) {
+                sink.accept(hash);
+            }
+            if (count[0]++ > 0) {
+                sink.accept(mix(previous[0] * 31 + hash));
+            }
+            previous[0] = hash;
+        });
+        if (count[0] == 1 && !withUnigrams) {
+            sink.accept(previous[0]);
+        }
+    }
+
+    /**
+     * Band keys of a signature: band index and its ROWS_PER_BAND values, mixed to 64 bits
+     */
+    private static long[] bandKeys(int[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = band;
+            for (int row = band * ROWS_PER_BAND; row < (band + 1) * ROWS_PER_BAND; row++) {
+                key = mix(key * 0x9E3779B97F4A7C15L + signature[row]);
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    /**
+     * FNV-1a over the token chars, finished with mix
+     */
+    private static long hash(char[] buffer, int length) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ buffer[i]) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * 64-bit finalizer (MurmurHash3 fmix64)
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB93FE1A85EC9L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    // ------------------------------------------------------------------
+    // Data structures
+    // ------------------------------------------------------------------
+
+    @FunctionalInterface
+    private interface ShingleSink {
+        void accept(long shingle);
+    }
+
+    /**
+     * Indexed job; signature is null for a job without any text
+     */
+    private record Entry(JobSummaryResponse job, int[] signature) {
+    }
+
+    private record Hit(JobSummaryResponse job, float similarity) {
+    }
+
+    /**
+     * Bounded min-heap keeping the most similar jobs; ties go to the newer (higher id) job
+     */
+    private static final class TopJobs {
+        private static final Comparator<Hit> ASCENDING = Comparator.comparingDouble(Hit::similarity)
+                .thenComparingLong(hit -> hit.job().getJobId());
+
+        private final int capacity;
+        private final PriorityQueue<Hit> heap;
+
+        TopJobs(int capacity) {
+            this.capacity = capacity;
+            this.heap = new PriorityQueue<>(capacity, ASCENDING);
+        }
+
+        void offer(JobSummaryResponse job, float similarity) {
+            Hit hit = new Hit(job, similarity);
+            if (heap.size() < capacity) {
+                heap.add(hit);
+            } else if (ASCENDING.compare(hit, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(hit);
+            }
+        }
+
+        List<JobSummaryResponse> sortedDescending() {
+            List<Hit> hits = new ArrayList<>(heap);
+            hits.sort(ASCENDING.reversed());
+            return hits.stream().map(Hit::job).toList();
+        }
+    }
+}
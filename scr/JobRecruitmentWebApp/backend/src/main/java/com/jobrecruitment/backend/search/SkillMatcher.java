@@ -0,0 +1,408 @@
+package com.jobrecruitment.backend.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobrecruitment.backend.dtos.response.JobResponse;
+import com.jobrecruitment.backend.repositories.CandidateRepository;
+import com.jobrecruitment.backend.repositories.JobRepository;
+import com.jobrecruitment.backend.repositories.projections.SkillText;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Skill match scores between candidates and jobs (ranks a job's applicants)
+ *
+ * - Candidate side: candidateSkills; job side: jobTitle + jobRequirement
+ * - Both analyzed by VietnameseAnalyzer into one shared term vocabulary
+ * - Vectors are sparse: term ids ascending with parallel 1 + ln(tf) weights, in primitive arrays
+ * - Weighting: TF-IDF with idf = ln((N + 1) / (df + 1)) + 1 over all candidates and jobs
+ * - Score: cosine similarity in [0, 1]; 0 when either side has no text
+ *
+ * A job's applicants are scored in parallel (fork-join) and the scores cached per
+ * (job, candidate); entries of a job or a candidate are dropped when its text changes.
+ * Cached scores do not follow idf drift caused by other documents.
+ *
+ * Built at startup, then updated by JobServiceImpl and AuthServiceImpl after commit, and by
+ * JobChangeSubscriber for jobs changed on other nodes.
+ * Thread-safety: updates take the write lock. Scoring snapshots what it needs under the
+ * read lock, computes without any lock and caches the result under the read lock again,
+ * only if no text changed in between; writers never wait for a scoring run.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkillMatcher {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+    // Candidates scored by one fork-join leaf task
+    private static final int PARALLEL_THRESHOLD = 512;
+    // Cached (job, candidate) scores across all jobs
+    private static final long MAX_CACHED_SCORES = 2_000_000;
+
+    private static final SkillVector EMPTY = new SkillVector(new int[0], new float[0]);
+
+    private final JobRepository jobRepository;
+    private final CandidateRepository candidateRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    // Document frequency per term id, over jobs and candidates
+    private int[] df = new int[1024];
+    private int docCount;
+    // Bumped by every text change; scores computed against an older version are not cached
+    private long version;
+
+    private final Map<Long, SkillVector> jobs = new HashMap<>();
+    private final Map<Long, SkillVector> candidates = new HashMap<>();
+
+    private final Cache<Long, JobScores> scoreCache = Caffeine.newBuilder()
+            .maximumWeight(MAX_CACHED_SCORES)
+            .weigher((Long jobId, JobScores scores) -> scores.candidateIds.length)
+            .build();
+
+    /**
+     * Load the text of all jobs and candidates once the application is ready
+     * Reads in id-ordered batches so startup heap stays bounded
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        int jobCount = load(jobRepository::findSkillTextPage, jobs);
+        int candidateCount = load(candidateRepository::findSkillTextPage, candidates);
+        log.info("Skill matcher built: {} jobs, {} candidates, {} terms", jobCount, candidateCount, termIds.size());
+    }
+
+    /**
+     * Add or refresh a job's text (title + requirement)
+     */
+    public void index(JobResponse job) {
+        Map<String, Integer> counts = analyze(job.getJobTitle(), job.getJobRequirement());
+        lock.writeLock().lock();
+        try {
+            put(jobs, job.getJobId(), counts);
+            scoreCache.invalidate(job.getJobId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add or refresh a candidate's skills
+     */
+    public void indexCandidate(Long candidateId, String skills) {
+        Map<String, Integer> counts = analyze(skills);
+        lock.writeLock().lock();
+        try {
+            put(candidates, candidateId, counts);
+            for (JobScores scores : scoreCache.asMap().values()) {
+                scores.forget(candidateId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Match scores of candidates for a job, in the order of candidateIds
+     * Cached scores are reused, the others computed in parallel and cached.
+     * Unknown jobs and candidates score 0.
+     *
+     * @param candidateIds Candidate ids in ascending order, without duplicates
+     */
+    public float[] scores(Long jobId, long[] candidateIds) {
+        float[] result = new float[candidateIds.length];
+        int[] missing = new int[candidateIds.length];
+        int missingCount = 0;
+        SkillVector[] vectors;
+        float[] jobWeights;
+        int[] jobTerms;
+        Idf idf;
+        long scoredVersion;
+        lock.readLock().lock();
+        try {
+            JobScores cached = scoreCache.getIfPresent(jobId);
+            for (int i = 0; i < candidateIds.length; i++) {
+                float score = cached != null ? cached.get(candidateIds[i]) : Float.NaN;
+                if (Float.isNaN(score)) {
+                    missing[missingCount++] = i;
+                } else {
+                    result[i] = score;
+                }
+            }
+            SkillVector job = jobs.get(jobId);
+            if (missingCount == 0 || job == null) {
+                return result;
+            }
+
+            vectors = new SkillVector[missingCount];
+            for (int m = 0; m < missingCount; m++) {
+                vectors[m] = candidates.getOrDefault(candidateIds[missing[m]], EMPTY);
+            }
+            // Vectors are immutable; df is copied so the scoring below needs no lock
+            idf = new Idf(Arrays.copyOf(df, termIds.size()), docCount);
+            jobWeights = weigh(job, idf);
+            jobTerms = job.terms;
+            scoredVersion = version;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        float[] computed = new float[missingCount];
+        ForkJoinPool.commonPool().invoke(new ScoreTask(idf, jobWeights, jobTerms, vectors, computed, 0, missingCount));
+        for (int m = 0; m < missingCount; m++) {
+            result[missing[m]] = computed[m];
+        }
+
+        lock.readLock().lock();
+        try {
+            // A text change since the snapshot may have dropped entries these scores would revive
+            if (version == scoredVersion) {
+                scoreCache.asMap().compute(jobId, (id, cached) -> JobScores.merge(cached, candidateIds, result));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    // ------------------------------------------------------------------
+    // Scoring (on an Idf snapshot, no lock held)
+    // ------------------------------------------------------------------
+
+    /**
+     * Unit-length TF-IDF weights of a vector, parallel to its terms
+     */
+    private static float[] weigh(SkillVector vector, Idf idf) {
+        float[] weights = new float[vector.terms.length];
+        double norm = 0;
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = vector.tf[i] * idf.of(vector.terms[i]);
+            norm += weights[i] * weights[i];
+        }
+        if (norm > 0) {
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] *= scale;
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * Cosine of a candidate vector with the unit job vector (merge of the sorted term ids)
+     */
+    private static float cosine(Idf idf, int[] jobTerms, float[] jobWeights, SkillVector candidate) {
+        double dot = 0;
+        double norm = 0;
+        int j = 0;
+        for (int c = 0; c < candidate.terms.length; c++) {
+            int term = candidate.terms[c];
+            float weight = candidate.tf[c] * idf.of(term);
+            norm += weight * weight;
+            while (j < jobTerms.length && jobTerms[j] < term) {
+                j++;
+            }
+            if (j < jobTerms.length && jobTerms[j] == term) {
+                dot += weight * jobWeights[j];
+            }
+        }
+        return norm > 0 ? (float) Math.min(1, dot / Math.sqrt(norm)) : 0f;
+    }
+
+    /**
+     * Scores candidates [from, to) against one job, splitting in halves above the threshold
+     */
+    private static final class ScoreTask extends RecursiveAction {
+        private final Idf idf;
+        private final float[] jobWeights;
+        private final int[] jobTerms;
+        private final SkillVector[] vectors;
+        private final float[] out;
+        private final int from;
+        private final int to;
+
+        ScoreTask(Idf idf, float[] jobWeights, int[] jobTerms, SkillVector[] vectors, float[] out, int from, int to) {
+            this.idf = idf;
+            this.jobWeights = jobWeights;
+            this.jobTerms = jobTerms;
+            this.vectors = vectors;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    out[i] = cosine(idf, jobTerms, jobWeights, vectors[i]);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScoreTask(idf, jobWeights, jobTerms, vectors, out, from, mid),
+                    new ScoreTask(idf, jobWeights, jobTerms, vectors, out, mid, to));
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Maintenance
+    // ------------------------------------------------------------------
+
+    private int load(BiFunction<Long, Limit, List<SkillText>> pageLoader, Map<Long, SkillVector> target) {
+        long after = 0;
+        int total = 0;
+        while (true) {
+            List<SkillText> batch = pageLoader.apply(after, Limit.of(BUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                return total;
+            }
+            lock.writeLock().lock();
+            try {
+                for (SkillText row : batch) {
+                    // Text indexed since startup is newer than this snapshot
+                    if (!target.containsKey(row.id())) {
+                        put(target, row.id(), analyze(row.text()));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            total += batch.size();
+            after = batch.get(batch.size() - 1).id();
+        }
+    }
+
+    /**
+     * Store a document's vector, keeping document frequencies in step (caller holds the write lock)
+     */
+    private void put(Map<Long, SkillVector> target, Long id, Map<String, Integer> counts) {
+        // (term id << 32 | count): sorting orders by term id
+        long[] entries = new long[counts.size()];
+        int n = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            long term = termIds.computeIfAbsent(entry.getKey(), key -> termIds.size());
+            entries[n++] = term << 32 | entry.getValue();
+        }
+        Arrays.sort(entries);
+        if (termIds.size() > df.length) {
+            df = Arrays.copyOf(df, Math.max(termIds.size(), df.length * 2));
+        }
+
+        int[] terms = new int[n];
+        float[] tf = new float[n];
+        for (int i = 0; i < n; i++) {
+            terms[i] = (int) (entries[i] >>> 32);
+            tf[i] = (float) (1 + Math.log((int) entries[i]));
+            df[terms[i]]++;
+        }
+
+        SkillVector previous = target.put(id, new SkillVector(terms, tf));
+        version++;
+        if (previous == null) {
+            docCount++;
+        } else {
+            for (int term : previous.terms) {
+                df[term]--;
+            }
+        }
+    }
+
+    private static Map<String, Integer> analyze(String... texts) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String text : texts) {
+            VietnameseAnalyzer.analyze(text, term -> counts.merge(term, 1, Integer::sum));
+        }
+        return counts;
+    }
+
+    // ------------------------------------------------------------------
+    // Data structures
+    // ------------------------------------------------------------------
+
+    /**
+     * Sparse term vector: term ids ascending with parallel 1 + ln(tf) weights
+     */
+    private record SkillVector(int[] terms, float[] tf) {
+    }
+
+    /**
+     * Document frequencies copied at one point in time, for scoring outside the lock
+     */
+    private record Idf(int[] df, int docCount) {
+        float of(int term) {
+            return (float) (Math.log((docCount + 1.0) / (df[term] + 1.0)) + 1);
+        }
+    }
+
+    /**
+     * Cached scores of one job: candidate ids ascending with parallel scores
+     * A forgotten candidate keeps its slot with a NaN score until the next merge.
+     */
+    private static final class JobScores {
+        private final long[] candidateIds;
+        private final float[] scores;
+
+        private JobScores(long[] candidateIds, float[] scores) {
+            this.candidateIds = candidateIds;
+            this.scores = scores;
+        }
+
+        float get(long candidateId) {
+            int index = Arrays.binarySearch(candidateIds, candidateId);
+            return index >= 0 ? scores[index] : Float.NaN;
+        }
+
+        void forget(long candidateId) {
+            int index = Arrays.binarySearch(candidateIds, candidateId);
+            if (index >= 0) {
+                scores[index] = Float.NaN;
+            }
+        }
+
+        /**
+         * Union of cached scores and fresh ones (both ascending by candidate id); fresh ones win
+         */
+        static JobScores merge(JobScores cached, long[] ids, float[] fresh) {
+            if (cached == null) {
+                return new JobScores(ids.clone(), fresh.clone());
+            }
+            long[] mergedIds = new long[cached.candidateIds.length + ids.length];
+            float[] mergedScores = new float[mergedIds.length];
+            int n = 0;
+            int c = 0;
+            int f = 0;
+            while (c < cached.candidateIds.length || f < ids.length) {
+                if (f == ids.length || (c < cached.candidateIds.length && cached.candidateIds[c] < ids[f])) {
+                    if (!Float.isNaN(cached.scores[c])) {
+                        mergedIds[n] = cached.candidateIds[c];
+                        mergedScores[n++] = cached.scores[c];
+                    }
+                    c++;
+                } else {
+                    if (c < cached.candidateIds.length && cached.candidateIds[c] == ids[f]) {
+                        c++;
+                    }
+                    mergedIds[n] = ids[f];
+                    mergedScores[n++] = fresh[f++];
+                }
+            }
+            return new JobScores(Arrays.copyOf(mergedIds, n), Arrays.copyOf(mergedScores, n));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.jobrecruitment.backend.search;
+
+import java.util.function.Consumer;
+
+import com.jobrecruitment.backend.utils.VietnameseFolding;
+
+/**
+ * Vietnamese-aware text analyzer
+ * Folds diacritics (VietnameseFolding) and splits text into syllable tokens so that
+ * "ke toan" matches "Kế toán" and "ho chi minh" matches "Hồ Chí Minh".
+ *
+ * Tokens: maximal runs of letters/digits (Vietnamese syllables are space-separated).
+ * Analyzing text costs one table lookup per char and one String per emitted token
+ * (none with the TokenSink overload).
+ */
+public final class VietnameseAnalyzer {
+
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private VietnameseAnalyzer() {
+    }
+
+    /**
+     * Receives each token as a slice of a reused buffer
+     * The buffer is overwritten by the next token: copy what must be kept.
+     */
+    @FunctionalInterface
+    public interface TokenSink {
+        void accept(char[] buffer, int length);
+    }
+
+    /**
+     * Emit the folded tokens of text without allocating per token
+     */
+    public static void analyze(CharSequence text, TokenSink sink) {
+        if (text == null) {
+            return;
+        }
+        char[] buffer = new char[MAX_TOKEN_LENGTH];
+        int length = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (VietnameseFolding.isCombiningMark(c)) {
+                // Combining mark of already-decomposed input: stays inside the token
+                continue;
+            }
+            char folded = VietnameseFolding.fold(c);
+
+            if (folded != 0) {
+                // Over-long runs (URLs, hashes) are truncated rather than split
+                if (length < MAX_TOKEN_LENGTH) {
+                    buffer[length++] = folded;
+                }
+            } else if (length > 0) {
+                sink.accept(buffer, length);
+                length = 0;
+            }
+        }
+        if (length > 0) {
+            sink.accept(buffer, length);
+        }
+    }
+
+    /**
+     * Emit the folded tokens of text as Strings
+     */
+    public static void analyze(CharSequence text, Consumer<String> sink) {
+        analyze(text, (TokenSink) (buffer, length) -> sink.accept(new String(buffer, 0, length)));
+    }
+}
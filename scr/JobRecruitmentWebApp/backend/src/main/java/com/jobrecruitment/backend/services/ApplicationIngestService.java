@@ -0,0 +1,25 @@
+package com.jobrecruitment.backend.services;
+
+import com.jobrecruitment.backend.dtos.request.ApplicationRequest;
+import com.jobrecruitment.backend.dtos.response.ApplicationTicketResponse;
+
+public interface ApplicationIngestService {
+    
+    /**
+     * Whether applies go through the ingestion queue (applications.ingest.enabled)
+     */
+    boolean isEnabled();
+    
+    /**
+     * Queue an apply and return its QUEUED ticket (Candidate only)
+     * Persisted later in batches with the same rules as ApplicationService.applyToJob
+     * Submitting again for a job whose apply is still queued returns the same ticket
+     * Throws TooManyRequestsException when the queue is full
+     */
+    ApplicationTicketResponse submit(ApplicationRequest request, String username);
+    
+    /**
+     * Current state of a ticket (Candidate only - own tickets)
+     */
+    ApplicationTicketResponse getTicket(String trackingCode, String username);
+}
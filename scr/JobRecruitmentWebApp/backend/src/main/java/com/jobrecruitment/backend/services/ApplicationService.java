@@ -2,10 +2,21 @@ package com.jobrecruitment.backend.services;
 
 import com.jobrecruitment.backend.dtos.request.ApplicationRequest;
 import com.jobrecruitment.backend.dtos.request.ApplicationStatusRequest;
+import com.jobrecruitment.backend.dtos.request.BulkApplicationStatusRequest;
+import com.jobrecruitment.backend.dtos.request.QueuedApplication;
+import com.jobrecruitment.backend.dtos.response.ApplicantResponse;
 import com.jobrecruitment.backend.dtos.response.ApplicationResponse;
+import com.jobrecruitment.backend.dtos.response.ApplicationTicketResponse;
+import com.jobrecruitment.backend.dtos.response.BulkApplicationStatusResponse;
+import com.jobrecruitment.backend.dtos.response.CompanyApplicationCountsResponse;
+import com.jobrecruitment.backend.dtos.response.CursorPage;
+import com.jobrecruitment.backend.dtos.response.JobApplicationCountsResponse;
+import com.jobrecruitment.backend.enums.ApplicantSort;
 import com.jobrecruitment.backend.enums.ApplicationStatus;
 
+import java.io.OutputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ApplicationService {
     
@@ -20,6 +31,13 @@ public interface ApplicationService {
      */
     ApplicationResponse applyToJob(ApplicationRequest request, String username);
     
+    /**
+     * Apply queued requests in one transaction (same rules as applyToJob)
+     * Each request runs under its own savepoint: a rejected request is undone alone
+     * Returns one APPLIED or REJECTED outcome per request, in order
+     */
+    List<ApplicationTicketResponse> applyQueued(List<QueuedApplication> batch);
+    
     /**
      * Get application by ID
      */
@@ -30,19 +48,66 @@ public interface ApplicationService {
      */
     List<ApplicationResponse> getApplicationsByJob(Long jobId, String username);
     
+    /**
+     * Get one page of a job's applicants with candidate name, skills and CV code (Employer only - own jobs)
+     * Keyset-paginated; status filters when not null, sort defaults to APPLY_TIME
+     * SCORE ranks by skill match (SkillMatcher) and sets matchScore
+     */
+    CursorPage<ApplicantResponse> getApplicants(Long jobId, ApplicationStatus status, ApplicantSort sort,
+                                                String cursor, Integer size, String username);
+    
+    /**
+     * Stream all applications for a job to sink (Employer only - own jobs)
+     * Constant memory: rows are read through a database cursor and detached as they go
+     */
+    void streamApplicationsByJob(Long jobId, String username, Consumer<ApplicationResponse> sink);
+    
+    /**
+     * Check the employer may export a job's applicants (Employer only - own jobs)
+     * Returns the export file name; call before the response is committed
+     */
+    String prepareApplicantExport(Long jobId, String username);
+    
+    /**
+     * Write a job's applicants to out as CSV, oldest application first
+     * Constant memory and no persistence context; does not check access (see prepareApplicantExport)
+     */
+    void writeApplicantsCsv(Long jobId, OutputStream out);
+    
     /**
      * Get applications by job and status (Employer only)
      */
     List<ApplicationResponse> getApplicationsByJobAndStatus(Long jobId, ApplicationStatus status, String username);
     
+    /**
+     * Count a job's applications per status (Employer only - own jobs)
+     */
+    JobApplicationCountsResponse getApplicationCountsByJob(Long jobId, String username);
+    
+    /**
+     * Count applications per status for every job of the employer's company, in one query
+     */
+    CompanyApplicationCountsResponse getMyCompanyApplicationCounts(String username);
+    
     /**
      * Get my applications (Candidate only)
      */
     List<ApplicationResponse> getMyApplications(String username);
     
+    /**
+     * Stream my applications to sink (Candidate only)
+     */
+    void streamMyApplications(String username, Consumer<ApplicationResponse> sink);
+    
     /**
      * Update application status (Employer only - own jobs)
      * Used to approve or reject applications
      */
     ApplicationResponse updateApplicationStatus(Long applicationId, ApplicationStatusRequest request, String username);
+    
+    /**
+     * Update the status of many applications at once (Employer only - own jobs)
+     * One UPDATE for the whole selection and one ApplicationStatusChangedEvent for the batch
+     */
+    BulkApplicationStatusResponse bulkUpdateApplicationStatus(BulkApplicationStatusRequest request, String username);
 }
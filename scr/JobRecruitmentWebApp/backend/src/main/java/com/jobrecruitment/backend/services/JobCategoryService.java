@@ -0,0 +1,32 @@
+package com.jobrecruitment.backend.services;
+
+import com.jobrecruitment.backend.dtos.request.JobCategoryRequest;
+import com.jobrecruitment.backend.dtos.response.JobCategoryResponse;
+
+import java.util.List;
+
+public interface JobCategoryService {
+    
+    /**
+     * Get all job categories (Public)
+     * Served from the in-memory reference data registry
+     */
+    List<JobCategoryResponse> getAllCategories();
+    
+    /**
+     * Get job category by ID (Public)
+     */
+    JobCategoryResponse getCategoryById(Integer jcId);
+    
+    /**
+     * Create a job category (Admin only)
+     * Validates name uniqueness
+     */
+    JobCategoryResponse createCategory(JobCategoryRequest request);
+    
+    /**
+     * Update a job category (Admin only)
+     * Validates name uniqueness
+     */
+    JobCategoryResponse updateCategory(Integer jcId, JobCategoryRequest request);
+}
@@ -0,0 +1,36 @@
+package com.jobrecruitment.backend.services;
+
+import com.jobrecruitment.backend.dtos.response.JobResponse;
+import com.jobrecruitment.backend.enums.JobStatus;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface JobLifecycleService {
+    
+    /**
+     * Apply date-driven status changes due as of today (see JobStatus.onDate)
+     * WAIT jobs open on their startDate, WAIT/ACTIVE jobs close after their endDate
+     * Runs on several nodes are serialized by a database lock; a later run finds nothing left to do
+     * Returns the number of jobs this run changed
+     */
+    int runTransitions(LocalDate today);
+    
+    /**
+     * Remember a job's next date-driven transition
+     * so this node's caches are refreshed on that day
+     */
+    void track(JobResponse job);
+    
+    /**
+     * Same as track(JobResponse), for callers holding only the lifecycle columns
+     */
+    void track(Long jobId, JobStatus status, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * Reload changed jobs into this node's caches and indexes and track their next transition
+     * Jobs no longer found are dropped. Returns the jobs found.
+     */
+    List<JobResponse> refresh(Collection<Long> jobIds);
+}
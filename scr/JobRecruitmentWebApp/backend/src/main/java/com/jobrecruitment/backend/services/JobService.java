@@ -1,10 +1,21 @@
 package com.jobrecruitment.backend.services;
 
+import com.jobrecruitment.backend.dtos.request.BulkJobStatusRequest;
+import com.jobrecruitment.backend.dtos.request.JobQueryRequest;
 import com.jobrecruitment.backend.dtos.request.JobRequest;
+import com.jobrecruitment.backend.dtos.response.BulkJobImportResponse;
+import com.jobrecruitment.backend.dtos.response.BulkJobStatusResponse;
+import com.jobrecruitment.backend.dtos.response.CursorPage;
+import com.jobrecruitment.backend.dtos.response.JobFacetsResponse;
 import com.jobrecruitment.backend.dtos.response.JobResponse;
+import com.jobrecruitment.backend.dtos.response.JobSummaryResponse;
 import com.jobrecruitment.backend.enums.JobStatus;
+import com.jobrecruitment.backend.search.SearchOperator;
+import com.jobrecruitment.backend.utils.ResourceVersion;
 
+import java.io.Reader;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface JobService {
     
@@ -16,6 +27,19 @@ public interface JobService {
      */
     JobResponse createJob(JobRequest request, String username);
     
+    /**
+     * Create many job postings at once (Employer only)
+     * Every row is validated first (same rules as createJob); if any row is invalid,
+     * nothing is created and all row errors are reported (BulkValidationException)
+     */
+    BulkJobImportResponse importJobs(List<JobRequest> requests, String username);
+    
+    /**
+     * Same as importJobs, rows read from CSV
+     * The header line names JobRequest fields (jcId, jobTitle, ..., maxCandidates), in any order
+     */
+    BulkJobImportResponse importJobsCsv(Reader csv, String username);
+    
     /**
      * Update existing job (Employer only - own jobs)
      * Validates ownership and StartDate <= EndDate
@@ -27,20 +51,57 @@ public interface JobService {
      */
     JobResponse getJobById(Long jobId);
     
+    /**
+     * Get job by ID, no older than the given version (from getJobVersion)
+     * so the body sent matches the ETag sent with it
+     */
+    JobResponse getJobById(Long jobId, ResourceVersion version);
+    
+    /**
+     * Version of a job detail, for conditional GET
+     */
+    ResourceVersion getJobVersion(Long jobId);
+    
     /**
      * Get all jobs (Public - with optional status filter)
+     * Returns listing summaries (no text columns); full job via getJobById
+     * Keyset-paginated, newest first
      */
-    List<JobResponse> getAllJobs(JobStatus status);
+    CursorPage<JobSummaryResponse> getAllJobs(JobStatus status, String cursor, Integer size);
+    
+    /**
+     * Stream all job summaries (Admin only - with optional status filter) to sink, newest first
+     * Constant memory: rows are read through a database cursor
+     */
+    void streamAllJobs(JobStatus status, Consumer<JobSummaryResponse> sink);
     
     /**
      * Get jobs by company (Employer can view own jobs)
+     * Keyset-paginated, newest first
+     */
+    CursorPage<JobSummaryResponse> getJobsByCompany(Long companyId, String cursor, Integer size);
+    
+    /**
+     * Version of a company's job list, for conditional GET
      */
-    List<JobResponse> getJobsByCompany(Long companyId);
+    ResourceVersion getJobsByCompanyVersion(Long companyId);
     
     /**
      * Get jobs by authenticated employer
      */
-    List<JobResponse> getMyJobs(String username);
+    List<JobSummaryResponse> getMyJobs(String username);
+    
+    /**
+     * Get ACTIVE jobs recommended for the authenticated candidate, best match first
+     * Served from memory (JobRecommender)
+     */
+    List<JobSummaryResponse> getRecommendedJobs(String username, Integer size);
+    
+    /**
+     * Get ACTIVE jobs whose text is most similar to the given job, most similar first
+     * Served from memory (SimilarJobIndex)
+     */
+    List<JobSummaryResponse> getSimilarJobs(Long jobId, Integer size);
     
     /**
      * Change job status (Employer only - own jobs)
@@ -48,23 +109,51 @@ public interface JobService {
      */
     JobResponse updateJobStatus(Long jobId, JobStatus newStatus, String username);
     
+    /**
+     * Change the status of many jobs at once (Employer - own jobs, Admin - any company)
+     * Jobs are selected by ids and/or filters and changed by one UPDATE;
+     * same status rules as updateJobStatus, but jobs that cannot change are skipped, not rejected
+     */
+    BulkJobStatusResponse bulkUpdateJobStatus(BulkJobStatusRequest request, String username, boolean admin);
+    
     /**
      * Delete job (Soft delete - change to HIDDEN)
      */
     void deleteJob(Long jobId, String username);
     
     /**
-     * Search jobs by keyword (title or location)
+     * Full-text search jobs by keyword (title, requirement, description, location)
+     * Ordered by relevance, keyset-paginated
      */
-    List<JobResponse> searchJobs(String keyword);
+    CursorPage<JobSummaryResponse> searchJobs(String keyword, String cursor, Integer size);
+    
+    /**
+     * Search ACTIVE jobs in the in-memory index (no database access)
+     * Multi-term AND/OR queries, BM25 relevance, keyset-paginated
+     */
+    CursorPage<JobSummaryResponse> quickSearch(String query, SearchOperator operator, String cursor, Integer size);
     
     /**
      * Filter jobs by salary range
+     * Keyset-paginated, newest first
      */
-    List<JobResponse> filterBySalary(Double minSalary, Double maxSalary);
+    CursorPage<JobSummaryResponse> filterBySalary(Double minSalary, Double maxSalary, String cursor, Integer size);
     
     /**
      * Get jobs by category
+     * Keyset-paginated, newest first
+     */
+    CursorPage<JobSummaryResponse> getJobsByCategory(Integer jcid, String cursor, Integer size);
+    
+    /**
+     * Query jobs by any combination of category, salary, location, status and posting date
+     * Keyset-paginated, newest first
+     */
+    CursorPage<JobSummaryResponse> queryJobs(JobQueryRequest filter, String cursor, Integer size);
+    
+    /**
+     * Count jobs matching the filter per category, salary bucket and location
+     * Each facet ignores its own filter, so its values stay selectable
      */
-    List<JobResponse> getJobsByCategory(Integer jcid);
+    JobFacetsResponse getJobFacets(JobQueryRequest filter);
 }
@@ -0,0 +1,24 @@
+package com.jobrecruitment.backend.services;
+
+import com.jobrecruitment.backend.enums.OutboxEventType;
+
+public interface OutboxService {
+    
+    /**
+     * Record a change event in the current transaction (required)
+     * The event is delivered only if that transaction commits
+     */
+    void record(OutboxEventType eventType, Object payload);
+    
+    /**
+     * Deliver one batch of pending events to every OutboxPublisher
+     * Returns the number of events claimed (delivered or failed)
+     */
+    int relayBatch();
+    
+    /**
+     * Delete events delivered before the retention period (outbox.retention)
+     * Returns the number of events deleted
+     */
+    int purgePublished();
+}
@@ -0,0 +1,241 @@
+package com.jobrecruitment.backend.services.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobrecruitment.backend.dtos.request.ApplicationRequest;
+import com.jobrecruitment.backend.dtos.request.QueuedApplication;
+import com.jobrecruitment.backend.dtos.response.ApplicationTicketResponse;
+import com.jobrecruitment.backend.exceptions.ResourceNotFoundException;
+import com.jobrecruitment.backend.exceptions.TooManyRequestsException;
+import com.jobrecruitment.backend.mappers.ApplicationMapper;
+import com.jobrecruitment.backend.repositories.ApplicationRepository;
+import com.jobrecruitment.backend.services.ApplicationIngestService;
+import com.jobrecruitment.backend.services.ApplicationService;
+import com.jobrecruitment.backend.utils.CodeGenerator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous apply ingestion
+ *
+ * POST /api/applications only checks the request shape and enqueues it into a bounded
+ * in-process queue (no database work on the request thread); a fixed pool of workers
+ * drains it in batches, each batch one transaction (ApplicationService.applyQueued).
+ * The number of workers caps the connections used by applies during a spike.
+ *
+ * A full queue rejects new applies with 429 and Retry-After instead of growing.
+ * Tickets are kept in memory for ticket-ttl; the tracking code doubles as the
+ * application code, so an APPLIED ticket can still be found in the database
+ * after it expired or on another node.
+ *
+ * Queued applies are in memory only: on shutdown the workers finish the queue,
+ * a crash loses it (clients still see the ticket missing and can apply again).
+ */
+@Slf4j
+@Service
+public class ApplicationIngestServiceImpl implements ApplicationIngestService {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+
+    private final ApplicationService applicationService;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationMapper applicationMapper;
+    private final CodeGenerator codeGenerator;
+
+    private final boolean enabled;
+    private final int workers;
+    private final int batchSize;
+    private final Duration retryAfter;
+
+    private final BlockingQueue<QueuedApplication> queue;
+    // Queued tracking code per (username, jobId): a repeated submit gets the same ticket
+    private final ConcurrentMap<String, String> pending = new ConcurrentHashMap<>();
+    private final Cache<String, Ticket> tickets;
+
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    private record Ticket(String username, ApplicationTicketResponse response) {
+    }
+
+    public ApplicationIngestServiceImpl(
+            ApplicationService applicationService,
+            ApplicationRepository applicationRepository,
+            ApplicationMapper applicationMapper,
+            CodeGenerator codeGenerator,
+            @Value("${applications.ingest.enabled:false}") boolean enabled,
+            @Value("${applications.ingest.capacity:10000}") int capacity,
+            @Value("${applications.ingest.workers:4}") int workers,
+            @Value("${applications.ingest.batch-size:50}") int batchSize,
+            @Value("${applications.ingest.retry-after:5s}") Duration retryAfter,
+            @Value("${applications.ingest.ticket-ttl:1h}") Duration ticketTtl) {
+        this.applicationService = applicationService;
+        this.applicationRepository = applicationRepository;
+        this.applicationMapper = applicationMapper;
+        this.codeGenerator = codeGenerator;
+        this.enabled = enabled;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.retryAfter = retryAfter;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.tickets = Caffeine.newBuilder()
+                .expireAfterWrite(ticketTtl)
+                .build();
+    }
+
+    /**
+     * Start the workers once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        executor = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("apply-ingest-", 0).factory());
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::drain);
+        }
+        log.info("Apply ingestion started: {} workers, capacity {}", workers, queue.remainingCapacity());
+    }
+
+    /**
+     * Stop accepting applies and let the workers finish the queue
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Apply ingestion stopped with {} applies still queued", queue.size());
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public ApplicationTicketResponse submit(ApplicationRequest request, String username) {
+        if (!running) {
+            throw new TooManyRequestsException("Applications are not being accepted right now", retryAfter);
+        }
+
+        String trackingCode = codeGenerator.generateApplicationCode();
+        String key = username + "#" + request.getJobId();
+        String queuedCode = pending.putIfAbsent(key, trackingCode);
+        if (queuedCode != null) {
+            Ticket ticket = tickets.getIfPresent(queuedCode);
+            if (ticket != null) {
+                return ticket.response();
+            }
+            pending.put(key, trackingCode);
+        }
+
+        QueuedApplication queued = new QueuedApplication(
+                trackingCode, username, request.getJobId(), request.getCvId(), LocalDateTime.now());
+        ApplicationTicketResponse response = ApplicationTicketResponse.queued(queued);
+        tickets.put(trackingCode, new Ticket(username, response));
+        if (!queue.offer(queued)) {
+            pending.remove(key, trackingCode);
+            tickets.invalidate(trackingCode);
+            throw new TooManyRequestsException("Too many applications are being processed, please retry later", retryAfter);
+        }
+        return response;
+    }
+
+    @Override
+    public ApplicationTicketResponse getTicket(String trackingCode, String username) {
+        Ticket ticket = tickets.getIfPresent(trackingCode);
+        if (ticket != null && ticket.username().equals(username)) {
+            return ticket.response();
+        }
+        // Expired or submitted on another node: an applied ticket is an application with that code
+        return applicationRepository.findWithDetailsByApplicationCodeAndCandidateUserUsername(trackingCode, username)
+                .map(application -> ApplicationTicketResponse.applied(
+                        new QueuedApplication(trackingCode, username, application.getJob().getJobId(),
+                                application.getCv().getCvId(), application.getApplyTime()),
+                        applicationMapper.toResponse(application)))
+                .orElseThrow(() -> new ResourceNotFoundException("Application ticket not found"));
+    }
+
+    /**
+     * Worker loop: wait for one apply, then take whatever else is queued up to batchSize
+     */
+    private void drain() {
+        List<QueuedApplication> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                QueuedApplication first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Apply ingestion worker failed on a batch of {}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<QueuedApplication> batch) {
+        List<ApplicationTicketResponse> outcomes;
+        try {
+            outcomes = applicationService.applyQueued(batch);
+        } catch (RuntimeException e) {
+            // The whole batch rolled back (database error): retry each apply in its own transaction
+            log.warn("Apply batch of {} failed, retrying one by one", batch.size(), e);
+            outcomes = new ArrayList<>(batch.size());
+            for (QueuedApplication queued : batch) {
+                outcomes.add(applyAlone(queued));
+            }
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            QueuedApplication queued = batch.get(i);
+            tickets.put(queued.getTrackingCode(), new Ticket(queued.getUsername(), outcomes.get(i)));
+            pending.remove(queued.getUsername() + "#" + queued.getJobId(), queued.getTrackingCode());
+        }
+    }
+
+    private ApplicationTicketResponse applyAlone(QueuedApplication queued) {
+        try {
+            return applicationService.applyQueued(List.of(queued)).get(0);
+        } catch (RuntimeException e) {
+            log.error("Queued apply {} failed", queued.getTrackingCode(), e);
+            return ApplicationTicketResponse.rejected(queued, "Application could not be processed, please apply again");
+        }
+    }
+}
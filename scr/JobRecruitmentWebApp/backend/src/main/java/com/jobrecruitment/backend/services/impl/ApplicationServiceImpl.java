@@ -1,116 +1,233 @@
 package com.jobrecruitment.backend.services.impl;
 
+import com.jobrecruitment.backend.cache.JobApplicantCounters;
+import com.jobrecruitment.backend.cache.JobDetailCache;
 import com.jobrecruitment.backend.dtos.request.ApplicationRequest;
 import com.jobrecruitment.backend.dtos.request.ApplicationStatusRequest;
+import com.jobrecruitment.backend.dtos.request.BulkApplicationStatusRequest;
+import com.jobrecruitment.backend.dtos.request.QueuedApplication;
+import com.jobrecruitment.backend.dtos.response.ApplicantResponse;
 import com.jobrecruitment.backend.dtos.response.ApplicationResponse;
+import com.jobrecruitment.backend.dtos.response.ApplicationTicketResponse;
+import com.jobrecruitment.backend.dtos.response.BulkApplicationStatusResponse;
+import com.jobrecruitment.backend.dtos.response.CompanyApplicationCountsResponse;
+import com.jobrecruitment.backend.dtos.response.CursorPage;
+import com.jobrecruitment.backend.dtos.response.JobApplicationCountsResponse;
 import com.jobrecruitment.backend.entities.Application;
-import com.jobrecruitment.backend.entities.CV;
 import com.jobrecruitment.backend.entities.Candidate;
 import com.jobrecruitment.backend.entities.Company;
 import com.jobrecruitment.backend.entities.Job;
 import com.jobrecruitment.backend.entities.User;
+import com.jobrecruitment.backend.enums.ApplicantSort;
 import com.jobrecruitment.backend.enums.ApplicationStatus;
 import com.jobrecruitment.backend.enums.CVStatus;
 import com.jobrecruitment.backend.enums.JobStatus;
+import com.jobrecruitment.backend.enums.OutboxEventType;
+import com.jobrecruitment.backend.events.ApplicationCreatedEvent;
+import com.jobrecruitment.backend.events.ApplicationStatusChangedEvent;
+import com.jobrecruitment.backend.events.JobStatusChangedEvent;
 import com.jobrecruitment.backend.exceptions.ResourceNotFoundException;
 import com.jobrecruitment.backend.exceptions.ValidationException;
 import com.jobrecruitment.backend.mappers.ApplicationMapper;
+import com.jobrecruitment.backend.repositories.ApplicantExportRepository;
 import com.jobrecruitment.backend.repositories.ApplicationRepository;
-import com.jobrecruitment.backend.repositories.CVRepository;
 import com.jobrecruitment.backend.repositories.CandidateRepository;
 import com.jobrecruitment.backend.repositories.CompanyRepository;
 import com.jobrecruitment.backend.repositories.JobRepository;
 import com.jobrecruitment.backend.repositories.UserRepository;
+import com.jobrecruitment.backend.repositories.projections.ApplicantKey;
+import com.jobrecruitment.backend.repositories.projections.ApplicationStatusChange;
+import com.jobrecruitment.backend.repositories.projections.ApplicationStatusCount;
+import com.jobrecruitment.backend.repositories.projections.ApplyEligibilityRow;
+import com.jobrecruitment.backend.repositories.projections.JobCapacityRow;
+import com.jobrecruitment.backend.repositories.projections.JobStatusChange;
+import com.jobrecruitment.backend.search.JobRecommender;
+import com.jobrecruitment.backend.search.JobSearchIndex;
+import com.jobrecruitment.backend.search.SimilarJobIndex;
+import com.jobrecruitment.backend.search.SkillMatcher;
 import com.jobrecruitment.backend.services.ApplicationService;
+import com.jobrecruitment.backend.services.OutboxService;
+import com.jobrecruitment.backend.utils.ApplicantCursor;
 import com.jobrecruitment.backend.utils.CodeGenerator;
+import com.jobrecruitment.backend.utils.CsvWriter;
+import com.jobrecruitment.backend.utils.EntityStreams;
+import com.jobrecruitment.backend.utils.Pagination;
+import com.jobrecruitment.backend.utils.RankCursor;
+import com.jobrecruitment.backend.utils.TransactionCallbacks;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Savepoint;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
 public class ApplicationServiceImpl implements ApplicationService {
 
+    // Application code collisions tolerated per apply
+    private static final int MAX_INSERT_ATTEMPTS = 5;
+    private static final String JOB_FULL_MESSAGE = "Job has reached its maximum number of candidates";
+    private static final String[] APPLICANT_CSV_HEADER = {
+            "Application Code", "Apply Time", "Status", "Candidate Name",
+            "Email", "Phone", "Skills", "CV Code"};
+    // Spreadsheet-friendly timestamp (no 'T', no fraction)
+    private static final DateTimeFormatter CSV_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     private final ApplicationRepository applicationRepository;
     private final JobRepository jobRepository;
-    private final CVRepository cvRepository;
     private final CandidateRepository candidateRepository;
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
     private final CodeGenerator codeGenerator;
     private final ApplicationMapper applicationMapper;
+    private final EntityManager entityManager;
+    private final JobDetailCache jobDetailCache;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobApplicantCounters jobApplicantCounters;
+    private final OutboxService outboxService;
+    private final ApplicantExportRepository applicantExportRepository;
+    private final SkillMatcher skillMatcher;
+    private final JobRecommender jobRecommender;
+    private final SimilarJobIndex similarJobIndex;
 
     @Override
     @Transactional
     public ApplicationResponse applyToJob(ApplicationRequest request, String username) {
-        // Get authenticated user and their candidate profile
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        
-        Candidate candidate = candidateRepository.findByUserUserId(user.getUserId())
+        return apply(username, request.getJobId(), request.getCvId(), null, null);
+    }
+
+    @Override
+    @Transactional
+    public List<ApplicationTicketResponse> applyQueued(List<QueuedApplication> batch) {
+        // JDBC savepoints on the transaction's connection: the apply path only runs
+        // native statements (its outbox row included, see OutboxEventRepository.insertPending),
+        // so there is no persistence context state to undo with them
+        Session session = entityManager.unwrap(Session.class);
+        List<ApplicationTicketResponse> outcomes = new ArrayList<>(batch.size());
+        for (QueuedApplication queued : batch) {
+            // A rejected apply is undone alone; the ones before and after it still commit
+            Savepoint savepoint = session.doReturningWork(Connection::setSavepoint);
+            try {
+                ApplicationResponse application = apply(queued.getUsername(), queued.getJobId(), queued.getCvId(),
+                        queued.getTrackingCode(), queued.getSubmittedAt());
+                session.doWork(connection -> connection.releaseSavepoint(savepoint));
+                outcomes.add(ApplicationTicketResponse.applied(queued, application));
+            } catch (ValidationException | ResourceNotFoundException e) {
+                session.doWork(connection -> connection.rollback(savepoint));
+                outcomes.add(ApplicationTicketResponse.rejected(queued, e.getMessage()));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Validate and insert one application
+     * applicationCode: code to try first (null: generate); applyTime: when the candidate applied (null: now)
+     */
+    private ApplicationResponse apply(String username, Long jobId, Long cvId, String applicationCode, LocalDateTime applyTime) {
+        // Candidate, job, CV and previous application in one query
+        ApplyEligibilityRow eligibility = applicationRepository
+                .findApplyEligibility(username, jobId, cvId)
                 .orElseThrow(() -> new ResourceNotFoundException("Candidate profile not found"));
 
-        // Get job
-        Job job = jobRepository.findById(request.getJobId())
-                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+        if (eligibility.getJobId() == null) {
+            throw new ResourceNotFoundException("Job not found");
+        }
 
-        // Validation 1: Check if job is ACTIVE (RBNT rule)
-        if (job.getJobStatus() != JobStatus.ACTIVE) {
+        // Validation 1: Check if job is ACTIVE and within its posting period (RBNT rule)
+        // The job lifecycle keeps ACTIVE within the period; the dates also cover the
+        // moments between midnight and the nightly transition run
+        LocalDate today = LocalDate.now();
+        if (eligibility.getJobStatus() != JobStatus.ACTIVE
+                || today.isBefore(eligibility.getStartDate()) || today.isAfter(eligibility.getEndDate())) {
             throw new ValidationException("Job is not active. Cannot apply to this job.");
         }
 
-        // Validation 2: Check if current date is within job date range (RBNT rule)
-        LocalDate currentDate = LocalDate.now();
-        if (currentDate.isBefore(job.getStartDate()) || currentDate.isAfter(job.getEndDate())) {
-            throw new ValidationException(
-                "Application date must be within job posting period (" + 
-                job.getStartDate() + " to " + job.getEndDate() + ")"
-            );
+        if (eligibility.getCvId() == null) {
+            throw new ResourceNotFoundException("CV not found");
         }
 
-        // Get CV
-        CV cv = cvRepository.findById(request.getCvId())
-                .orElseThrow(() -> new ResourceNotFoundException("CV not found"));
-
-        // Validation 3: Check if CV belongs to candidate
-        if (!cv.getCandidate().getCandidateId().equals(candidate.getCandidateId())) {
+        // Validation 2: Check if CV belongs to candidate
+        if (!eligibility.getCvCandidateId().equals(eligibility.getCandidateId())) {
             throw new ValidationException("CV does not belong to you");
         }
 
-        // Validation 4: Check if CV is ACTIVE (RBCV rule)
-        if (cv.getCvStatus() != CVStatus.ACTIVE) {
+        // Validation 3: Check if CV is ACTIVE (RBCV rule)
+        if (eligibility.getCvStatus() != CVStatus.ACTIVE) {
             throw new ValidationException("CV is not active. Please activate your CV before applying.");
         }
 
-        // Validation 5: Check if candidate has already applied to this job
-        if (applicationRepository.existsByJobIdAndCandidateId(job.getJobId(), candidate.getCandidateId())) {
+        // Validation 4: Check if candidate has already applied to this job
+        if (eligibility.getApplied()) {
             throw new ValidationException("You have already applied to this job");
         }
 
-        // Generate unique ApplicationCode
-        String applicationCode = codeGenerator.generateApplicationCode(code -> applicationRepository.existsByApplicationCode(code));
-
-        // Create application entity
-        Application application = new Application();
-        application.setJob(job);
-        application.setCv(cv);
-        application.setApplicationCode(applicationCode);
-        application.setApplyTime(LocalDateTime.now());
-        application.setApplicationStatus(ApplicationStatus.PENDING);
+        // Validation 5: Check if job still has a free spot (maxCandidates, from the job's counter)
+        if (eligibility.getMaxCandidates() != null && eligibility.getAppliedCount() >= eligibility.getMaxCandidates()) {
+            throw new ValidationException(JOB_FULL_MESSAGE);
+        }
 
-        Application savedApplication = applicationRepository.save(application);
-        return applicationMapper.toResponse(savedApplication);
+        // Insert; the unique (job, candidate) constraint settles concurrent applies,
+        // an application code collision is retried with a new code
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime appliedAt = applyTime != null ? applyTime.truncatedTo(ChronoUnit.MICROS) : now;
+        for (int attempt = 0; attempt < MAX_INSERT_ATTEMPTS; attempt++) {
+            if (applicationCode == null || attempt > 0) {
+                applicationCode = codeGenerator.generateApplicationCode();
+            }
+            List<Long> inserted = applicationRepository.insertIfAbsent(
+                    eligibility.getJobId(), eligibility.getCvId(), eligibility.getCandidateId(), applicationCode, appliedAt, now);
+            if (!inserted.isEmpty()) {
+                int appliedCount = takeSpot(eligibility, now);
+                outboxService.record(OutboxEventType.APPLICATION_CREATED, new ApplicationCreatedEvent(
+                        inserted.get(0), eligibility.getJobId(), eligibility.getCandidateId(), eligibility.getCvId(),
+                        appliedAt, appliedCount));
+                Long candidateId = eligibility.getCandidateId();
+                TransactionCallbacks.afterCommit(() -> jobRecommender.refreshCandidate(candidateId));
+                return new ApplicationResponse(
+                        inserted.get(0),
+                        eligibility.getJobId(),
+                        eligibility.getJobTitle(),
+                        eligibility.getCvId(),
+                        eligibility.getCvCode(),
+                        applicationCode,
+                        appliedAt,
+                        ApplicationStatus.PENDING,
+                        now,
+                        now);
+            }
+            if (applicationRepository.existsByJobIdAndCandidateId(eligibility.getJobId(), eligibility.getCandidateId())) {
+                throw new ValidationException("You have already applied to this job");
+            }
+        }
+        throw new IllegalStateException("Failed to generate a unique application code after " + MAX_INSERT_ATTEMPTS + " attempts");
     }
 
     @Override
     public ApplicationResponse getApplicationById(Long applicationId) {
-        Application application = applicationRepository.findById(applicationId)
+        Application application = applicationRepository.findWithDetailsByApplicationId(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
         return applicationMapper.toResponse(application);
     }
@@ -129,6 +246,117 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<ApplicantResponse> getApplicants(Long jobId, ApplicationStatus status, ApplicantSort sort,
+                                                       String cursor, Integer size, String username) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+        
+        validateJobOwnership(job, username);
+        
+        ApplicantSort order = sort != null ? sort : ApplicantSort.APPLY_TIME;
+        int pageSize = Pagination.resolveSize(size);
+        if (order == ApplicantSort.SCORE) {
+            return getApplicantsByScore(jobId, status, RankCursor.decode(cursor), pageSize);
+        }
+        ApplicantCursor after = ApplicantCursor.decode(cursor);
+        
+        List<ApplicantResponse> applicants = applicationRepository.findApplicantPage(
+                jobId, status, order, after, pageSize + 1);
+        return CursorPage.of(applicants, pageSize, applicant -> new ApplicantCursor(
+                applicant.getApplicationStatus(), applicant.getApplyTime(), applicant.getApplicationId()).encode());
+    }
+
+    /**
+     * Applicant page ordered by (matchScore DESC, applicationId DESC)
+     * Scores every applicant of the job (cached by SkillMatcher), then loads only the page rows
+     */
+    private CursorPage<ApplicantResponse> getApplicantsByScore(Long jobId, ApplicationStatus status,
+                                                             RankCursor after, int pageSize) {
+        List<ApplicantKey> keys = applicationRepository.findApplicantKeys(jobId, status);
+        long[] candidateIds = keys.stream().mapToLong(ApplicantKey::candidateId).toArray();
+        float[] scores = skillMatcher.scores(jobId, candidateIds);
+        
+        Comparator<Integer> byRank = Comparator.<Integer>comparingDouble(i -> scores[i])
+                .thenComparingLong(i -> keys.get(i).applicationId())
+                .reversed();
+        List<Integer> ranked = IntStream.range(0, keys.size()).boxed()
+                .filter(i -> scores[i] < after.rank()
+                        || (scores[i] == after.rank() && keys.get(i).applicationId() < after.id()))
+                .sorted(byRank)
+                .limit(pageSize + 1L)
+                .toList();
+        // Page and cursor from the keys, so a row missing below does not end the listing early
+        CursorPage<Integer> page = CursorPage.of(ranked, pageSize,
+                i -> new RankCursor(scores[i], keys.get(i).applicationId()).encode());
+        
+        Map<Long, ApplicantResponse> rows = applicationRepository.findApplicantsByIds(
+                        page.getItems().stream().map(i -> keys.get(i).applicationId()).toList()).stream()
+                .collect(Collectors.toMap(ApplicantResponse::getApplicationId, Function.identity()));
+        List<ApplicantResponse> applicants = new ArrayList<>(page.getItems().size());
+        for (int i : page.getItems()) {
+            ApplicantResponse applicant = rows.get(keys.get(i).applicationId());
+            if (applicant == null) {
+                // Deleted since the keys were read
+                continue;
+            }
+            applicant.setMatchScore(scores[i]);
+            applicants.add(applicant);
+        }
+        return new CursorPage<>(applicants, page.getNextCursor());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamApplicationsByJob(Long jobId, String username, Consumer<ApplicationResponse> sink) {
+        // Get job and validate ownership (before anything is written)
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+        
+        validateJobOwnership(job, username);
+        
+        EntityStreams.forEachDetached(
+                applicationRepository.streamByJobId(jobId),
+                entityManager,
+                application -> sink.accept(applicationMapper.toResponse(application)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String prepareApplicantExport(Long jobId, String username) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+        
+        validateJobOwnership(job, username);
+        
+        return "applicants-" + job.getJobCode() + ".csv";
+    }
+
+    @Override
+    public void writeApplicantsCsv(Long jobId, OutputStream out) {
+        CsvWriter csv = new CsvWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        csv.writeBom();
+        csv.writeRecord((Object[]) APPLICANT_CSV_HEADER);
+        
+        long[] written = {0};
+        applicantExportRepository.forEachApplicant(jobId, row -> {
+            csv.writeRecord(
+                    row.applicationCode(),
+                    row.applyTime() != null ? CSV_TIME_FORMAT.format(row.applyTime()) : null,
+                    row.applicationStatus() != null ? row.applicationStatus().getDisplayName() : null,
+                    row.candidateName(),
+                    row.candidateEmail(),
+                    row.candidatePhone(),
+                    row.candidateSkills(),
+                    row.cvCode());
+            // Hand rows to the client as they are fetched instead of buffering the whole file
+            if (++written[0] % EntityStreams.FETCH_SIZE == 0) {
+                csv.flush();
+            }
+        });
+        csv.flush();
+    }
+
     @Override
     public List<ApplicationResponse> getApplicationsByJobAndStatus(Long jobId, ApplicationStatus status, String username) {
         // Get job and validate ownership
@@ -143,6 +371,30 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public JobApplicationCountsResponse getApplicationCountsByJob(Long jobId, String username) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+        
+        validateJobOwnership(job, username);
+        
+        return toJobCounts(applicationRepository.countByStatusForJob(jobId)).getFirst();
+    }
+
+    @Override
+    public CompanyApplicationCountsResponse getMyCompanyApplicationCounts(String username) {
+        Long companyId = companyRepository.findCompanyIdByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("Company profile not found"));
+        
+        List<JobApplicationCountsResponse> jobs = toJobCounts(applicationRepository.countByStatusForCompany(companyId));
+        Map<ApplicationStatus, Long> statusCounts = emptyStatusCounts();
+        for (JobApplicationCountsResponse job : jobs) {
+            job.getStatusCounts().forEach((status, count) -> statusCounts.merge(status, count, Long::sum));
+        }
+        long total = jobs.stream().mapToLong(JobApplicationCountsResponse::getTotal).sum();
+        return new CompanyApplicationCountsResponse(companyId, statusCounts, total, jobs);
+    }
+
     @Override
     public List<ApplicationResponse> getMyApplications(String username) {
         User user = userRepository.findByUsername(username)
@@ -157,27 +409,130 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamMyApplications(String username, Consumer<ApplicationResponse> sink) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        
+        Candidate candidate = candidateRepository.findByUserUserId(user.getUserId())
+                .orElseThrow(() -> new ResourceNotFoundException("Candidate profile not found"));
+        
+        EntityStreams.forEachDetached(
+                applicationRepository.streamByCandidateId(candidate.getCandidateId()),
+                entityManager,
+                application -> sink.accept(applicationMapper.toResponse(application)));
+    }
+
     @Override
     @Transactional
     public ApplicationResponse updateApplicationStatus(Long applicationId, ApplicationStatusRequest request, String username) {
         // Get application
-        Application application = applicationRepository.findById(applicationId)
+        Application application = applicationRepository.findWithDetailsByApplicationId(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
         
         // Validate job ownership (only job owner can update application status)
-        validateJobOwnership(application.getJob(), username);
+        Company company = validateJobOwnership(application.getJob(), username);
         
         // Update status
+        ApplicationStatus previousStatus = application.getApplicationStatus();
         application.setApplicationStatus(request.getApplicationStatus());
         
         Application updatedApplication = applicationRepository.save(application);
+        if (previousStatus != request.getApplicationStatus()) {
+            outboxService.record(OutboxEventType.APPLICATION_STATUS_CHANGED, new ApplicationStatusChangedEvent(
+                    company.getCompanyId(),
+                    request.getApplicationStatus(),
+                    List.of(new ApplicationStatusChange(applicationId, application.getJob().getJobId(), previousStatus)),
+                    LocalDateTime.now()));
+        }
         return applicationMapper.toResponse(updatedApplication);
     }
 
+    @Override
+    @Transactional
+    public BulkApplicationStatusResponse bulkUpdateApplicationStatus(BulkApplicationStatusRequest request, String username) {
+        boolean byIds = request.getApplicationIds() != null && !request.getApplicationIds().isEmpty();
+        if (!byIds && request.getJobId() == null) {
+            throw new ValidationException("applicationIds", null, "Select applications by applicationIds or jobId");
+        }
+        
+        Long companyId = companyRepository.findCompanyIdByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("Company profile not found"));
+        
+        // Ownership is part of the UPDATE: applications to other companies' jobs are skipped
+        LocalDateTime now = LocalDateTime.now();
+        List<ApplicationStatusChange> changes = applicationRepository.updateStatuses(request, username, now);
+        
+        List<Long> skippedApplicationIds = List.of();
+        if (byIds) {
+            Set<Long> changedIds = changes.stream().map(ApplicationStatusChange::applicationId).collect(Collectors.toSet());
+            skippedApplicationIds = request.getApplicationIds().stream()
+                    .filter(applicationId -> !changedIds.contains(applicationId))
+                    .distinct()
+                    .toList();
+        }
+        
+        if (!changes.isEmpty()) {
+            outboxService.record(OutboxEventType.APPLICATION_STATUS_CHANGED, new ApplicationStatusChangedEvent(
+                    companyId, request.getApplicationStatus(), changes, now));
+        }
+        return new BulkApplicationStatusResponse(changes.size(), skippedApplicationIds);
+    }
+
+    /**
+     * Fold (job, status, count) rows into one entry per job, keeping row order
+     */
+    private static List<JobApplicationCountsResponse> toJobCounts(List<ApplicationStatusCount> rows) {
+        Map<Long, JobApplicationCountsResponse> jobs = new LinkedHashMap<>();
+        for (ApplicationStatusCount row : rows) {
+            JobApplicationCountsResponse job = jobs.computeIfAbsent(row.jobId(),
+                    jobId -> new JobApplicationCountsResponse(jobId, row.jobTitle(), emptyStatusCounts(), 0));
+            if (row.applicationStatus() != null) {
+                job.getStatusCounts().put(row.applicationStatus(), row.count());
+                job.setTotal(job.getTotal() + row.count());
+            }
+        }
+        return new ArrayList<>(jobs.values());
+    }
+
+    private static Map<ApplicationStatus, Long> emptyStatusCounts() {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+
+    /**
+     * Count an application against its job (last statement of the apply: holds the job row lock)
+     * Rejects the apply, rolling back its insert, when another apply took the last spot;
+     * a job filled by this apply is closed and leaves the caches after commit. Returns the new applied count.
+     */
+    private int takeSpot(ApplyEligibilityRow job, LocalDateTime now) {
+        Long jobId = job.getJobId();
+        JobCapacityRow capacity = jobRepository.incrementAppliedCount(jobId, now)
+                .orElseThrow(() -> new ValidationException(JOB_FULL_MESSAGE));
+        if (capacity.getJobStatus() != JobStatus.ACTIVE) {
+            outboxService.record(OutboxEventType.JOB_STATUS_CHANGED, new JobStatusChangedEvent(
+                    List.of(new JobStatusChange(jobId, capacity.getJobStatus(), job.getStartDate(), job.getEndDate())), now));
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            jobApplicantCounters.observe(jobId, capacity.getAppliedCount());
+            if (capacity.getJobStatus() != JobStatus.ACTIVE) {
+                jobDetailCache.invalidate(jobId);
+                jobSearchIndex.remove(jobId);
+                jobRecommender.remove(jobId);
+                similarJobIndex.remove(jobId);
+            }
+        });
+        return capacity.getAppliedCount();
+    }
+
     /**
-     * Helper method to validate job ownership
+     * Helper method to validate job ownership, returning the employer's company
      */
-    private void validateJobOwnership(Job job, String username) {
+    private Company validateJobOwnership(Job job, String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         
@@ -187,5 +542,6 @@ public class ApplicationServiceImpl implements ApplicationService {
         if (!job.getCompany().getCompanyId().equals(company.getCompanyId())) {
             throw new AccessDeniedException("You can only manage applications for your own jobs");
         }
+        return company;
     }
 }
@@ -1,5 +1,6 @@
 package com.jobrecruitment.backend.services.impl;
 
+import com.jobrecruitment.backend.cache.ReferenceDataRegistry;
 import com.jobrecruitment.backend.dtos.request.CandidateRegisterRequest;
 import com.jobrecruitment.backend.dtos.request.CompanyRegisterRequest;
 import com.jobrecruitment.backend.dtos.request.LoginRequest;
@@ -13,11 +14,13 @@ import com.jobrecruitment.backend.exceptions.ResourceNotFoundException;
 import com.jobrecruitment.backend.exceptions.ValidationException;
 import com.jobrecruitment.backend.repositories.CandidateRepository;
 import com.jobrecruitment.backend.repositories.CompanyRepository;
-import com.jobrecruitment.backend.repositories.RoleRepository;
 import com.jobrecruitment.backend.repositories.UserRepository;
+import com.jobrecruitment.backend.search.JobRecommender;
+import com.jobrecruitment.backend.search.SkillMatcher;
 import com.jobrecruitment.backend.services.AuthService;
 import com.jobrecruitment.backend.utils.CodeGenerator;
 import com.jobrecruitment.backend.utils.JwtUtils;
+import com.jobrecruitment.backend.utils.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -31,13 +34,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final CompanyRepository companyRepository;
     private final CandidateRepository candidateRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
     private final CodeGenerator codeGenerator;
+    private final SkillMatcher skillMatcher;
+    private final JobRecommender jobRecommender;
 
     @Override
     @Transactional
@@ -52,7 +57,7 @@ public class AuthServiceImpl implements AuthService {
         }
 
         // Get DN role
-        Role dnRole = roleRepository.findByRoleCode("DN")
+        Role dnRole = referenceDataRegistry.findRole("DN")
                 .orElseThrow(() -> new ResourceNotFoundException("Role DN not found"));
 
         // Generate unique CompanyCode
@@ -105,7 +110,7 @@ public class AuthServiceImpl implements AuthService {
         }
 
         // Get UV role
-        Role uvRole = roleRepository.findByRoleCode("UV")
+        Role uvRole = referenceDataRegistry.findRole("UV")
                 .orElseThrow(() -> new ResourceNotFoundException("Role UV not found"));
 
         // Generate unique CandidateCode
@@ -132,7 +137,11 @@ public class AuthServiceImpl implements AuthService {
         candidate.setCandidateEducation(request.getCandidateEducation());
         candidate.setCandidateExp(request.getCandidateExp());
         candidate.setCandidateSkills(request.getCandidateSkills());
-        candidateRepository.save(candidate);
+        Candidate savedCandidate = candidateRepository.save(candidate);
+        TransactionCallbacks.afterCommit(() -> {
+            skillMatcher.indexCandidate(savedCandidate.getCandidateId(), savedCandidate.getCandidateSkills());
+            jobRecommender.refreshCandidate(savedCandidate.getCandidateId());
+        });
 
         // Generate JWT token
         String token = jwtUtils.generateToken(savedUser.getUsername());
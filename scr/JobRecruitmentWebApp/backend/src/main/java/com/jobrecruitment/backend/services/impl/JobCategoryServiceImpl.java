@@ -0,0 +1,67 @@
+package com.jobrecruitment.backend.services.impl;
+
+import com.jobrecruitment.backend.cache.ReferenceDataRegistry;
+import com.jobrecruitment.backend.dtos.request.JobCategoryRequest;
+import com.jobrecruitment.backend.dtos.response.JobCategoryResponse;
+import com.jobrecruitment.backend.entities.JobCategory;
+import com.jobrecruitment.backend.exceptions.ResourceNotFoundException;
+import com.jobrecruitment.backend.exceptions.ValidationException;
+import com.jobrecruitment.backend.mappers.JobCategoryMapper;
+import com.jobrecruitment.backend.repositories.JobCategoryRepository;
+import com.jobrecruitment.backend.services.JobCategoryService;
+import com.jobrecruitment.backend.utils.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class JobCategoryServiceImpl implements JobCategoryService {
+
+    private final JobCategoryRepository jobCategoryRepository;
+    private final JobCategoryMapper jobCategoryMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    @Override
+    public List<JobCategoryResponse> getAllCategories() {
+        return referenceDataRegistry.getCategories();
+    }
+
+    @Override
+    public JobCategoryResponse getCategoryById(Integer jcId) {
+        return referenceDataRegistry.getCategory(jcId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job category not found"));
+    }
+
+    @Override
+    @Transactional
+    public JobCategoryResponse createCategory(JobCategoryRequest request) {
+        if (jobCategoryRepository.existsByJcName(request.getJcName())) {
+            throw new ValidationException("jcName", request.getJcName(), "Job category name already exists");
+        }
+        
+        JobCategory savedCategory = jobCategoryRepository.save(jobCategoryMapper.toEntity(request));
+        TransactionCallbacks.afterCommit(referenceDataRegistry::refresh);
+        return jobCategoryMapper.toResponse(savedCategory);
+    }
+
+    @Override
+    @Transactional
+    public JobCategoryResponse updateCategory(Integer jcId, JobCategoryRequest request) {
+        JobCategory category = jobCategoryRepository.findById(jcId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job category not found"));
+        
+        if (!category.getJcName().equals(request.getJcName())
+                && jobCategoryRepository.existsByJcName(request.getJcName())) {
+            throw new ValidationException("jcName", request.getJcName(), "Job category name already exists");
+        }
+        
+        jobCategoryMapper.updateEntityFromRequest(category, request);
+        JobCategory updatedCategory = jobCategoryRepository.save(category);
+        // Also evicts cached job details, which embed the category name
+        TransactionCallbacks.afterCommit(referenceDataRegistry::refresh);
+        return jobCategoryMapper.toResponse(updatedCategory);
+    }
+}
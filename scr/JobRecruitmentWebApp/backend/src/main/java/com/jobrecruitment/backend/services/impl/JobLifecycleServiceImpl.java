@@ -0,0 +1,159 @@
+package com.jobrecruitment.backend.services.impl;
+
+import com.jobrecruitment.backend.cache.JobDetailCache;
+import com.jobrecruitment.backend.dtos.response.JobResponse;
+import com.jobrecruitment.backend.enums.JobStatus;
+import com.jobrecruitment.backend.enums.OutboxEventType;
+import com.jobrecruitment.backend.events.JobStatusChangedEvent;
+import com.jobrecruitment.backend.mappers.JobMapper;
+import com.jobrecruitment.backend.repositories.JobRepository;
+import com.jobrecruitment.backend.repositories.projections.JobStatusChange;
+import com.jobrecruitment.backend.repositories.projections.JobTransitionRow;
+import com.jobrecruitment.backend.search.JobRecommender;
+import com.jobrecruitment.backend.search.JobSearchIndex;
+import com.jobrecruitment.backend.search.SimilarJobIndex;
+import com.jobrecruitment.backend.services.JobLifecycleService;
+import com.jobrecruitment.backend.services.OutboxService;
+import com.jobrecruitment.backend.utils.DayTimingWheel;
+import com.jobrecruitment.backend.utils.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Job lifecycle
+ * Status changes are applied by one bulk UPDATE under a transaction-scoped advisory lock.
+ * Only the node holding the lock changes rows, but every node keeps its own caches
+ * (JobDetailCache, JobSearchIndex): a day-slot timing wheel tells each node which jobs
+ * change on a given day, so it can refresh exactly those once the run has committed.
+ *
+ * The wheel loads each day from the database when it enters the horizon; jobs created
+ * or re-dated later are tracked as they change: after commit on the node that changed
+ * them, through JobChangeSubscriber (outbox broadcast) on the others. The JOB_STATUS_CHANGED
+ * broadcast of the run itself also reaches nodes whose wheel missed a job.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobLifecycleServiceImpl implements JobLifecycleService {
+
+    // Advisory lock key shared by all nodes ("JOBLIFE" in ASCII)
+    private static final long LIFECYCLE_LOCK_KEY = 0x4A4F424C494645L;
+    private static final int WHEEL_DAYS = 64;
+    private static final int REFRESH_BATCH_SIZE = 500;
+
+    private final JobRepository jobRepository;
+    private final JobMapper jobMapper;
+    private final JobDetailCache jobDetailCache;
+    private final JobSearchIndex jobSearchIndex;
+    private final JobRecommender jobRecommender;
+    private final SimilarJobIndex similarJobIndex;
+    private final OutboxService outboxService;
+
+    // Guarded by this; created by the first run
+    private DayTimingWheel wheel;
+
+    @Override
+    @Transactional
+    public int runTransitions(LocalDate today) {
+        // Waits for a run in progress on another node; its changes are visible to the UPDATE below
+        jobRepository.acquireTransactionLock(LIFECYCLE_LOCK_KEY);
+        LocalDateTime now = LocalDateTime.now();
+        List<JobStatusChange> changes = jobRepository.transitionDueJobs(today, now);
+        if (!changes.isEmpty()) {
+            outboxService.record(OutboxEventType.JOB_STATUS_CHANGED, new JobStatusChangedEvent(changes, now));
+        }
+        List<Long> changed = changes.stream().map(JobStatusChange::jobId).toList();
+        // The wheel also covers jobs another node's run changed before this one took the lock
+        TransactionCallbacks.afterCommit(() -> {
+            Set<Long> due = advanceWheel(today);
+            due.addAll(changed);
+            refresh(due);
+        });
+        return changed.size();
+    }
+
+    @Override
+    public void track(JobResponse job) {
+        track(job.getJobId(), job.getJobStatus(), job.getStartDate(), job.getEndDate());
+    }
+
+    @Override
+    public synchronized void track(Long jobId, JobStatus status, LocalDate startDate, LocalDate endDate) {
+        if (wheel == null) {
+            return;
+        }
+        LocalDate due = status.nextTransitionDate(startDate, endDate);
+        if (due != null) {
+            wheel.schedule(jobId, due);
+        }
+    }
+
+    /**
+     * Move the wheel to today and load the days that entered its horizon
+     * Returns the ids due on the days passed over
+     */
+    private synchronized Set<Long> advanceWheel(LocalDate today) {
+        if (wheel == null) {
+            wheel = new DayTimingWheel(WHEEL_DAYS, today);
+            schedule(today.plusDays(1), wheel.horizon());
+            return new HashSet<>();
+        }
+        LocalDate loadedUntil = wheel.horizon();
+        Set<Long> due = wheel.advance(today);
+        LocalDate from = loadedUntil.isBefore(today) ? today.plusDays(1) : loadedUntil.plusDays(1);
+        if (!from.isAfter(wheel.horizon())) {
+            schedule(from, wheel.horizon());
+        }
+        return due;
+    }
+
+    private void schedule(LocalDate from, LocalDate to) {
+        for (JobTransitionRow row : jobRepository.findTransitionsBetween(from, to)) {
+            wheel.schedule(row.getJobId(), row.getDueDate());
+        }
+    }
+
+    @Override
+    public List<JobResponse> refresh(Collection<Long> jobIds) {
+        List<Long> ids = new ArrayList<>(jobIds);
+        List<JobResponse> found = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += REFRESH_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + REFRESH_BATCH_SIZE, ids.size()));
+            Map<Long, JobResponse> jobsById = jobRepository.findWithDetailsByJobIdIn(batch).stream()
+                    .map(jobMapper::toResponse)
+                    .collect(Collectors.toMap(JobResponse::getJobId, Function.identity()));
+            jobDetailCache.invalidateAll(batch);
+            List<Long> missing = new ArrayList<>();
+            for (Long jobId : batch) {
+                JobResponse job = jobsById.get(jobId);
+                if (job == null) {
+                    missing.add(jobId);
+                } else {
+                    track(job);
+                }
+            }
+            jobSearchIndex.removeAll(missing);
+            jobSearchIndex.indexAll(jobsById.values());
+            jobRecommender.removeAll(missing);
+            jobRecommender.indexAll(jobsById.values());
+            similarJobIndex.removeAll(missing);
+            similarJobIndex.indexAll(jobsById.values());
+            found.addAll(jobsById.values());
+        }
+        log.debug("Job lifecycle refreshed {} jobs", ids.size());
+        return found;
+    }
+}
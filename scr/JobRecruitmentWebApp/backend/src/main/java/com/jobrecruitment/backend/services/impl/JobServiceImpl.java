@@ -1,40 +1,112 @@
 package com.jobrecruitment.backend.services.impl;
 
+import com.jobrecruitment.backend.cache.JobApplicantCounters;
+import com.jobrecruitment.backend.cache.JobDetailCache;
+import com.jobrecruitment.backend.cache.ReferenceDataRegistry;
+import com.jobrecruitment.backend.dtos.request.BulkJobStatusRequest;
+import com.jobrecruitment.backend.dtos.request.JobQueryRequest;
 import com.jobrecruitment.backend.dtos.request.JobRequest;
+import com.jobrecruitment.backend.dtos.response.BulkJobImportResponse;
+import com.jobrecruitment.backend.dtos.response.BulkJobStatusResponse;
+import com.jobrecruitment.backend.dtos.response.BulkRowError;
+import com.jobrecruitment.backend.dtos.response.CursorPage;
+import com.jobrecruitment.backend.dtos.response.FacetCountResponse;
+import com.jobrecruitment.backend.dtos.response.JobFacetsResponse;
 import com.jobrecruitment.backend.dtos.response.JobResponse;
+import com.jobrecruitment.backend.dtos.response.JobSummaryResponse;
+import com.jobrecruitment.backend.entities.Candidate;
 import com.jobrecruitment.backend.entities.Company;
 import com.jobrecruitment.backend.entities.Job;
 import com.jobrecruitment.backend.entities.JobCategory;
 import com.jobrecruitment.backend.entities.User;
 import com.jobrecruitment.backend.enums.JobStatus;
+import com.jobrecruitment.backend.enums.OutboxEventType;
+import com.jobrecruitment.backend.enums.SalaryBucket;
+import com.jobrecruitment.backend.events.JobChangedEvent;
+import com.jobrecruitment.backend.events.JobStatusChangedEvent;
+import com.jobrecruitment.backend.exceptions.BulkValidationException;
 import com.jobrecruitment.backend.exceptions.ResourceNotFoundException;
 import com.jobrecruitment.backend.exceptions.ValidationException;
 import com.jobrecruitment.backend.mappers.JobMapper;
+import com.jobrecruitment.backend.repositories.CandidateRepository;
 import com.jobrecruitment.backend.repositories.CompanyRepository;
-import com.jobrecruitment.backend.repositories.JobCategoryRepository;
 import com.jobrecruitment.backend.repositories.JobRepository;
 import com.jobrecruitment.backend.repositories.UserRepository;
+import com.jobrecruitment.backend.repositories.projections.JobFacetRow;
+import com.jobrecruitment.backend.repositories.projections.JobSearchHit;
+import com.jobrecruitment.backend.repositories.projections.JobStatusChange;
+import com.jobrecruitment.backend.repositories.projections.JobVersion;
+import com.jobrecruitment.backend.repositories.specifications.JobSpecifications;
+import com.jobrecruitment.backend.search.JobRecommender;
+import com.jobrecruitment.backend.search.JobSearchIndex;
+import com.jobrecruitment.backend.search.SearchOperator;
+import com.jobrecruitment.backend.search.SimilarJobIndex;
+import com.jobrecruitment.backend.search.SkillMatcher;
+import com.jobrecruitment.backend.services.JobLifecycleService;
 import com.jobrecruitment.backend.services.JobService;
+import com.jobrecruitment.backend.services.OutboxService;
 import com.jobrecruitment.backend.utils.CodeGenerator;
+import com.jobrecruitment.backend.utils.CsvReader;
+import com.jobrecruitment.backend.utils.KeysetCursor;
+import com.jobrecruitment.backend.utils.Pagination;
+import com.jobrecruitment.backend.utils.RankCursor;
+import com.jobrecruitment.backend.utils.ResourceVersion;
+import com.jobrecruitment.backend.utils.TransactionCallbacks;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.Reader;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class JobServiceImpl implements JobService {
 
+    // Locations are free text: only the most frequent ones are returned as facets
+    private static final int MAX_LOCATION_FACETS = 20;
+    // Rows per bulk import request
+    private static final int MAX_IMPORT_ROWS = 5000;
+    // Jobs reloaded per query when re-indexing after a bulk status change
+    private static final int REINDEX_BATCH_SIZE = 500;
+    // CSV import header names (JobRequest fields)
+    private static final List<String> CSV_COLUMNS = List.of(
+            "jcId", "jobTitle", "jobDescription", "jobRequirement", "jobSalary",
+            "jobLocation", "startDate", "endDate", "maxCandidates");
+
     private final JobRepository jobRepository;
     private final CompanyRepository companyRepository;
-    private final JobCategoryRepository jobCategoryRepository;
+    private final CandidateRepository candidateRepository;
     private final UserRepository userRepository;
     private final CodeGenerator codeGenerator;
     private final JobMapper jobMapper;
+    private final JobSearchIndex jobSearchIndex;
+    private final SkillMatcher skillMatcher;
+    private final JobRecommender jobRecommender;
+    private final SimilarJobIndex similarJobIndex;
+    private final JobDetailCache jobDetailCache;
+    private final JobApplicantCounters jobApplicantCounters;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final JobLifecycleService jobLifecycleService;
+    private final OutboxService outboxService;
+    private final Validator validator;
 
     @Override
     @Transactional
@@ -51,43 +123,64 @@ public class JobServiceImpl implements JobService {
             throw new ValidationException("Start date cannot be after end date");
         }
 
-        // Get job category
-        JobCategory jobCategory = jobCategoryRepository.findById(request.getJcId())
+        // Get job category (in-memory reference data)
+        JobCategory jobCategory = referenceDataRegistry.findCategory(request.getJcId())
                 .orElseThrow(() -> new ResourceNotFoundException("Job category not found"));
 
         // Generate unique JobCode
         String jobCode = codeGenerator.generateJobCode(code -> jobRepository.existsByJobCode(code));
 
-        // Create job entity
-        Job job = new Job();
-        job.setCompany(company);
-        job.setJobCategory(jobCategory);
-        job.setJobCode(jobCode);
-        job.setJobTitle(request.getJobTitle());
-        job.setJobDescription(request.getJobDescription());
-        job.setJobRequirement(request.getJobRequirement());
-        job.setJobSalary(request.getJobSalary());
-        job.setJobLocation(request.getJobLocation());
-        job.setStartDate(request.getStartDate());
-        job.setEndDate(request.getEndDate());
-        job.setMaxCandidates(request.getMaxCandidates());
+        Job savedJob = jobRepository.save(newJob(request, company, jobCategory, jobCode, LocalDate.now()));
+        recordJobChange(OutboxEventType.JOB_CREATED, company.getCompanyId(), List.of(savedJob.getJobId()));
+        JobResponse response = jobMapper.toResponse(savedJob);
+        TransactionCallbacks.afterCommit(() -> {
+            jobDetailCache.invalidate(response.getJobId());
+            jobSearchIndex.index(response);
+            jobRecommender.index(response);
+            similarJobIndex.index(response);
+            skillMatcher.index(response);
+            jobLifecycleService.track(response);
+        });
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public BulkJobImportResponse importJobs(List<JobRequest> requests, String username) {
+        return importRows(requests, new ArrayList<>(), username);
+    }
+
+    @Override
+    @Transactional
+    public BulkJobImportResponse importJobsCsv(Reader csv, String username) {
+        CsvReader reader = new CsvReader(csv);
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            throw new ValidationException("CSV is empty");
+        }
+        for (String column : header) {
+            if (!CSV_COLUMNS.contains(column.trim())) {
+                throw new ValidationException("column", column, "Unknown CSV column, expected any of " + CSV_COLUMNS);
+            }
+        }
         
-        // Set job status: WAIT if startDate is in the future, otherwise PENDING
-        if (request.getStartDate().isAfter(LocalDate.now())) {
-            job.setJobStatus(JobStatus.WAIT);
-        } else {
-            job.setJobStatus(JobStatus.PENDING);
+        List<JobRequest> requests = new ArrayList<>();
+        List<BulkRowError> errors = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            if (requests.size() == MAX_IMPORT_ROWS) {
+                throw new ValidationException("Too many rows: at most " + MAX_IMPORT_ROWS + " jobs per import");
+            }
+            requests.add(parseCsvRow(header, record, requests.size() + 1, errors));
         }
-
-        Job savedJob = jobRepository.save(job);
-        return jobMapper.toResponse(savedJob);
+        return importRows(requests, errors, username);
     }
 
     @Override
     @Transactional
     public JobResponse updateJob(Long jobId, JobRequest request, String username) {
         // Get job and validate ownership
-        Job job = jobRepository.findById(jobId)
+        Job job = jobRepository.findWithDetailsByJobId(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
         
         validateJobOwnership(job, username);
@@ -99,75 +192,216 @@ public class JobServiceImpl implements JobService {
 
         // Get job category if changed
         if (!job.getJobCategory().getJcId().equals(request.getJcId())) {
-            JobCategory jobCategory = jobCategoryRepository.findById(request.getJcId())
+            JobCategory jobCategory = referenceDataRegistry.findCategory(request.getJcId())
                     .orElseThrow(() -> new ResourceNotFoundException("Job category not found"));
             job.setJobCategory(jobCategory);
         }
 
-        // Update job fields
+        // Update job fields; new dates may open or close the job right away
         jobMapper.updateEntityFromRequest(job, request);
+        job.setJobStatus(job.getJobStatus().onDate(job.getStartDate(), job.getEndDate(), LocalDate.now()));
         
         Job updatedJob = jobRepository.save(job);
-        return jobMapper.toResponse(updatedJob);
+        recordJobChange(OutboxEventType.JOB_UPDATED, job.getCompany().getCompanyId(), List.of(jobId));
+        JobResponse response = jobMapper.toResponse(updatedJob);
+        TransactionCallbacks.afterCommit(() -> {
+            jobDetailCache.invalidate(response.getJobId());
+            jobSearchIndex.index(response);
+            jobRecommender.index(response);
+            similarJobIndex.index(response);
+            skillMatcher.index(response);
+            jobLifecycleService.track(response);
+        });
+        return response;
     }
 
     @Override
     public JobResponse getJobById(Long jobId) {
-        Job job = jobRepository.findById(jobId)
+        // Read-through: concurrent misses for one id share a single load
+        JobDetailCache.Entry entry = jobDetailCache.get(jobId, this::loadJobDetail);
+        // Applies do not invalidate the cached detail: spots come from the counter mirror
+        return jobApplicantCounters.withLatestSpots(entry.job());
+    }
+
+    @Override
+    public JobResponse getJobById(Long jobId, ResourceVersion version) {
+        JobDetailCache.Entry entry = jobDetailCache.get(jobId, this::loadJobDetail);
+        if (entry.lastModified() < version.lastModified()) {
+            // Older than the version row just read (changed on another node, or a missed
+            // invalidation): reload so the body matches the ETag sent with it
+            entry = loadJobDetail(jobId);
+            jobDetailCache.refresh(jobId, entry);
+        }
+        return jobApplicantCounters.withLatestSpots(entry.job());
+    }
+
+    /**
+     * Load a job detail with its version, computed like findVersionByJobId
+     * (latest of job, company and category updatedAt; GREATEST ignores nulls)
+     */
+    private JobDetailCache.Entry loadJobDetail(Long jobId) {
+        Job job = jobRepository.findWithDetailsByJobId(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+        jobApplicantCounters.observe(jobId, job.getAppliedCount());
+        LocalDateTime lastModified = Stream.of(
+                        job.getUpdatedAt(), job.getCompany().getUpdatedAt(), job.getJobCategory().getUpdatedAt())
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return new JobDetailCache.Entry(jobMapper.toResponse(job), ResourceVersion.of(lastModified).lastModified());
+    }
+
+    @Override
+    public ResourceVersion getJobVersion(Long jobId) {
+        JobVersion version = jobRepository.findVersionByJobId(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
-        return jobMapper.toResponse(job);
+        // Fresh count from the database: keeps this node's mirror current for the detail that follows
+        jobApplicantCounters.observe(jobId, version.getAppliedCount());
+        return ResourceVersion.of(version.getLastModified(), version.getAppliedCount());
     }
 
     @Override
-    public List<JobResponse> getAllJobs(JobStatus status) {
-        List<Job> jobs;
+    public CursorPage<JobSummaryResponse> getAllJobs(JobStatus status, String cursor, Integer size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = Pagination.resolveSize(size);
+        
+        List<JobSummaryResponse> jobs;
         if (status != null) {
-            jobs = jobRepository.findByJobStatus(status);
+            jobs = jobRepository.findSummaryPageByStatus(status, after.time(), after.id(), Pagination.limitFor(pageSize));
         } else {
-            jobs = jobRepository.findAll();
+            jobs = jobRepository.findSummaryPage(after.time(), after.id(), Pagination.limitFor(pageSize));
+        }
+        return toPage(jobs, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllJobs(JobStatus status, Consumer<JobSummaryResponse> sink) {
+        try (Stream<JobSummaryResponse> jobs = status != null
+                ? jobRepository.streamSummariesByStatus(status)
+                : jobRepository.streamSummaries()) {
+            jobs.forEach(sink);
         }
-        return jobs.stream()
-                .map(jobMapper::toResponse)
-                .collect(Collectors.toList());
     }
 
     @Override
-    public List<JobResponse> getJobsByCompany(Long companyId) {
+    public CursorPage<JobSummaryResponse> getJobsByCompany(Long companyId, String cursor, Integer size) {
         // Validate company exists
         companyRepository.findById(companyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Company not found"));
         
-        List<Job> jobs = jobRepository.findByCompanyCompanyId(companyId);
-        return jobs.stream()
-                .map(jobMapper::toResponse)
-                .collect(Collectors.toList());
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = Pagination.resolveSize(size);
+        
+        List<JobSummaryResponse> jobs = jobRepository.findSummaryPageByCompany(
+                companyId, after.time(), after.id(), Pagination.limitFor(pageSize));
+        return toPage(jobs, pageSize);
+    }
+
+    @Override
+    public ResourceVersion getJobsByCompanyVersion(Long companyId) {
+        return jobRepository.findJobsVersionByCompanyId(companyId)
+                .map(version -> ResourceVersion.of(version.getLastModified(), version.getCount()))
+                .orElseThrow(() -> new ResourceNotFoundException("Company not found"));
     }
 
     @Override
-    public List<JobResponse> getMyJobs(String username) {
+    public List<JobSummaryResponse> getMyJobs(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         
         Company company = companyRepository.findByUserUserId(user.getUserId())
                 .orElseThrow(() -> new ResourceNotFoundException("Company profile not found"));
         
-        List<Job> jobs = jobRepository.findByCompanyCompanyId(company.getCompanyId());
-        return jobs.stream()
-                .map(jobMapper::toResponse)
-                .collect(Collectors.toList());
+        return jobRepository.findSummariesByCompanyId(company.getCompanyId());
+    }
+
+    @Override
+    public List<JobSummaryResponse> getRecommendedJobs(String username, Integer size) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        
+        Candidate candidate = candidateRepository.findByUserUserId(user.getUserId())
+                .orElseThrow(() -> new ResourceNotFoundException("Candidate profile not found"));
+        
+        return jobRecommender.recommend(candidate.getCandidateId(), Pagination.resolveSize(size));
+    }
+
+    @Override
+    public List<JobSummaryResponse> getSimilarJobs(Long jobId, Integer size) {
+        int limit = Pagination.resolveSize(size);
+        return similarJobIndex.similar(jobId, limit)
+                // Not indexed (not ACTIVE): signature from the job itself, 404 if it does not exist
+                .orElseGet(() -> similarJobIndex.similarTo(getJobById(jobId), limit));
     }
 
     @Override
     @Transactional
     public JobResponse updateJobStatus(Long jobId, JobStatus newStatus, String username) {
-        Job job = jobRepository.findById(jobId)
+        Job job = jobRepository.findWithDetailsByJobId(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
         
         validateJobOwnership(job, username);
         
-        job.setJobStatus(newStatus);
+        // ACTIVE must stay within the posting period: before startDate the job waits to open
+        LocalDate today = LocalDate.now();
+        if (newStatus == JobStatus.ACTIVE && job.getEndDate().isBefore(today)) {
+            throw new ValidationException("status", newStatus, "Job posting period has ended (" + job.getEndDate() + ")");
+        }
+        JobStatus previousStatus = job.getJobStatus();
+        job.setJobStatus(newStatus.onDate(job.getStartDate(), job.getEndDate(), today));
         Job updatedJob = jobRepository.save(job);
-        return jobMapper.toResponse(updatedJob);
+        if (job.getJobStatus() != previousStatus) {
+            recordStatusChanges(List.of(statusChange(job)));
+        }
+        JobResponse response = jobMapper.toResponse(updatedJob);
+        TransactionCallbacks.afterCommit(() -> {
+            jobDetailCache.invalidate(response.getJobId());
+            jobSearchIndex.index(response);
+            jobRecommender.index(response);
+            similarJobIndex.index(response);
+            jobLifecycleService.track(response);
+        });
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public BulkJobStatusResponse bulkUpdateJobStatus(BulkJobStatusRequest request, String username, boolean admin) {
+        boolean byIds = request.getJobIds() != null && !request.getJobIds().isEmpty();
+        
+        // Employers are always scoped to their own company
+        Long companyId = request.getCompanyId();
+        if (!admin) {
+            Long ownCompanyId = companyRepository.findCompanyIdByUsername(username)
+                    .orElseThrow(() -> new ResourceNotFoundException("Company profile not found"));
+            if (companyId != null && !companyId.equals(ownCompanyId)) {
+                throw new AccessDeniedException("You can only modify your own jobs");
+            }
+            companyId = ownCompanyId;
+        }
+        
+        // Never touch every job in the system by accident
+        if (!byIds && companyId == null && request.getCurrentStatus() == null && request.getEndDateBefore() == null) {
+            throw new ValidationException("jobIds", null, "Select jobs by jobIds or at least one filter");
+        }
+        
+        List<JobStatusChange> changes = jobRepository.updateStatuses(request, companyId, LocalDate.now(), LocalDateTime.now());
+        
+        Map<JobStatus, Long> statusCounts = changes.stream()
+                .collect(Collectors.groupingBy(JobStatusChange::jobStatus, () -> new EnumMap<>(JobStatus.class), Collectors.counting()));
+        List<Long> skippedJobIds = List.of();
+        if (byIds) {
+            Set<Long> changedIds = changes.stream().map(JobStatusChange::jobId).collect(Collectors.toSet());
+            skippedJobIds = request.getJobIds().stream()
+                    .filter(jobId -> !changedIds.contains(jobId))
+                    .distinct()
+                    .toList();
+        }
+        
+        recordStatusChanges(changes);
+        TransactionCallbacks.afterCommit(() -> refreshAfterBulkStatus(changes));
+        return new BulkJobStatusResponse(changes.size(), statusCounts, skippedJobIds);
     }
 
     @Override
@@ -179,20 +413,54 @@ public class JobServiceImpl implements JobService {
         validateJobOwnership(job, username);
         
         // Soft delete: set status to HIDDEN
-        job.setJobStatus(JobStatus.HIDDEN);
+        if (job.getJobStatus() != JobStatus.HIDDEN) {
+            job.setJobStatus(JobStatus.HIDDEN);
+            recordStatusChanges(List.of(statusChange(job)));
+        }
         jobRepository.save(job);
+        TransactionCallbacks.afterCommit(() -> {
+            jobDetailCache.invalidate(jobId);
+            jobSearchIndex.remove(jobId);
+            jobRecommender.remove(jobId);
+            similarJobIndex.remove(jobId);
+        });
     }
 
     @Override
-    public List<JobResponse> searchJobs(String keyword) {
-        List<Job> jobs = jobRepository.searchJobs(keyword);
-        return jobs.stream()
-                .map(jobMapper::toResponse)
-                .collect(Collectors.toList());
+    public CursorPage<JobSummaryResponse> searchJobs(String keyword, String cursor, Integer size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new ValidationException("keyword", keyword, "Search keyword must not be empty");
+        }
+        
+        RankCursor after = RankCursor.decode(cursor);
+        int pageSize = Pagination.resolveSize(size);
+        
+        // Rank matching ids in the full-text index, then load only the page's jobs
+        List<JobSearchHit> hits = jobRepository.searchJobs(keyword, after.rank(), after.id(), pageSize + 1);
+        CursorPage<JobSearchHit> page = CursorPage.of(
+                hits, pageSize, hit -> new RankCursor(hit.getRank(), hit.getJobId()).encode());
+        
+        Map<Long, JobSummaryResponse> jobsById = jobRepository.findSummariesByJobIdIn(
+                        page.getItems().stream().map(JobSearchHit::getJobId).toList())
+                .stream()
+                .collect(Collectors.toMap(JobSummaryResponse::getJobId, Function.identity()));
+        return page.map(hit -> jobsById.get(hit.getJobId()));
     }
 
     @Override
-    public List<JobResponse> filterBySalary(Double minSalary, Double maxSalary) {
+    public CursorPage<JobSummaryResponse> quickSearch(String query, SearchOperator operator, String cursor, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("q", query, "Search query must not be empty");
+        }
+        return jobSearchIndex.search(
+                query,
+                operator != null ? operator : SearchOperator.AND,
+                RankCursor.decode(cursor),
+                Pagination.resolveSize(size));
+    }
+
+    @Override
+    public CursorPage<JobSummaryResponse> filterBySalary(Double minSalary, Double maxSalary, String cursor, Integer size) {
         if (minSalary < 0 || maxSalary < 0) {
             throw new ValidationException("Salary values must be non-negative");
         }
@@ -200,22 +468,279 @@ public class JobServiceImpl implements JobService {
             throw new ValidationException("Minimum salary cannot be greater than maximum salary");
         }
         
-        List<Job> jobs = jobRepository.findBySalaryRange(minSalary, maxSalary);
-        return jobs.stream()
-                .map(jobMapper::toResponse)
-                .collect(Collectors.toList());
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = Pagination.resolveSize(size);
+        
+        List<JobSummaryResponse> jobs = jobRepository.findSummaryPageBySalaryRange(
+                minSalary, maxSalary, after.time(), after.id(), Pagination.limitFor(pageSize));
+        return toPage(jobs, pageSize);
     }
 
     @Override
-    public List<JobResponse> getJobsByCategory(Integer jcid) {
+    public CursorPage<JobSummaryResponse> getJobsByCategory(Integer jcid, String cursor, Integer size) {
         // Validate category exists
-        jobCategoryRepository.findById(jcid)
-                .orElseThrow(() -> new ResourceNotFoundException("Job category not found"));
+        if (!referenceDataRegistry.categoryExists(jcid)) {
+            throw new ResourceNotFoundException("Job category not found");
+        }
+        
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = Pagination.resolveSize(size);
+        
+        List<JobSummaryResponse> jobs = jobRepository.findSummaryPageByCategory(
+                jcid, after.time(), after.id(), Pagination.limitFor(pageSize));
+        return toPage(jobs, pageSize);
+    }
+
+    @Override
+    public CursorPage<JobSummaryResponse> queryJobs(JobQueryRequest filter, String cursor, Integer size) {
+        validateQuery(filter);
+        
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = Pagination.resolveSize(size);
+        
+        // One dynamic statement selecting only the summary columns
+        List<JobSummaryResponse> jobs = jobRepository.findSummaries(
+                JobSpecifications.matching(filter).and(JobSpecifications.after(after)),
+                pageSize + 1);
+        return toPage(jobs, pageSize);
+    }
+
+    @Override
+    public JobFacetsResponse getJobFacets(JobQueryRequest filter) {
+        validateQuery(filter);
+        
+        List<FacetCountResponse> categories = new ArrayList<>();
+        List<FacetCountResponse> salaryBuckets = new ArrayList<>();
+        List<FacetCountResponse> locations = new ArrayList<>();
+        for (JobFacetRow row : jobRepository.countFacets(filter)) {
+            switch (row.facet()) {
+                case JobFacetRow.CATEGORY ->
+                        categories.add(new FacetCountResponse(row.value(), row.label(), row.count()));
+                case JobFacetRow.SALARY ->
+                        salaryBuckets.add(new FacetCountResponse(
+                                row.value(), SalaryBucket.valueOf(row.value()).getDisplayName(), row.count()));
+                case JobFacetRow.LOCATION ->
+                        locations.add(new FacetCountResponse(row.value(), row.value(), row.count()));
+                default -> throw new IllegalStateException("Unknown facet: " + row.facet());
+            }
+        }
+        
+        Comparator<FacetCountResponse> byCountDesc = Comparator.comparingLong(FacetCountResponse::getCount).reversed();
+        categories.sort(byCountDesc);
+        salaryBuckets.sort(Comparator.comparing(facet -> SalaryBucket.valueOf(facet.getValue())));
+        locations.sort(byCountDesc);
+        return new JobFacetsResponse(
+                categories,
+                salaryBuckets,
+                locations.subList(0, Math.min(locations.size(), MAX_LOCATION_FACETS)));
+    }
+
+    /**
+     * Helper method to import validated rows in one transaction
+     * Any invalid row (including earlier parse errors) rejects the whole import.
+     * Company, categories and job codes are resolved once for all rows;
+     * INSERTs are batched (pooled sequence ids, hibernate.jdbc.batch_size).
+     */
+    private BulkJobImportResponse importRows(List<JobRequest> requests, List<BulkRowError> errors, String username) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ValidationException("No jobs to import");
+        }
+        if (requests.size() > MAX_IMPORT_ROWS) {
+            throw new ValidationException("Too many rows: at most " + MAX_IMPORT_ROWS + " jobs per import");
+        }
+        
+        for (int i = 0; i < requests.size(); i++) {
+            validateImportRow(requests.get(i), i + 1, errors);
+        }
+        if (!errors.isEmpty()) {
+            errors.sort(Comparator.comparingInt(BulkRowError::getRow));
+            long invalidRows = errors.stream().mapToInt(BulkRowError::getRow).distinct().count();
+            throw new BulkValidationException(
+                    invalidRows + " of " + requests.size() + " rows are invalid, no jobs were imported", errors);
+        }
         
-        List<Job> jobs = jobRepository.findByJobCategoryJcId(jcid);
-        return jobs.stream()
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        Company company = companyRepository.findByUserUserId(user.getUserId())
+                .orElseThrow(() -> new ResourceNotFoundException("Company profile not found"));
+        
+        List<String> jobCodes = codeGenerator.generateJobCodes(requests.size(),
+                codes -> jobRepository.findExistingJobCodes(codes.toArray(String[]::new)));
+        Map<Integer, JobCategory> categories = new HashMap<>();
+        LocalDate today = LocalDate.now();
+        List<Job> jobs = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            JobRequest request = requests.get(i);
+            JobCategory jobCategory = categories.computeIfAbsent(request.getJcId(),
+                    jcId -> referenceDataRegistry.findCategory(jcId)
+                            .orElseThrow(() -> new ResourceNotFoundException("Job category not found")));
+            jobs.add(newJob(request, company, jobCategory, jobCodes.get(i), today));
+        }
+        
+        // Flush so the response carries the generated timestamps
+        List<JobResponse> responses = jobRepository.saveAllAndFlush(jobs).stream()
                 .map(jobMapper::toResponse)
-                .collect(Collectors.toList());
+                .toList();
+        recordJobChange(OutboxEventType.JOB_CREATED, company.getCompanyId(),
+                responses.stream().map(JobResponse::getJobId).toList());
+        TransactionCallbacks.afterCommit(() -> responses.forEach(response -> {
+            jobSearchIndex.index(response);
+            jobRecommender.index(response);
+            similarJobIndex.index(response);
+            skillMatcher.index(response);
+            jobLifecycleService.track(response);
+        }));
+        return new BulkJobImportResponse(
+                responses.size(),
+                responses.stream().map(jobMapper::toSummary).toList());
+    }
+
+    /**
+     * Helper method to collect the errors of one import row
+     * Same rules as createJob: bean validation, StartDate <= EndDate, existing category
+     */
+    private void validateImportRow(JobRequest request, int row, List<BulkRowError> errors) {
+        if (request == null) {
+            errors.add(new BulkRowError(row, null, "Row is empty"));
+            return;
+        }
+        for (ConstraintViolation<JobRequest> violation : validator.validate(request)) {
+            errors.add(new BulkRowError(row, violation.getPropertyPath().toString(), violation.getMessage()));
+        }
+        if (request.getStartDate() != null && request.getEndDate() != null
+                && request.getStartDate().isAfter(request.getEndDate())) {
+            errors.add(new BulkRowError(row, "startDate", "Start date cannot be after end date"));
+        }
+        if (request.getJcId() != null && !referenceDataRegistry.categoryExists(request.getJcId())) {
+            errors.add(new BulkRowError(row, "jcId", "Job category not found"));
+        }
+    }
+
+    /**
+     * Helper method to convert one CSV record, columns named by the header
+     * Unparseable values are reported as row errors and left null
+     */
+    private JobRequest parseCsvRow(List<String> header, List<String> record, int row, List<BulkRowError> errors) {
+        JobRequest request = new JobRequest();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim();
+            String value = i < record.size() ? record.get(i).trim() : "";
+            if (value.isEmpty()) {
+                continue;
+            }
+            try {
+                switch (column) {
+                    case "jcId" -> request.setJcId(Integer.valueOf(value));
+                    case "jobTitle" -> request.setJobTitle(value);
+                    case "jobDescription" -> request.setJobDescription(value);
+                    case "jobRequirement" -> request.setJobRequirement(value);
+                    case "jobSalary" -> request.setJobSalary(Double.valueOf(value));
+                    case "jobLocation" -> request.setJobLocation(value);
+                    case "startDate" -> request.setStartDate(LocalDate.parse(value));
+                    case "endDate" -> request.setEndDate(LocalDate.parse(value));
+                    case "maxCandidates" -> request.setMaxCandidates(Integer.valueOf(value));
+                    default -> throw new IllegalStateException("Unhandled CSV column: " + column);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                errors.add(new BulkRowError(row, column, "Invalid value '" + value + "'"));
+            }
+        }
+        return request;
+    }
+
+    /**
+     * Helper method to build a new job posting
+     * Status: WAIT if startDate is in the future, otherwise PENDING
+     */
+    private Job newJob(JobRequest request, Company company, JobCategory jobCategory, String jobCode, LocalDate today) {
+        Job job = new Job();
+        job.setCompany(company);
+        job.setJobCategory(jobCategory);
+        job.setJobCode(jobCode);
+        job.setJobTitle(request.getJobTitle());
+        job.setJobDescription(request.getJobDescription());
+        job.setJobRequirement(request.getJobRequirement());
+        job.setJobSalary(request.getJobSalary());
+        job.setJobLocation(request.getJobLocation());
+        job.setStartDate(request.getStartDate());
+        job.setEndDate(request.getEndDate());
+        job.setMaxCandidates(request.getMaxCandidates());
+        job.setJobStatus(request.getStartDate().isAfter(today) ? JobStatus.WAIT : JobStatus.PENDING);
+        return job;
+    }
+
+    /**
+     * Helper method to validate the combined job filter
+     */
+    private void validateQuery(JobQueryRequest filter) {
+        if ((filter.getMinSalary() != null && filter.getMinSalary() < 0)
+                || (filter.getMaxSalary() != null && filter.getMaxSalary() < 0)) {
+            throw new ValidationException("Salary values must be non-negative");
+        }
+        if (filter.getMinSalary() != null && filter.getMaxSalary() != null
+                && filter.getMinSalary() > filter.getMaxSalary()) {
+            throw new ValidationException("Minimum salary cannot be greater than maximum salary");
+        }
+        if (filter.getPostedFrom() != null && filter.getPostedTo() != null
+                && filter.getPostedFrom().isAfter(filter.getPostedTo())) {
+            throw new ValidationException("postedFrom", filter.getPostedFrom(), "postedFrom cannot be after postedTo");
+        }
+    }
+
+    /**
+     * Helper method to build a keyset page of job summaries
+     * Cursor of the page is the (createdAt, jobId) of its last job
+     */
+    private CursorPage<JobSummaryResponse> toPage(List<JobSummaryResponse> jobs, int pageSize) {
+        return CursorPage.of(jobs, pageSize, job -> new KeysetCursor(job.getCreatedAt(), job.getJobId()).encode());
+    }
+
+    /**
+     * Record one JOB_CREATED/JOB_UPDATED outbox event for jobs of a company
+     */
+    private void recordJobChange(OutboxEventType eventType, Long companyId, List<Long> jobIds) {
+        outboxService.record(eventType, new JobChangedEvent(companyId, jobIds, LocalDateTime.now()));
+    }
+
+    /**
+     * Record one JOB_STATUS_CHANGED outbox event for all the changes, none when empty
+     */
+    private void recordStatusChanges(List<JobStatusChange> changes) {
+        if (!changes.isEmpty()) {
+            outboxService.record(OutboxEventType.JOB_STATUS_CHANGED, new JobStatusChangedEvent(changes, LocalDateTime.now()));
+        }
+    }
+
+    private static JobStatusChange statusChange(Job job) {
+        return new JobStatusChange(job.getJobId(), job.getJobStatus(), job.getStartDate(), job.getEndDate());
+    }
+
+    /**
+     * Bring caches in line with a bulk status change in one pass:
+     * evict details, drop jobs leaving ACTIVE from the index, reload and index jobs entering it
+     */
+    private void refreshAfterBulkStatus(List<JobStatusChange> changes) {
+        List<Long> changedIds = new ArrayList<>(changes.size());
+        List<Long> removedIds = new ArrayList<>();
+        List<Long> activatedIds = new ArrayList<>();
+        for (JobStatusChange change : changes) {
+            changedIds.add(change.jobId());
+            (change.jobStatus() == JobStatus.ACTIVE ? activatedIds : removedIds).add(change.jobId());
+            jobLifecycleService.track(change.jobId(), change.jobStatus(), change.startDate(), change.endDate());
+        }
+        jobDetailCache.invalidateAll(changedIds);
+        jobSearchIndex.removeAll(removedIds);
+        jobRecommender.removeAll(removedIds);
+        similarJobIndex.removeAll(removedIds);
+        for (int from = 0; from < activatedIds.size(); from += REINDEX_BATCH_SIZE) {
+            List<Long> batch = activatedIds.subList(from, Math.min(from + REINDEX_BATCH_SIZE, activatedIds.size()));
+            List<JobResponse> activated = jobRepository.findWithDetailsByJobIdIn(batch).stream()
+                    .map(jobMapper::toResponse)
+                    .toList();
+            jobSearchIndex.indexAll(activated);
+            jobRecommender.indexAll(activated);
+            similarJobIndex.indexAll(activated);
+        }
     }
 
     /**
@@ -0,0 +1,123 @@
+package com.jobrecruitment.backend.services.impl;
+
+import com.jobrecruitment.backend.entities.OutboxEvent;
+import com.jobrecruitment.backend.enums.OutboxEventType;
+import com.jobrecruitment.backend.events.OutboxMessage;
+import com.jobrecruitment.backend.events.OutboxPublisher;
+import com.jobrecruitment.backend.repositories.OutboxEventRepository;
+import com.jobrecruitment.backend.services.OutboxService;
+import com.jobrecruitment.backend.utils.NodeIdentity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Transactional outbox
+ *
+ * Services record events next to their entity changes; nothing is sent on the
+ * request thread. The relay (OutboxRelayScheduler) claims pending rows with
+ * FOR UPDATE SKIP LOCKED, so relays on several nodes share the work without
+ * delivering a row twice at the same time, and marks each row published once
+ * every publisher accepted it, in the claiming transaction.
+ *
+ * A failed row is retried after an exponential backoff (1s, 2s, 4s ... capped at
+ * MAX_BACKOFF) until max-attempts, then left in the table with its last error.
+ * Rows after a failed one are still delivered: order is only kept while nothing fails.
+ *
+ * The relay is for side effects that must happen once. In-memory state every node
+ * keeps for itself follows the rows through OutboxBroadcaster instead.
+ */
+@Slf4j
+@Service
+public class OutboxServiceImpl implements OutboxService {
+
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    // Looked up when relaying: subscribers use services that record events themselves
+    private final ObjectProvider<OutboxPublisher> publishers;
+    private final JsonMapper jsonMapper;
+    private final NodeIdentity nodeIdentity;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    public OutboxServiceImpl(
+            OutboxEventRepository outboxEventRepository,
+            ObjectProvider<OutboxPublisher> publishers,
+            JsonMapper jsonMapper,
+            NodeIdentity nodeIdentity,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.retention:7d}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.publishers = publishers;
+        this.jsonMapper = jsonMapper;
+        this.nodeIdentity = nodeIdentity;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OutboxEventType eventType, Object payload) {
+        outboxEventRepository.insertPending(
+                eventType.name(), jsonMapper.writeValueAsString(payload), LocalDateTime.now(), nodeIdentity.id());
+    }
+
+    @Override
+    @Transactional
+    public int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.claimPending(now, maxAttempts, batchSize);
+        List<OutboxPublisher> targets = publishers.orderedStream().toList();
+        for (OutboxEvent event : events) {
+            OutboxMessage message = new OutboxMessage(
+                    event.getOutboxId(), event.getEventType(), event.getPayload(), event.getCreatedAt(), event.getAttempts() + 1);
+            try {
+                for (OutboxPublisher publisher : targets) {
+                    publisher.publish(message);
+                }
+                event.setPublishedAt(now);
+            } catch (RuntimeException e) {
+                markFailed(event, e, now);
+            }
+        }
+        return events.size();
+    }
+
+    @Override
+    @Transactional
+    public int purgePublished() {
+        return outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    private void markFailed(OutboxEvent event, RuntimeException error, LocalDateTime now) {
+        int attempts = event.getAttempts() + 1;
+        String message = String.valueOf(error);
+        event.setAttempts(attempts);
+        event.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        event.setNextAttemptAt(now.plus(backoff(attempts)));
+        if (attempts >= maxAttempts) {
+            log.error("Outbox event {} ({}) failed {} times, giving up", event.getOutboxId(), event.getEventType(), attempts, error);
+        } else {
+            log.warn("Outbox event {} ({}) failed, attempt {} of {}", event.getOutboxId(), event.getEventType(), attempts, maxAttempts, error);
+        }
+    }
+
+    private static Duration backoff(int attempts) {
+        Duration delay = Duration.ofSeconds(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
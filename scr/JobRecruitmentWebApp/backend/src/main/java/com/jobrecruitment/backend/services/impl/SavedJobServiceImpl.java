@@ -5,6 +5,8 @@ import com.jobrecruitment.backend.entities.Candidate;
 import com.jobrecruitment.backend.entities.Job;
 import com.jobrecruitment.backend.entities.SavedJob;
 import com.jobrecruitment.backend.entities.User;
+import com.jobrecruitment.backend.enums.OutboxEventType;
+import com.jobrecruitment.backend.events.SavedJobEvent;
 import com.jobrecruitment.backend.exceptions.ResourceNotFoundException;
 import com.jobrecruitment.backend.exceptions.ValidationException;
 import com.jobrecruitment.backend.mappers.SavedJobMapper;
@@ -12,7 +14,10 @@ import com.jobrecruitment.backend.repositories.CandidateRepository;
 import com.jobrecruitment.backend.repositories.JobRepository;
 import com.jobrecruitment.backend.repositories.SavedJobRepository;
 import com.jobrecruitment.backend.repositories.UserRepository;
+import com.jobrecruitment.backend.search.JobRecommender;
+import com.jobrecruitment.backend.services.OutboxService;
 import com.jobrecruitment.backend.services.SavedJobService;
+import com.jobrecruitment.backend.utils.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +35,8 @@ public class SavedJobServiceImpl implements SavedJobService {
     private final CandidateRepository candidateRepository;
     private final UserRepository userRepository;
     private final SavedJobMapper savedJobMapper;
+    private final OutboxService outboxService;
+    private final JobRecommender jobRecommender;
 
     @Override
     @Transactional
@@ -42,7 +49,7 @@ public class SavedJobServiceImpl implements SavedJobService {
                 .orElseThrow(() -> new ResourceNotFoundException("Candidate profile not found"));
 
         // Get job
-        Job job = jobRepository.findById(jobId)
+        Job job = jobRepository.findWithDetailsByJobId(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
 
         // Check if already saved
@@ -57,6 +64,9 @@ public class SavedJobServiceImpl implements SavedJobService {
         savedJob.setSavedTime(LocalDateTime.now());
 
         SavedJob saved = savedJobRepository.save(savedJob);
+        outboxService.record(OutboxEventType.SAVED_JOB_ADDED,
+                new SavedJobEvent(candidate.getCandidateId(), jobId, saved.getSavedTime()));
+        TransactionCallbacks.afterCommit(() -> jobRecommender.refreshCandidate(candidate.getCandidateId()));
         return savedJobMapper.toResponse(saved);
     }
 
@@ -89,6 +99,9 @@ public class SavedJobServiceImpl implements SavedJobService {
                 .orElseThrow(() -> new ResourceNotFoundException("Saved job not found"));
 
         savedJobRepository.delete(savedJob);
+        outboxService.record(OutboxEventType.SAVED_JOB_REMOVED,
+                new SavedJobEvent(candidate.getCandidateId(), jobId, LocalDateTime.now()));
+        TransactionCallbacks.afterCommit(() -> jobRecommender.refreshCandidate(candidate.getCandidateId()));
     }
 
     @Override
@@ -0,0 +1,63 @@
+package com.jobrecruitment.backend.utils;
+
+import java.util.function.Consumer;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Writes the standard ApiResponse envelope with a data array produced item by item
+ * {"status": 200, "message": "...", "data": [ ... ]}
+ *
+ * Items are serialized as the producer emits them and flushed every
+ * EntityStreams.FETCH_SIZE items, so the list is never held in memory.
+ * An exception thrown before the first flush (e.g. not found, access denied)
+ * still reaches GlobalExceptionHandler as a normal error response.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiResponseStreamer {
+
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Stream the items passed by producer to its sink
+     * The producer runs on the async response thread, not the request thread.
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(String message, Consumer<Consumer<T>> producer) {
+        StreamingResponseBody body = output -> {
+            JsonGenerator generator = jsonMapper.writer()
+                    .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                    .createGenerator(output);
+            generator.writeStartObject();
+            generator.writeNumberProperty("status", HttpStatus.OK.value());
+            generator.writeStringProperty("message", message);
+            generator.writeName("data");
+            generator.writeStartArray();
+
+            int[] written = {0};
+            producer.accept(item -> {
+                generator.writePOJO(item);
+                if (++written[0] % EntityStreams.FETCH_SIZE == 0) {
+                    generator.flush();
+                }
+            });
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+            // Only closed on success: a failed stream must not flush a truncated document
+            generator.close();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
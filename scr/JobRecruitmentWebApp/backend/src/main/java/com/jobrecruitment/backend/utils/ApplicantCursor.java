@@ -0,0 +1,58 @@
+package com.jobrecruitment.backend.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.jobrecruitment.backend.enums.ApplicationStatus;
+import com.jobrecruitment.backend.exceptions.ValidationException;
+
+/**
+ * Keyset cursor for the applicant listing of a job
+ * Identifies the last row of a page by (status, applyTime, id); the status
+ * is only compared when the listing is sorted by status (see ApplicantSort).
+ *
+ * Token format: Base64URL("status|applyTime|id")
+ */
+public record ApplicantCursor(ApplicationStatus status, LocalDateTime applyTime, Long id) {
+
+    /**
+     * Cursor positioned before the first row
+     */
+    public static final ApplicantCursor START = new ApplicantCursor(null, LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encode cursor as an opaque URL-safe token
+     */
+    public String encode() {
+        String raw = status + SEPARATOR + applyTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode token sent by the client
+     *
+     * @param token Cursor token, or null/blank for the first page
+     * @return Decoded cursor, START when token is empty
+     * @throws ValidationException if the token is malformed
+     */
+    public static ApplicantCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            return new ApplicantCursor(
+                ApplicationStatus.valueOf(parts[0]),
+                LocalDateTime.parse(parts[1]),
+                Long.parseLong(parts[2])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+            throw new ValidationException("cursor", token, "Invalid pagination cursor");
+        }
+    }
+}
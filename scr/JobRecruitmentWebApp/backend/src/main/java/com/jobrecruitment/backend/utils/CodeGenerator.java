@@ -1,6 +1,13 @@
 package com.jobrecruitment.backend.utils;
 
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.springframework.stereotype.Component;
@@ -56,6 +63,41 @@ public class CodeGenerator {
         );
     }
     
+    /**
+     * Generate count distinct unique codes with the specified prefix
+     * Uniqueness is checked per round rather than per code: existingCodes receives all
+     * pending candidates and returns those already taken, which are regenerated.
+     * 
+     * @param prefix The code prefix (DN, UV, VL, CV, DX)
+     * @param count Number of codes to generate
+     * @param existingCodes Returns the given codes that already exist in database (one query)
+     * @return Generated unique codes
+     * @throws IllegalStateException if unable to generate enough unique codes after MAX_ATTEMPTS rounds
+     */
+    public List<String> generateCodes(String prefix, int count, Function<Collection<String>, Collection<String>> existingCodes) {
+        Set<String> codes = new LinkedHashSet<>(count * 2);
+        Set<String> candidates = new HashSet<>();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS && codes.size() < count; attempt++) {
+            candidates.clear();
+            while (codes.size() + candidates.size() < count) {
+                String code = generateCodeOnce(prefix);
+                if (!codes.contains(code)) {
+                    candidates.add(code);
+                }
+            }
+            candidates.removeAll(existingCodes.apply(candidates));
+            codes.addAll(candidates);
+        }
+        
+        if (codes.size() < count) {
+            throw new IllegalStateException(
+                String.format("Failed to generate %d unique codes with prefix '%s' after %d attempts", 
+                    count, prefix, MAX_ATTEMPTS)
+            );
+        }
+        return new ArrayList<>(codes);
+    }
+    
     /**
      * Generate a single code without uniqueness check
      * 
@@ -115,6 +157,18 @@ public class CodeGenerator {
         return generateCode(PREFIX_JOB, uniquenessChecker);
     }
     
+    /**
+     * Generate Job Codes in bulk
+     * Format: VL + 8 digits
+     * 
+     * @param count Number of codes to generate
+     * @param existingCodes Returns the given codes that already exist
+     * @return Generated unique job codes
+     */
+    public List<String> generateJobCodes(int count, Function<Collection<String>, Collection<String>> existingCodes) {
+        return generateCodes(PREFIX_JOB, count, existingCodes);
+    }
+    
     /**
      * Generate CV Code
      * Format: CV + 8 digits
@@ -136,4 +190,14 @@ public class CodeGenerator {
     public String generateApplicationCode(Predicate<String> uniquenessChecker) {
         return generateCode(PREFIX_APPLICATION, uniquenessChecker);
     }
+    
+    /**
+     * Generate Application Code without a uniqueness check
+     * For inserts that enforce uniqueness themselves and retry on conflict
+     * 
+     * @return Generated application code
+     */
+    public String generateApplicationCode() {
+        return generateCodeOnce(PREFIX_APPLICATION);
+    }
 }
@@ -0,0 +1,112 @@
+package com.jobrecruitment.backend.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 CSV reader
+ * Comma-separated fields; a field in double quotes may contain commas, line breaks
+ * and doubled quotes (""). Records end at CRLF or LF. A UTF-8 BOM is skipped.
+ * Reads one record at a time, so large uploads are not held in memory as text.
+ */
+public final class CsvReader {
+
+    private final Reader reader;
+    private boolean started;
+    private int next = -2;
+    private int recordNumber;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Number of records read so far (the current record's 1-based index)
+     */
+    public int getRecordNumber() {
+        return recordNumber;
+    }
+
+    /**
+     * Next record's fields, or null at end of input; blank lines are skipped
+     *
+     * @throws IllegalArgumentException on an unterminated quoted field
+     */
+    public List<String> readRecord() {
+        int c = peek();
+        while (c == '\r' || c == '\n') {
+            read();
+            c = peek();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            c = read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field in CSV record " + (recordNumber + 1));
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        field.append('"');
+                        read();
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                fields.add(field.toString());
+                recordNumber++;
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private int peek() {
+        if (next == -2) {
+            next = readChar();
+            if (!started) {
+                started = true;
+                if (next == '\uFEFF') {
+                    next = readChar();
+                }
+            }
+        }
+        return next;
+    }
+
+    private int read() {
+        int c = peek();
+        next = -2;
+        return c;
+    }
+
+    private int readChar() {
+        try {
+            return reader.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.jobrecruitment.backend.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Minimal RFC 4180 CSV writer (counterpart of CsvReader)
+ * Fields containing commas, quotes or line breaks are quoted, quotes doubled;
+ * records end with CRLF. Writes through to the given writer, nothing is buffered here.
+ *
+ * Spreadsheet formula injection: a field starting with = + - @ or a control
+ * character is prefixed with a single quote, so user text is never evaluated.
+ */
+public final class CsvWriter {
+
+    private static final char BOM = '\uFEFF';
+
+    private final Writer writer;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Write a UTF-8 byte order mark (spreadsheet apps then detect the encoding)
+     * Call first, before any record.
+     */
+    public void writeBom() {
+        try {
+            writer.write(BOM);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write one record; null fields are written empty
+     */
+    public void writeRecord(Object... fields) {
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (fields[i] != null) {
+                    writeField(fields[i].toString());
+                }
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeField(String value) throws IOException {
+        if (!value.isEmpty() && isFormulaStart(value.charAt(0))) {
+            value = "'" + value;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean isFormulaStart(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+}
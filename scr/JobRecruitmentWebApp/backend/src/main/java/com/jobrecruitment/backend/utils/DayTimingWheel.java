@@ -0,0 +1,74 @@
+package com.jobrecruitment.backend.utils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Timing wheel with one slot per day
+ * Holds the ids due on each day of (today, horizon], in a ring indexed by epoch day,
+ * so scheduling and collecting a day's ids cost O(1) per id.
+ * Ids due after the horizon are not held: the owner loads each day as it enters
+ * the horizon (see horizon() before and after advance()).
+ * Rescheduling an id adds it to the new day without removing it from the old one:
+ * the owner reloads due ids, so an early extra reload is harmless.
+ *
+ * Not thread-safe: callers synchronize.
+ */
+public final class DayTimingWheel {
+
+    private final List<Set<Long>> slots;
+    private LocalDate today;
+
+    public DayTimingWheel(int days, LocalDate today) {
+        this.slots = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            slots.add(new HashSet<>());
+        }
+        this.today = today;
+    }
+
+    public LocalDate today() {
+        return today;
+    }
+
+    /**
+     * Last day held by the wheel
+     */
+    public LocalDate horizon() {
+        return today.plusDays(slots.size() - 1);
+    }
+
+    /**
+     * Schedule id on day due; ignored (returns false) when due is not in (today, horizon]
+     */
+    public boolean schedule(long id, LocalDate due) {
+        if (!due.isAfter(today) || due.isAfter(horizon())) {
+            return false;
+        }
+        return slot(due).add(id);
+    }
+
+    /**
+     * Move today forward, returning the ids due on the days passed over
+     */
+    public Set<Long> advance(LocalDate newToday) {
+        Set<Long> due = new HashSet<>();
+        LocalDate last = newToday.isBefore(horizon()) ? newToday : horizon();
+        for (LocalDate day = today.plusDays(1); !day.isAfter(last); day = day.plusDays(1)) {
+            Set<Long> slot = slot(day);
+            due.addAll(slot);
+            slot.clear();
+        }
+        if (newToday.isAfter(today)) {
+            today = newToday;
+        }
+        return due;
+    }
+
+    private Set<Long> slot(LocalDate day) {
+        return slots.get((int) Math.floorMod(day.toEpochDay(), (long) slots.size()));
+    }
+}
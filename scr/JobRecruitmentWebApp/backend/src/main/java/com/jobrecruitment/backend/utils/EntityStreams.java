@@ -0,0 +1,42 @@
+package com.jobrecruitment.backend.utils;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Helpers for streaming large result sets
+ * Repository stream queries use FETCH_SIZE so the JDBC driver reads rows through a
+ * server-side cursor; clearing the persistence context every FETCH_SIZE rows detaches
+ * the processed entities, so memory stays constant however many rows are streamed.
+ *
+ * Must run inside a transaction (PostgreSQL only uses a cursor when autocommit is off).
+ */
+public final class EntityStreams {
+
+    /**
+     * Rows per JDBC round trip, also the detach interval
+     * Repository hints repeat the literal (annotation values must be constants).
+     */
+    public static final int FETCH_SIZE = 500;
+
+    private EntityStreams() {
+    }
+
+    /**
+     * Apply action to each row, detaching processed entities as the stream advances
+     * Closes the stream (and its cursor) when done
+     */
+    public static <E> void forEachDetached(Stream<E> rows, EntityManager entityManager, Consumer<? super E> action) {
+        try (rows) {
+            int processed = 0;
+            for (var iterator = rows.iterator(); iterator.hasNext(); ) {
+                action.accept(iterator.next());
+                if (++processed % FETCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+}
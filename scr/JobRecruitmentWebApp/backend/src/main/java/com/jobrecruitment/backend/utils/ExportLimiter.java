@@ -0,0 +1,48 @@
+package com.jobrecruitment.backend.utils;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jobrecruitment.backend.exceptions.TooManyRequestsException;
+
+/**
+ * Caps the number of streaming exports running at once
+ * Each export holds a pooled connection in a read-only transaction for as long as the
+ * client keeps reading; without a cap a few slow clients can drain the connection pool.
+ *
+ * Run it around the producer passed to ApiResponseStreamer, outside the transaction:
+ * a refused export throws before the first flush (429 with Retry-After) and never
+ * borrows a connection.
+ */
+@Component
+public class ExportLimiter {
+
+    private final Semaphore permits;
+    private final Duration retryAfter;
+
+    public ExportLimiter(
+            @Value("${exports.max-concurrent:4}") int maxConcurrent,
+            @Value("${exports.retry-after:30s}") Duration retryAfter) {
+        this.permits = new Semaphore(maxConcurrent);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Run export if a slot is free
+     *
+     * @throws TooManyRequestsException if maxConcurrent exports are already running
+     */
+    public void run(Runnable export) {
+        if (!permits.tryAcquire()) {
+            throw new TooManyRequestsException("Too many exports are running, please retry later", retryAfter);
+        }
+        try {
+            export.run();
+        } finally {
+            permits.release();
+        }
+    }
+}
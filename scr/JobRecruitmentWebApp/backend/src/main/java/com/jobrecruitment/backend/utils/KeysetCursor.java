@@ -0,0 +1,56 @@
+package com.jobrecruitment.backend.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.jobrecruitment.backend.exceptions.ValidationException;
+
+/**
+ * Keyset (seek) pagination cursor
+ * Identifies the last row of a page by (timestamp, id) so the next page
+ * can continue with "WHERE (time, id) < (:time, :id)" instead of OFFSET.
+ *
+ * Token format: Base64URL("timestamp|id")
+ */
+public record KeysetCursor(LocalDateTime time, Long id) {
+
+    /**
+     * Cursor positioned before the first row of a newest-first listing
+     */
+    public static final KeysetCursor START = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encode cursor as an opaque URL-safe token
+     */
+    public String encode() {
+        String raw = time + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode token sent by the client
+     *
+     * @param token Cursor token, or null/blank for the first page
+     * @return Decoded cursor, START when token is empty
+     * @throws ValidationException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+            throw new ValidationException("cursor", token, "Invalid pagination cursor");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.jobrecruitment.backend.utils;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Identifies this application instance among the nodes sharing the database
+ * A new id per start: a restarted node rebuilds its in-memory state from the database
+ * and has nothing to recognize from its previous run.
+ */
+@Component
+public class NodeIdentity {
+
+    private final String id = UUID.randomUUID().toString();
+
+    public String id() {
+        return id;
+    }
+}
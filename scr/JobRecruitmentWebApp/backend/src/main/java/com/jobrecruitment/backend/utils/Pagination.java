@@ -0,0 +1,41 @@
+package com.jobrecruitment.backend.utils;
+
+import org.springframework.data.domain.Limit;
+
+import com.jobrecruitment.backend.exceptions.ValidationException;
+
+/**
+ * Pagination limits shared by all list endpoints
+ */
+public final class Pagination {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private Pagination() {
+    }
+
+    /**
+     * Resolve requested page size
+     *
+     * @param size Requested size (null = default)
+     * @return Size capped at MAX_PAGE_SIZE
+     * @throws ValidationException if size is not positive
+     */
+    public static int resolveSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new ValidationException("size", size, "Page size must be at least 1");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Query limit for a page: one extra row tells whether a next page exists
+     */
+    public static Limit limitFor(int size) {
+        return Limit.of(size + 1);
+    }
+}
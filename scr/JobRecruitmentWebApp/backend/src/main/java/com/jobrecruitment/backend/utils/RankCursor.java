@@ -0,0 +1,54 @@
+package com.jobrecruitment.backend.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.jobrecruitment.backend.exceptions.ValidationException;
+
+/**
+ * Keyset cursor for relevance-ordered results
+ * Identifies the last row of a page by (rank, id); the next page continues
+ * with "WHERE rank < :rank OR (rank = :rank AND id < :id)".
+ *
+ * Token format: Base64URL("rank|id")
+ */
+public record RankCursor(float rank, Long id) {
+
+    /**
+     * Cursor positioned before the most relevant row
+     */
+    public static final RankCursor START = new RankCursor(Float.MAX_VALUE, Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encode cursor as an opaque URL-safe token
+     */
+    public String encode() {
+        String raw = rank + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode token sent by the client
+     *
+     * @param token Cursor token, or null/blank for the first page
+     * @return Decoded cursor, START when token is empty
+     * @throws ValidationException if the token is malformed
+     */
+    public static RankCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new RankCursor(
+                Float.parseFloat(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new ValidationException("cursor", token, "Invalid pagination cursor");
+        }
+    }
+}
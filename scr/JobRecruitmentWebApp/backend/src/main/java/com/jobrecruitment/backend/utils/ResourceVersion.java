@@ -0,0 +1,37 @@
+package com.jobrecruitment.backend.utils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Validators for conditional GET (ETag / Last-Modified)
+ * Derived from updatedAt timestamps, so the ETag is weak: it tracks the data
+ * behind a response, not its exact bytes.
+ *
+ * Used with WebRequest.checkNotModified(etag, lastModified) before the
+ * response is built, so an unchanged resource costs only the version query.
+ */
+public record ResourceVersion(String etag, long lastModified) {
+
+    /**
+     * Version of a single row
+     */
+    public static ResourceVersion of(LocalDateTime updatedAt) {
+        long millis = toEpochMilli(updatedAt);
+        return new ResourceVersion("W/\"" + Long.toHexString(millis) + "\"", millis);
+    }
+
+    /**
+     * Version of a list: changes when any row is updated, added or removed
+     * Also used for a row with a counter that moves without updatedAt (count = counter)
+     */
+    public static ResourceVersion of(LocalDateTime maxUpdatedAt, long count) {
+        long millis = toEpochMilli(maxUpdatedAt);
+        return new ResourceVersion("W/\"" + Long.toHexString(millis) + "-" + count + "\"", millis);
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        // Timestamps are written in the JVM zone (Hibernate default)
+        return time == null ? 0L : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
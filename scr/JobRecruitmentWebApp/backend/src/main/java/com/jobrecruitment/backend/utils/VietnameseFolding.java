@@ -0,0 +1,85 @@
+package com.jobrecruitment.backend.utils;
+
+import java.text.Normalizer;
+
+/**
+ * Vietnamese diacritic folding
+ * "Kế toán" -> "ke toan", "Đà Nẵng" -> "da nang".
+ *
+ * Folding: Unicode NFD base letter, combining marks dropped, đ/Đ -> d, lowercase.
+ * The fold table for U+0000..U+1EFF (Latin, Latin Extended, Vietnamese block)
+ * is computed once, so folding costs one table lookup per char.
+ */
+public final class VietnameseFolding {
+
+    private static final int TABLE_SIZE = 0x1F00;
+
+    // Folded lowercase char, or 0 for separators and combining marks (marked in MARKS)
+    private static final char[] FOLD = new char[TABLE_SIZE];
+    private static final boolean[] MARKS = new boolean[TABLE_SIZE];
+
+    static {
+        for (int c = 0; c < TABLE_SIZE; c++) {
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                MARKS[c] = true;
+                continue;
+            }
+            if (!Character.isLetterOrDigit(c)) {
+                continue;
+            }
+            String decomposed = Normalizer.normalize(String.valueOf((char) c), Normalizer.Form.NFD);
+            FOLD[c] = Character.toLowerCase(decomposed.charAt(0));
+        }
+        FOLD['đ'] = 'd';
+        FOLD['Đ'] = 'd';
+    }
+
+    private VietnameseFolding() {
+    }
+
+    /**
+     * Folded lowercase form of a letter or digit, 0 for anything else (separator)
+     */
+    public static char fold(char c) {
+        if (c < TABLE_SIZE) {
+            return FOLD[c];
+        }
+        return Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : 0;
+    }
+
+    /**
+     * Combining mark of already-decomposed input: dropped without ending a word
+     */
+    public static boolean isCombiningMark(char c) {
+        return c < TABLE_SIZE && MARKS[c];
+    }
+
+    /**
+     * Fold text to its accent-free lowercase form, words joined by single spaces
+     * e.g. "Hồ Chí Minh" -> "ho chi minh"
+     */
+    public static String fold(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder folded = new StringBuilder(text.length());
+        boolean separated = false;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (isCombiningMark(c)) {
+                continue;
+            }
+            char f = fold(c);
+            if (f == 0) {
+                separated = true;
+                continue;
+            }
+            if (separated && !folded.isEmpty()) {
+                folded.append(' ');
+            }
+            separated = false;
+            folded.append(f);
+        }
+        return folded.toString();
+    }
+}
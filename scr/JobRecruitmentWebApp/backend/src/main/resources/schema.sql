@@ -0,0 +1,92 @@
+-- =====================================================================
+-- PostgreSQL-specific schema objects
+-- Runs after Hibernate (ddl-auto=update) has created/updated the tables
+-- (spring.jpa.defer-datasource-initialization=true).
+-- Every statement must be idempotent: this script runs on each startup.
+-- Data backfills are recorded in schema_migrations and run once (see below).
+-- =====================================================================
+
+-- Accent-insensitive matching ("ke toan" matches "Kế toán")
+-- unaccent() is only STABLE; the wrapper pins the dictionary so it can be IMMUTABLE
+-- and used in generated columns and indexes.
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+CREATE OR REPLACE FUNCTION f_unaccent(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+    AS 'SELECT public.unaccent(''public.unaccent''::regdictionary, $1)';
+
+-- Job full-text search
+-- Weighted tsvector of the unaccented text, maintained by PostgreSQL on every insert/update:
+-- title (A) > requirement (B) > description (C) > location (D)
+-- A generated expression cannot be altered in place: the column is (re)created only while it
+-- is missing or still built without f_unaccent, so a normal startup does not rewrite jobs.
+DO '
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM pg_attrdef d
+        JOIN pg_attribute a ON a.attrelid = d.adrelid AND a.attnum = d.adnum
+        WHERE d.adrelid = ''jobs''::regclass AND a.attname = ''search_vector''
+          AND pg_get_expr(d.adbin, d.adrelid) LIKE ''%f_unaccent%'') THEN
+        ALTER TABLE jobs DROP COLUMN IF EXISTS search_vector;
+        ALTER TABLE jobs ADD COLUMN search_vector tsvector
+            GENERATED ALWAYS AS (
+                setweight(to_tsvector(''simple'', f_unaccent(coalesce(job_title, ''''))), ''A'') ||
+                setweight(to_tsvector(''simple'', f_unaccent(coalesce(job_requirement, ''''))), ''B'') ||
+                setweight(to_tsvector(''simple'', f_unaccent(coalesce(job_description, ''''))), ''C'') ||
+                setweight(to_tsvector(''simple'', f_unaccent(coalesce(job_location, ''''))), ''D'')
+            ) STORED;
+    END IF;
+END';
+
+CREATE INDEX IF NOT EXISTS idx_jobs_search_vector ON jobs USING GIN (search_vector);
+
+-- Job ids come from the pooled sequence jobs_seq (increment 50, see Job.jobId)
+-- Rows inserted before the switch from IDENTITY keep their ids: move the sequence past them.
+-- Never moves it backwards, so ids handed out earlier are not reused.
+SELECT setval('jobs_seq', GREATEST(
+    (SELECT last_value FROM jobs_seq),
+    (SELECT COALESCE(MAX(job_id), 0) FROM jobs) + 50));
+
+-- One application per (job, candidate)
+-- candidate_id copies the CV's owner: backfill rows created before the column existed.
+-- SET NOT NULL takes an ACCESS EXCLUSIVE lock and scans the table, so the backfill only
+-- runs while the column is still nullable, i.e. once.
+DO '
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_schema = current_schema() AND table_name = ''applications''
+          AND column_name = ''candidate_id'' AND is_nullable = ''YES'') THEN
+        UPDATE applications a SET candidate_id = cv.candidate_id
+        FROM cvs cv
+        WHERE a.cv_id = cv.cv_id AND a.candidate_id IS NULL;
+
+        ALTER TABLE applications ALTER COLUMN candidate_id SET NOT NULL;
+    END IF;
+END';
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_applications_job_candidate ON applications (job_id, candidate_id);
+
+-- One-time data migrations
+-- A backfill runs only if its version is not recorded yet. The marker row is inserted first,
+-- so when several nodes start together only the one whose insert succeeds runs it.
+CREATE TABLE IF NOT EXISTS schema_migrations (
+    version    VARCHAR(100) PRIMARY KEY,
+    applied_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+-- Applied count per job (maxCandidates enforcement, see JobRepository.incrementAppliedCount)
+-- Count applications made before the column existed; afterwards the counter is kept by each apply
+DO '
+BEGIN
+    INSERT INTO schema_migrations (version) VALUES (''backfill_jobs_applied_count'')
+    ON CONFLICT DO NOTHING;
+    IF FOUND THEN
+        UPDATE jobs j SET applied_count = c.applied
+        FROM (SELECT job_id, COUNT(*) AS applied FROM applications GROUP BY job_id) c
+        WHERE j.job_id = c.job_id AND j.applied_count = 0;
+    END IF;
+END';
+
+-- Outbox relay: only pending rows are scanned, in id order
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events (outbox_id) WHERE published_at IS NULL;
@@ -0,0 +1,113 @@
+package com.jobrecruitment.backend.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.jobrecruitment.backend.dtos.response.JobCategoryResponse;
+import com.jobrecruitment.backend.entities.JobCategory;
+import com.jobrecruitment.backend.entities.Role;
+import com.jobrecruitment.backend.repositories.JobCategoryRepository;
+import com.jobrecruitment.backend.repositories.RoleRepository;
+
+class ReferenceDataRegistryTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private final JobCategoryRepository jobCategoryRepository = mock(JobCategoryRepository.class);
+    private final RoleRepository roleRepository = mock(RoleRepository.class);
+    private final JobDetailCache jobDetailCache = mock(JobDetailCache.class);
+    private final ReferenceDataRegistry registry =
+            new ReferenceDataRegistry(jobCategoryRepository, roleRepository, jobDetailCache);
+
+    @BeforeEach
+    void loadInitialSnapshot() {
+        when(roleRepository.findAll()).thenReturn(List.of(role(1, "ADM")));
+        when(roleRepository.findVersion()).thenReturn("roles-v1");
+        categories("v1", category(1, "IT"));
+        registry.refresh();
+    }
+
+    @Test
+    void unchangedTablesAreNotReloaded() {
+        assertThat(registry.refreshIfChanged()).isFalse();
+        verify(jobCategoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void categoryCreatedOnAnotherNodeIsPickedUpByThePeriodicCheck() {
+        categories("v2", category(1, "IT"), category(2, "Kế toán"));
+
+        assertThat(registry.refreshIfChanged()).isTrue();
+        assertThat(registry.getCategories()).extracting(JobCategoryResponse::getJcName)
+                .containsExactly("IT", "Kế toán");
+        // Nothing cached embeds a category that did not exist
+        verify(jobDetailCache, never()).invalidateAll();
+    }
+
+    @Test
+    void unknownCategoryIsLookedForInAFreshSnapshot() {
+        categories("v2", category(1, "IT"), category(2, "Kế toán"));
+
+        assertThat(registry.categoryExists(2)).isTrue();
+        assertThat(registry.findCategory(2)).get().extracting(JobCategory::getJcName).isEqualTo("Kế toán");
+        verify(jobCategoryRepository, times(2)).findAll();
+    }
+
+    @Test
+    void missingCategoryDoesNotReloadUnchangedTables() {
+        assertThat(registry.findCategory(99)).isEmpty();
+        assertThat(registry.categoryExists(null)).isFalse();
+        verify(jobCategoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void renamedCategoryEvictsCachedJobDetails() {
+        categories("v2", category(1, "Information Technology"));
+
+        assertThat(registry.refreshIfChanged()).isTrue();
+        assertThat(registry.getCategory(1)).get().extracting(JobCategoryResponse::getJcName)
+                .isEqualTo("Information Technology");
+        verify(jobDetailCache).invalidateAll();
+    }
+
+    @Test
+    void roleChangesAlsoReload() {
+        when(roleRepository.findVersion()).thenReturn("roles-v2");
+        when(roleRepository.findAll()).thenReturn(List.of(role(1, "ADM"), role(2, "DN")));
+
+        assertThat(registry.refreshIfChanged()).isTrue();
+        assertThat(registry.findRole("DN")).isPresent();
+    }
+
+    private void categories(String version, JobCategory... categories) {
+        when(jobCategoryRepository.findVersion()).thenReturn(version);
+        when(jobCategoryRepository.findAll()).thenReturn(List.of(categories));
+    }
+
+    private static JobCategory category(int id, String name) {
+        JobCategory category = new JobCategory();
+        category.setJcId(id);
+        category.setJcName(name);
+        category.setCreatedAt(CREATED);
+        category.setUpdatedAt(CREATED);
+        return category;
+    }
+
+    private static Role role(int id, String code) {
+        Role role = new Role();
+        role.setRoleId(id);
+        role.setRoleCode(code);
+        role.setRoleName(code);
+        return role;
+    }
+}
@@ -0,0 +1,182 @@
+package com.jobrecruitment.backend.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.jobrecruitment.backend.dtos.response.JobResponse;
+import com.jobrecruitment.backend.dtos.response.JobSummaryResponse;
+import com.jobrecruitment.backend.entities.Job;
+import com.jobrecruitment.backend.enums.JobStatus;
+import com.jobrecruitment.backend.mappers.JobMapper;
+import com.jobrecruitment.backend.repositories.ApplicationRepository;
+import com.jobrecruitment.backend.repositories.CandidateRepository;
+import com.jobrecruitment.backend.repositories.JobRepository;
+import com.jobrecruitment.backend.repositories.SavedJobRepository;
+import com.jobrecruitment.backend.repositories.projections.CandidateJobLink;
+import com.jobrecruitment.backend.repositories.projections.SkillText;
+
+class JobRecommenderTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2026, 3, 1, 9, 0);
+    private static final LocalDateTime T2 = T1.plusHours(1);
+    private static final long CANDIDATE = 100L;
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final CandidateRepository candidateRepository = mock(CandidateRepository.class);
+    private final SavedJobRepository savedJobRepository = mock(SavedJobRepository.class);
+    private final ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+    private final JobRecommender recommender = new JobRecommender(
+            jobRepository, candidateRepository, savedJobRepository, applicationRepository, new JobMapper());
+
+    @Test
+    void ranksBySkillsAndLeavesOutAppliedJobs() {
+        recommender.index(job(1L, "Lập trình viên Java", "Java Spring Boot", 1));
+        recommender.index(job(2L, "Kế toán tổng hợp", "Excel", 2));
+        recommender.index(job(3L, "Java Developer", "Java", 1));
+        recommender.index(job(4L, "Nhân viên kinh doanh", "Giao tiếp", 3));
+        recommender.index(job(5L, "Lập trình viên", "Python", 1));
+        profile("Java Spring Boot");
+        applied(new CandidateJobLink(CANDIDATE, 3L, 1));
+
+        // 3 is applied to; 5 only shares the applied category; 2 and 4 share nothing
+        assertThat(ids(recommender.recommend(CANDIDATE, 10))).containsExactly(1L, 5L);
+    }
+
+    @Test
+    void savedJobsPullInSimilarJobs() {
+        recommender.index(job(1L, "Kế toán tổng hợp", "Excel, thuế", 2));
+        recommender.index(job(2L, "Kế toán trưởng", "Thuế, báo cáo tài chính", 2));
+        recommender.index(job(3L, "Lập trình viên Java", "Java", 1));
+        profile(null);
+        when(savedJobRepository.findJobLinksByCandidateIdIn(List.of(CANDIDATE)))
+                .thenReturn(List.of(new CandidateJobLink(CANDIDATE, 1L, 2)));
+
+        assertThat(ids(recommender.recommend(CANDIDATE, 10))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void topKIsStableAndPrefixOfTheFullRanking() {
+        for (long id = 1; id <= 30; id++) {
+            // Three score levels, ten tied jobs each
+            recommender.index(job(id, "Lập trình viên Java" + " Java".repeat((int) (id % 3)), "Spring", 1));
+        }
+        profile("Java Spring");
+
+        List<Long> all = ids(recommender.recommend(CANDIDATE, 30));
+        assertThat(all).hasSize(30).doesNotHaveDuplicates();
+        for (int size : new int[] {1, 5, 10, 17}) {
+            assertThat(ids(recommender.recommend(CANDIDATE, size))).isEqualTo(all.subList(0, size));
+        }
+        // Ties go to the newer job
+        List<Long> sameScore = all.subList(0, 10);
+        assertThat(sameScore).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @Test
+    void recommendationsStayCorrectAfterCompaction() {
+        recommender.indexAll(LongStream.rangeClosed(1, 1100)
+                .mapToObj(id -> job(id, id % 2 == 0 ? "Kế toán" : "Lập trình viên Java", null, 1))
+                .toList());
+        // 1060 tombstones against 40 live jobs: past both compaction thresholds
+        recommender.removeAll(LongStream.rangeClosed(1, 1060).boxed().toList());
+        assertThat(recommender.size()).isEqualTo(40);
+        profile("Kế toán");
+
+        assertThat(ids(recommender.recommend(CANDIDATE, 100)))
+                .hasSize(20).allMatch(id -> id > 1060 && id % 2 == 0);
+
+        // Renumbered rows still update and delete in place
+        recommender.index(job(1061L, "Kế toán trưởng", null, 1));
+        recommender.index(job(1062L, "Lập trình viên Java", null, 1));
+        recommender.remove(1064L);
+        assertThat(ids(recommender.recommend(CANDIDATE, 100)))
+                .hasSize(19).contains(1061L).doesNotContain(1062L, 1064L);
+        assertThat(recommender.size()).isEqualTo(39);
+    }
+
+    @Test
+    void buildKeepsChangesMadeWhileItReads() {
+        // The build's pages were read before these live changes, but are applied after them
+        when(jobRepository.findPageByStatus(eq(JobStatus.ACTIVE), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    recommender.index(job(1L, "Kế toán", null, 1));
+                    recommender.remove(2L);
+                    recommender.index(closed(job(3L, "Lập trình viên Java", null, 1)));
+                    return List.of(entity(1L, "Lập trình viên Java"), entity(2L, "Lập trình viên Java"),
+                            entity(3L, "Lập trình viên Java"), entity(4L, "Lập trình viên Java"));
+                })
+                .thenReturn(List.of());
+        when(candidateRepository.findProfileTextByCandidateIdIn(List.of(CANDIDATE)))
+                .thenReturn(List.of(new SkillText(CANDIDATE, "Kế toán")));
+        when(candidateRepository.findProfileTextPage(any(), any()))
+                .thenAnswer(invocation -> {
+                    recommender.refreshCandidate(CANDIDATE);
+                    return List.of(new SkillText(CANDIDATE, "Lập trình viên Java"), new SkillText(101L, "Java"));
+                })
+                .thenReturn(List.of());
+
+        recommender.build();
+
+        assertThat(recommender.size()).isEqualTo(2);
+        assertThat(ids(recommender.recommend(CANDIDATE, 10))).containsExactly(1L);
+        assertThat(ids(recommender.recommend(101L, 10))).containsExactly(4L);
+    }
+
+    @Test
+    void unknownCandidateIsLoadedOnFirstRequest() {
+        recommender.index(job(1L, "Lập trình viên Java", null, 1));
+        assertThat(recommender.recommend(CANDIDATE, 10)).isEmpty();
+
+        profile("Java");
+        assertThat(recommender.recommend(CANDIDATE, 10)).extracting(JobSummaryResponse::getJobId).containsExactly(1L);
+    }
+
+    private void profile(String text) {
+        when(candidateRepository.findProfileTextByCandidateIdIn(List.of(CANDIDATE)))
+                .thenReturn(List.of(new SkillText(CANDIDATE, text)));
+    }
+
+    private void applied(CandidateJobLink... links) {
+        when(applicationRepository.findJobLinksByCandidateIdIn(List.of(CANDIDATE))).thenReturn(List.of(links));
+    }
+
+    private static List<Long> ids(List<JobSummaryResponse> jobs) {
+        return jobs.stream().map(JobSummaryResponse::getJobId).toList();
+    }
+
+    private static JobResponse job(long id, String title, String requirement, int jcId) {
+        JobResponse job = new JobResponse();
+        job.setJobId(id);
+        job.setJcId(jcId);
+        job.setJobTitle(title);
+        job.setJobRequirement(requirement);
+        job.setJobStatus(JobStatus.ACTIVE);
+        job.setCreatedAt(T1);
+        job.setUpdatedAt(T2);
+        return job;
+    }
+
+    private static JobResponse closed(JobResponse job) {
+        job.setJobStatus(JobStatus.CLOSED);
+        return job;
+    }
+
+    private static Job entity(long id, String title) {
+        Job job = new Job();
+        job.setJobId(id);
+        job.setJobTitle(title);
+        job.setJobStatus(JobStatus.ACTIVE);
+        job.setCreatedAt(T1);
+        job.setUpdatedAt(T1);
+        return job;
+    }
+}
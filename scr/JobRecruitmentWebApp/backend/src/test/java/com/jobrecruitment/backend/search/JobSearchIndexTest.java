@@ -0,0 +1,181 @@
+package com.jobrecruitment.backend.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.jobrecruitment.backend.dtos.response.CursorPage;
+import com.jobrecruitment.backend.dtos.response.JobResponse;
+import com.jobrecruitment.backend.dtos.response.JobSummaryResponse;
+import com.jobrecruitment.backend.entities.Job;
+import com.jobrecruitment.backend.enums.JobStatus;
+import com.jobrecruitment.backend.mappers.JobMapper;
+import com.jobrecruitment.backend.repositories.JobRepository;
+import com.jobrecruitment.backend.utils.RankCursor;
+
+class JobSearchIndexTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2026, 3, 1, 9, 0);
+    private static final LocalDateTime T2 = T1.plusHours(1);
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final JobSearchIndex index = new JobSearchIndex(jobRepository, new JobMapper());
+
+    @Test
+    void andRequiresEveryTermWhileOrRanksAnyMatch() {
+        index.index(job(1L, "Kế toán tổng hợp", T1));
+        index.index(job(2L, "Lập trình viên Java", T1));
+        index.index(job(3L, "Kế toán Java", T1));
+
+        assertThat(ids(index.search("ke toan java", SearchOperator.AND, RankCursor.START, 10))).containsExactly(3L);
+        assertThat(ids(index.search("ke toan java", SearchOperator.OR, RankCursor.START, 10)))
+                .first().isEqualTo(3L);
+        assertThat(ids(index.search("ke toan java", SearchOperator.OR, RankCursor.START, 10)))
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+        // An unknown term empties AND and is ignored by OR
+        assertThat(ids(index.search("java python", SearchOperator.AND, RankCursor.START, 10))).isEmpty();
+        assertThat(ids(index.search("java python", SearchOperator.OR, RankCursor.START, 10)))
+                .containsExactlyInAnyOrder(2L, 3L);
+        assertThat(ids(index.search(" ,. ", SearchOperator.OR, RankCursor.START, 10))).isEmpty();
+    }
+
+    @Test
+    void pagesCoverEveryHitOnceInRankOrder() {
+        // Ties included: identical titles score the same and are ordered by job id
+        for (long id = 1; id <= 23; id++) {
+            index.index(job(id, "Nhân viên kinh doanh " + "kinh doanh ".repeat((int) (id % 4)), T1));
+        }
+        List<Long> all = ids(index.search("kinh doanh", SearchOperator.OR, RankCursor.START, 100));
+        assertThat(all).hasSize(23);
+
+        List<Long> paged = new ArrayList<>();
+        RankCursor after = RankCursor.START;
+        int pages = 0;
+        while (true) {
+            CursorPage<JobSummaryResponse> page = index.search("kinh doanh", SearchOperator.OR, after, 5);
+            paged.addAll(ids(page));
+            pages++;
+            if (page.getNextCursor() == null) {
+                break;
+            }
+            assertThat(page.getItems()).hasSize(5);
+            after = RankCursor.decode(page.getNextCursor());
+        }
+        assertThat(pages).isEqualTo(5);
+        assertThat(paged).isEqualTo(all);
+    }
+
+    @Test
+    void updatesReplaceAndRemovalsHideJobs() {
+        index.index(job(1L, "Kế toán", T1));
+        index.index(job(2L, "Kế toán trưởng", T1));
+
+        index.index(job(1L, "Lập trình viên", T2));
+        index.index(closed(job(2L, "Kế toán trưởng", T2)));
+
+        assertThat(ids(index.search("ke toan", SearchOperator.OR, RankCursor.START, 10))).isEmpty();
+        assertThat(ids(index.search("lap trinh", SearchOperator.AND, RankCursor.START, 10))).containsExactly(1L);
+        index.remove(1L);
+        assertThat(index.size()).isZero();
+        assertThat(ids(index.search("lap trinh", SearchOperator.AND, RankCursor.START, 10))).isEmpty();
+    }
+
+    @Test
+    void searchStaysCorrectAfterCompaction() {
+        List<JobResponse> jobs = LongStream.rangeClosed(1, 1100)
+                .mapToObj(id -> job(id, "Nhân viên kinh doanh " + (id % 2 == 0 ? "Hà Nội" : "Đà Nẵng"), T1))
+                .toList();
+        index.indexAll(jobs);
+        // 1060 tombstones against 40 live jobs: past both compaction thresholds
+        index.removeAll(LongStream.rangeClosed(1, 1060).boxed().toList());
+        assertThat(index.size()).isEqualTo(40);
+
+        assertThat(ids(index.search("kinh doanh", SearchOperator.AND, RankCursor.START, 100)))
+                .containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1061, 1100).boxed().toList());
+        assertThat(ids(index.search("ha noi", SearchOperator.AND, RankCursor.START, 100)))
+                .hasSize(20).allMatch(id -> id % 2 == 0);
+
+        // Renumbered docs still update and delete in place
+        index.index(job(1100L, "Kế toán", T2));
+        index.index(job(2000L, "Kế toán Hà Nội", T2));
+        index.remove(1062L);
+        assertThat(ids(index.search("ke toan", SearchOperator.OR, RankCursor.START, 10)))
+                .containsExactlyInAnyOrder(1100L, 2000L);
+        assertThat(ids(index.search("ha noi", SearchOperator.AND, RankCursor.START, 100)))
+                .hasSize(19).contains(2000L).doesNotContain(1062L, 1100L);
+        assertThat(index.size()).isEqualTo(40);
+    }
+
+    @Test
+    void olderSnapshotDoesNotOverwriteNewerJob() {
+        index.index(job(1L, "Kế toán", T2));
+        index.index(job(1L, "Lập trình viên", T1));
+
+        assertThat(ids(index.search("ke toan", SearchOperator.AND, RankCursor.START, 10))).containsExactly(1L);
+        assertThat(ids(index.search("lap trinh", SearchOperator.AND, RankCursor.START, 10))).isEmpty();
+    }
+
+    @Test
+    void buildKeepsChangesMadeWhileItReads() {
+        // The build's page was read before these live changes, but is applied after them
+        when(jobRepository.findPageByStatus(eq(JobStatus.ACTIVE), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    index.index(job(1L, "Kế toán", T2));
+                    index.remove(2L);
+                    index.index(closed(job(3L, "Lập trình viên Java", T2)));
+                    return List.of(entity(1L, "Lập trình viên Java"), entity(2L, "Lập trình viên Java"),
+                            entity(3L, "Lập trình viên Java"), entity(4L, "Lập trình viên Java"));
+                })
+                .thenReturn(List.of());
+
+        index.build();
+
+        assertThat(ids(index.search("java", SearchOperator.OR, RankCursor.START, 10))).containsExactly(4L);
+        assertThat(ids(index.search("ke toan", SearchOperator.AND, RankCursor.START, 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+
+        // Once built, updates apply normally again
+        index.index(job(2L, "Lập trình viên Java", T2));
+        assertThat(ids(index.search("java", SearchOperator.OR, RankCursor.START, 10))).containsExactlyInAnyOrder(2L, 4L);
+    }
+
+    private static List<Long> ids(CursorPage<JobSummaryResponse> page) {
+        return page.getItems().stream().map(JobSummaryResponse::getJobId).toList();
+    }
+
+    private static JobResponse job(long id, String title, LocalDateTime updatedAt) {
+        JobResponse job = new JobResponse();
+        job.setJobId(id);
+        job.setJobCode("J" + id);
+        job.setJobTitle(title);
+        job.setJobStatus(JobStatus.ACTIVE);
+        job.setCreatedAt(T1);
+        job.setUpdatedAt(updatedAt);
+        return job;
+    }
+
+    private static JobResponse closed(JobResponse job) {
+        job.setJobStatus(JobStatus.CLOSED);
+        return job;
+    }
+
+    private static Job entity(long id, String title) {
+        Job job = new Job();
+        job.setJobId(id);
+        job.setJobCode("J" + id);
+        job.setJobTitle(title);
+        job.setJobStatus(JobStatus.ACTIVE);
+        job.setCreatedAt(T1);
+        job.setUpdatedAt(T1);
+        return job;
+    }
+}
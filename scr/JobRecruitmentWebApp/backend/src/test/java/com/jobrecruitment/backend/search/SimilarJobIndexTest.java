@@ -0,0 +1,164 @@
+package com.jobrecruitment.backend.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.jobrecruitment.backend.dtos.response.JobResponse;
+import com.jobrecruitment.backend.dtos.response.JobSummaryResponse;
+import com.jobrecruitment.backend.entities.Job;
+import com.jobrecruitment.backend.enums.JobStatus;
+import com.jobrecruitment.backend.mappers.JobMapper;
+import com.jobrecruitment.backend.repositories.JobRepository;
+
+class SimilarJobIndexTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2026, 3, 1, 9, 0);
+    private static final LocalDateTime T2 = T1.plusHours(1);
+
+    private static final String JAVA = "Phát triển và bảo trì hệ thống backend cho sàn thương mại điện tử, "
+            + "thiết kế API, tối ưu truy vấn cơ sở dữ liệu, viết unit test và review code cùng nhóm";
+    private static final String JAVA_REQUIREMENT = "Ít nhất 3 năm kinh nghiệm Java Spring Boot, PostgreSQL, Docker";
+    private static final String ACCOUNTING = "Lập báo cáo tài chính hằng tháng, kê khai thuế giá trị gia tăng, "
+            + "đối chiếu công nợ với khách hàng và nhà cung cấp, hỗ trợ kiểm toán cuối năm";
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final SimilarJobIndex index = new SimilarJobIndex(jobRepository, new JobMapper());
+
+    @Test
+    void nearDuplicatesAreFoundAndUnrelatedJobsAreNot() {
+        index.index(job(1L, "Lập trình viên Java", JAVA, JAVA_REQUIREMENT));
+        // Reposted with one word changed
+        index.index(job(2L, "Lập trình viên Java", JAVA.replace("sàn", "nền tảng"), JAVA_REQUIREMENT));
+        index.index(job(3L, "Kế toán tổng hợp", ACCOUNTING, "Tốt nghiệp đại học chuyên ngành kế toán"));
+
+        assertThat(ids(index.similar(1L, 10).orElseThrow())).containsExactly(2L);
+        assertThat(ids(index.similar(2L, 10).orElseThrow())).containsExactly(1L);
+        assertThat(index.similar(3L, 10)).contains(List.of());
+    }
+
+    @Test
+    void closerTextsRankFirst() {
+        index.index(job(1L, "Lập trình viên Java", JAVA, JAVA_REQUIREMENT));
+        index.index(job(2L, "Lập trình viên Java", JAVA, JAVA_REQUIREMENT));
+        index.index(job(3L, "Lập trình viên Java", JAVA.replace("sàn", "nền tảng"), JAVA_REQUIREMENT));
+        index.index(job(4L, "Lập trình viên Java Senior", JAVA.replace("sàn thương mại điện tử", "ngân hàng số"),
+                JAVA_REQUIREMENT.replace("3", "5")));
+
+        assertThat(ids(index.similar(1L, 10).orElseThrow())).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void topKIsStableAndPrefixOfTheFullList() {
+        for (long id = 1; id <= 30; id++) {
+            index.index(job(id, "Lập trình viên Java", JAVA, JAVA_REQUIREMENT));
+        }
+
+        List<Long> all = ids(index.similar(1L, 30).orElseThrow());
+        // Identical texts tie: newer jobs first
+        assertThat(all).isEqualTo(LongStream.iterate(30, id -> id >= 2, id -> id - 1).boxed().toList());
+        for (int size : new int[] {1, 5, 10, 17}) {
+            assertThat(ids(index.similar(1L, size).orElseThrow())).isEqualTo(all.subList(0, size));
+        }
+    }
+
+    @Test
+    void updatedAndRemovedJobsLeaveTheirBuckets() {
+        LongStream.rangeClosed(1, 200).forEach(id -> index.index(job(id, "Lập trình viên Java", JAVA, JAVA_REQUIREMENT)));
+        index.removeAll(LongStream.rangeClosed(3, 100).boxed().toList());
+        LongStream.rangeClosed(101, 199).forEach(id -> index.index(job(id, "Kế toán tổng hợp", ACCOUNTING, null)));
+        index.index(closed(job(2L, "Lập trình viên Java", JAVA, JAVA_REQUIREMENT)));
+        assertThat(index.size()).isEqualTo(101);
+
+        assertThat(ids(index.similar(1L, 500).orElseThrow())).containsExactly(200L);
+        assertThat(index.similar(2L, 10)).isEmpty();
+        assertThat(ids(index.similar(101L, 500).orElseThrow())).hasSize(98).allMatch(id -> id > 101 && id < 200);
+    }
+
+    @Test
+    void jobsThatAreNotIndexedAreComparedByText() {
+        index.index(job(1L, "Lập trình viên Java", JAVA, JAVA_REQUIREMENT));
+        index.index(job(2L, "Lập trình viên", null, null));
+
+        assertThat(index.similar(9L, 10)).isEmpty();
+        JobResponse closed = closed(job(9L, "Lập trình viên Java", JAVA, JAVA_REQUIREMENT));
+        assertThat(ids(index.similarTo(closed, 10))).containsExactly(1L);
+        // A job without text has no neighbours
+        assertThat(index.similarTo(job(10L, null, null, null), 10)).isEmpty();
+    }
+
+    @Test
+    void olderSnapshotDoesNotOverwriteNewerJob() {
+        index.index(job(1L, "Lập trình viên Java", JAVA, JAVA_REQUIREMENT));
+        index.index(job(2L, "Kế toán tổng hợp", ACCOUNTING, null, T2));
+        index.index(job(2L, "Lập trình viên Java", JAVA, JAVA_REQUIREMENT, T1));
+
+        assertThat(index.similar(1L, 10)).contains(List.of());
+    }
+
+    @Test
+    void buildKeepsChangesMadeWhileItReads() {
+        // The build's page was read before these live changes, but is applied after them
+        when(jobRepository.findPageByStatus(eq(JobStatus.ACTIVE), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    index.index(job(1L, "Kế toán tổng hợp", ACCOUNTING, null));
+                    index.remove(2L);
+                    index.index(closed(job(3L, "Lập trình viên Java", JAVA, JAVA_REQUIREMENT)));
+                    return List.of(entity(1L), entity(2L), entity(3L), entity(4L), entity(5L));
+                })
+                .thenReturn(List.of());
+
+        index.build();
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(ids(index.similar(4L, 10).orElseThrow())).containsExactly(5L);
+        assertThat(index.similar(1L, 10)).contains(List.of());
+        assertThat(index.similar(2L, 10)).isEmpty();
+    }
+
+    private static List<Long> ids(List<JobSummaryResponse> jobs) {
+        return jobs.stream().map(JobSummaryResponse::getJobId).toList();
+    }
+
+    private static JobResponse job(long id, String title, String description, String requirement) {
+        return job(id, title, description, requirement, T2);
+    }
+
+    private static JobResponse job(long id, String title, String description, String requirement,
+                                   LocalDateTime updatedAt) {
+        JobResponse job = new JobResponse();
+        job.setJobId(id);
+        job.setJobTitle(title);
+        job.setJobDescription(description);
+        job.setJobRequirement(requirement);
+        job.setJobStatus(JobStatus.ACTIVE);
+        job.setCreatedAt(T1);
+        job.setUpdatedAt(updatedAt);
+        return job;
+    }
+
+    private static JobResponse closed(JobResponse job) {
+        job.setJobStatus(JobStatus.CLOSED);
+        return job;
+    }
+
+    private static Job entity(long id) {
+        Job job = new Job();
+        job.setJobId(id);
+        job.setJobTitle("Lập trình viên Java");
+        job.setJobDescription(JAVA);
+        job.setJobRequirement(JAVA_REQUIREMENT);
+        job.setJobStatus(JobStatus.ACTIVE);
+        job.setCreatedAt(T1);
+        job.setUpdatedAt(T1);
+        return job;
+    }
+}
@@ -0,0 +1,149 @@
+package com.jobrecruitment.backend.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.jobrecruitment.backend.dtos.response.JobResponse;
+import com.jobrecruitment.backend.repositories.CandidateRepository;
+import com.jobrecruitment.backend.repositories.JobRepository;
+import com.jobrecruitment.backend.repositories.projections.SkillText;
+
+class SkillMatcherTest {
+
+    private static final long JOB_ID = 7L;
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final CandidateRepository candidateRepository = mock(CandidateRepository.class);
+    private final SkillMatcher matcher = new SkillMatcher(jobRepository, candidateRepository);
+
+    @Test
+    void ranksCandidatesBySkillOverlap() {
+        matcher.index(job("Lập trình viên Java", "Java Spring Boot PostgreSQL"));
+        matcher.indexCandidate(1L, "Java, Spring Boot, PostgreSQL");
+        matcher.indexCandidate(2L, "Java");
+        matcher.indexCandidate(3L, "Kế toán tổng hợp");
+        matcher.indexCandidate(4L, null);
+        matcher.indexCandidate(6L, "lập trình viên java java spring boot postgresql");
+
+        float[] scores = matcher.scores(JOB_ID, new long[] {1, 2, 3, 4, 5, 6});
+
+        assertThat(scores[0]).isGreaterThan(scores[1]);
+        assertThat(scores[1]).isGreaterThan(0f);
+        // No shared term, no text, unknown candidate
+        assertThat(scores[2]).isZero();
+        assertThat(scores[3]).isZero();
+        assertThat(scores[4]).isZero();
+        // Same text as the job, accents and case aside
+        assertThat(scores[5]).isCloseTo(1f, within(1e-5f));
+        assertThat(matcher.scores(99L, new long[] {1, 2})).containsExactly(0f, 0f);
+    }
+
+    @Test
+    void cachedScoresAreReusedUntilTheirTextChanges() {
+        matcher.index(job("Lập trình viên Java", "Java Spring"));
+        matcher.indexCandidate(1L, "Java Spring");
+        matcher.indexCandidate(2L, "Java");
+        float[] first = matcher.scores(JOB_ID, new long[] {1, 2});
+
+        // More Java candidates lower the idf of "java", but cached scores do not follow
+        for (long id = 10; id < 20; id++) {
+            matcher.indexCandidate(id, "Java");
+        }
+        assertThat(matcher.scores(JOB_ID, new long[] {1, 2})).containsExactly(first);
+
+        // Reindexing candidate 2 (same text) drops only its score
+        matcher.indexCandidate(2L, "Java");
+        float[] second = matcher.scores(JOB_ID, new long[] {1, 2, 10});
+        assertThat(second[0]).isEqualTo(first[0]);
+        assertThat(second[1]).isNotEqualTo(first[1]);
+        assertThat(second[2]).isEqualTo(second[1]);
+
+        // Reindexing the job drops all of its scores
+        matcher.index(job("Lập trình viên Java", "Java Spring"));
+        assertThat(matcher.scores(JOB_ID, new long[] {1})[0]).isNotEqualTo(first[0]);
+    }
+
+    @Test
+    void scoresComputedBeforeATextChangeAreNotCached() throws Exception {
+        long[] candidateIds = LongStream.rangeClosed(1, 20_000).toArray();
+        for (long id : candidateIds) {
+            matcher.indexCandidate(id, "Java Spring Boot");
+        }
+        int jobCount = 500;
+        for (long jobId = 1; jobId <= jobCount; jobId++) {
+            matcher.index(job(jobId, "Lập trình viên Java", "Java Spring Boot"));
+        }
+
+        // Scoring runs outside the lock: change candidates 1..20 while a job's scores are
+        // computed from their Java text. Those runs must not cache the old scores.
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicInteger runs = new AtomicInteger();
+        CompletableFuture<Void> scoring = CompletableFuture.runAsync(() -> {
+            for (long jobId = 1; jobId <= jobCount && !stop.get(); jobId++) {
+                matcher.scores(jobId, candidateIds);
+                runs.incrementAndGet();
+            }
+        });
+        for (long candidateId = 1; candidateId <= 20; candidateId++) {
+            // Just after the next run has taken its snapshot
+            int started = runs.get();
+            while (runs.get() == started && !scoring.isDone()) {
+                Thread.onSpinWait();
+            }
+            long pause = System.nanoTime() + 200_000;
+            while (System.nanoTime() < pause) {
+                Thread.onSpinWait();
+            }
+            matcher.indexCandidate(candidateId, "Kế toán");
+        }
+        stop.set(true);
+        scoring.get();
+
+        for (long jobId = 1; jobId <= jobCount; jobId++) {
+            assertThat(matcher.scores(jobId, LongStream.rangeClosed(1, 20).toArray()))
+                    .as("job %d", jobId).containsOnly(0f);
+        }
+    }
+
+    @Test
+    void buildKeepsTextIndexedWhileItReads() {
+        when(jobRepository.findSkillTextPage(any(), any()))
+                .thenReturn(List.of(new SkillText(JOB_ID, "Lập trình viên Java")))
+                .thenReturn(List.of());
+        when(candidateRepository.findSkillTextPage(any(), any()))
+                .thenAnswer(invocation -> {
+                    matcher.indexCandidate(1L, "Kế toán");
+                    return List.of(new SkillText(1L, "Java"), new SkillText(2L, "Java"));
+                })
+                .thenReturn(List.of());
+
+        matcher.build();
+
+        float[] scores = matcher.scores(JOB_ID, new long[] {1, 2});
+        assertThat(scores[0]).isZero();
+        assertThat(scores[1]).isGreaterThan(0f);
+    }
+
+    private static JobResponse job(String title, String requirement) {
+        return job(JOB_ID, title, requirement);
+    }
+
+    private static JobResponse job(long jobId, String title, String requirement) {
+        JobResponse job = new JobResponse();
+        job.setJobId(jobId);
+        job.setJobTitle(title);
+        job.setJobRequirement(requirement);
+        return job;
+    }
+}
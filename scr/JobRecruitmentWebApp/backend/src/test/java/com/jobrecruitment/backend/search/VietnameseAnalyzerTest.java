@@ -0,0 +1,74 @@
+package com.jobrecruitment.backend.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+class VietnameseAnalyzerTest {
+
+    // Large job description body (~17 KB)
+    private static final String DESCRIPTION = ("Công ty TNHH Công nghệ ABC tuyển dụng Lập trình viên Java "
+            + "làm việc tại Hồ Chí Minh. Yêu cầu: tối thiểu 3 năm kinh nghiệm Spring Boot, PostgreSQL, "
+            + "Docker; ưu tiên ứng viên đã làm Microservices, Kafka. Quyền lợi: lương tháng 13, "
+            + "bảo hiểm đầy đủ, đào tạo nâng cao, môi trường trẻ trung năng động. ").repeat(60);
+
+    private static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        VietnameseAnalyzer.analyze(text, (Consumer<String>) tokens::add);
+        return tokens;
+    }
+
+    @Test
+    void foldsAndSplitsIntoSyllables() {
+        assertThat(tokens("Kế toán tổng hợp")).containsExactly("ke", "toan", "tong", "hop");
+        assertThat(tokens("Đà Nẵng, Hồ Chí Minh")).containsExactly("da", "nang", "ho", "chi", "minh");
+        assertThat(tokens("Java/Spring-Boot 3.x")).containsExactly("java", "spring", "boot", "3", "x");
+    }
+
+    @Test
+    void queryAndIndexedTextAgree() {
+        assertThat(tokens("ke toan")).isEqualTo(tokens("KẾ TOÁN"));
+    }
+
+    @Test
+    void ignoresEmptyInput() {
+        assertThat(tokens(null)).isEmpty();
+        assertThat(tokens(" ,.;- ")).isEmpty();
+    }
+
+    @Test
+    void truncatesOverlongTokens() {
+        assertThat(tokens("a".repeat(200))).singleElement().asString().hasSize(64);
+    }
+
+    /**
+     * Throughput of the allocation-free TokenSink path on a large description body
+     * The floor is far below what a developer machine does (hundreds of millions of chars/s);
+     * it only catches an accidental per-char allocation or a quadratic loop.
+     */
+    @Test
+    void analyzesLargeDescriptionsQuickly() {
+        long[] sink = new long[1];
+        VietnameseAnalyzer.TokenSink counter = (buffer, length) -> sink[0] += buffer[0] + length;
+
+        // Warm up so the measurement runs compiled code
+        for (int i = 0; i < 2_000; i++) {
+            VietnameseAnalyzer.analyze(DESCRIPTION, counter);
+        }
+
+        int rounds = 5_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            VietnameseAnalyzer.analyze(DESCRIPTION, counter);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double charsPerSecond = (double) DESCRIPTION.length() * rounds / seconds;
+
+        assertThat(sink[0]).isPositive();
+        assertThat(charsPerSecond).isGreaterThan(20_000_000);
+    }
+}
@@ -0,0 +1,128 @@
+package com.jobrecruitment.backend.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.jobrecruitment.backend.cache.JobApplicantCounters;
+import com.jobrecruitment.backend.cache.JobDetailCache;
+import com.jobrecruitment.backend.dtos.response.ApplicantResponse;
+import com.jobrecruitment.backend.dtos.response.CursorPage;
+import com.jobrecruitment.backend.entities.Company;
+import com.jobrecruitment.backend.entities.Job;
+import com.jobrecruitment.backend.entities.User;
+import com.jobrecruitment.backend.enums.ApplicantSort;
+import com.jobrecruitment.backend.mappers.ApplicationMapper;
+import com.jobrecruitment.backend.repositories.ApplicantExportRepository;
+import com.jobrecruitment.backend.repositories.ApplicationRepository;
+import com.jobrecruitment.backend.repositories.CandidateRepository;
+import com.jobrecruitment.backend.repositories.CompanyRepository;
+import com.jobrecruitment.backend.repositories.JobRepository;
+import com.jobrecruitment.backend.repositories.UserRepository;
+import com.jobrecruitment.backend.repositories.projections.ApplicantKey;
+import com.jobrecruitment.backend.search.JobRecommender;
+import com.jobrecruitment.backend.search.JobSearchIndex;
+import com.jobrecruitment.backend.search.SimilarJobIndex;
+import com.jobrecruitment.backend.search.SkillMatcher;
+import com.jobrecruitment.backend.services.OutboxService;
+import com.jobrecruitment.backend.utils.CodeGenerator;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Applicants sorted by match score (the other sorts are plain queries)
+ */
+class ApplicationServiceImplTest {
+
+    private static final long JOB_ID = 5L;
+    private static final String EMPLOYER = "employer";
+
+    private final ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CompanyRepository companyRepository = mock(CompanyRepository.class);
+    private final SkillMatcher skillMatcher = mock(SkillMatcher.class);
+    private final ApplicationServiceImpl service = new ApplicationServiceImpl(
+            applicationRepository, jobRepository, mock(CandidateRepository.class), companyRepository,
+            userRepository, mock(CodeGenerator.class), mock(ApplicationMapper.class), mock(EntityManager.class),
+            mock(JobDetailCache.class), mock(JobSearchIndex.class), mock(JobApplicantCounters.class),
+            mock(OutboxService.class), mock(ApplicantExportRepository.class), skillMatcher,
+            mock(JobRecommender.class), mock(SimilarJobIndex.class));
+
+    @BeforeEach
+    void ownJob() {
+        User user = new User();
+        user.setUserId(1L);
+        Company company = new Company();
+        company.setCompanyId(2L);
+        Job job = new Job();
+        job.setJobId(JOB_ID);
+        job.setCompany(company);
+        when(userRepository.findByUsername(EMPLOYER)).thenReturn(Optional.of(user));
+        when(companyRepository.findByUserUserId(1L)).thenReturn(Optional.of(company));
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+    }
+
+    @Test
+    void ranksApplicantsByScoreAcrossPages() {
+        keys(new ApplicantKey(11L, 1L), new ApplicantKey(12L, 2L), new ApplicantKey(13L, 3L), new ApplicantKey(14L, 4L));
+        when(skillMatcher.scores(eq(JOB_ID), any())).thenReturn(new float[] {0.2f, 0.9f, 0.2f, 0.5f});
+        rows(Set.of(11L, 12L, 13L, 14L));
+
+        CursorPage<ApplicantResponse> first = page(null);
+        assertThat(first.getItems()).extracting(ApplicantResponse::getApplicationId).containsExactly(12L, 14L);
+        assertThat(first.getItems()).extracting(ApplicantResponse::getMatchScore).containsExactly(0.9f, 0.5f);
+
+        // Equal scores continue by application id, descending
+        CursorPage<ApplicantResponse> second = page(first.getNextCursor());
+        assertThat(second.getItems()).extracting(ApplicantResponse::getApplicationId).containsExactly(13L, 11L);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void applicantDeletedAfterScoringIsSkippedWithoutEndingTheListing() {
+        keys(new ApplicantKey(11L, 1L), new ApplicantKey(12L, 2L), new ApplicantKey(13L, 3L), new ApplicantKey(14L, 4L));
+        when(skillMatcher.scores(eq(JOB_ID), any())).thenReturn(new float[] {0.8f, 0.6f, 0.4f, 0.2f});
+        // Application 12 was deleted between reading the keys and loading the page
+        rows(Set.of(11L, 13L, 14L));
+
+        CursorPage<ApplicantResponse> first = page(null);
+        assertThat(first.getItems()).extracting(ApplicantResponse::getApplicationId).containsExactly(11L);
+        assertThat(first.getNextCursor()).isNotNull();
+
+        CursorPage<ApplicantResponse> second = page(first.getNextCursor());
+        assertThat(second.getItems()).extracting(ApplicantResponse::getApplicationId).containsExactly(13L, 14L);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    private CursorPage<ApplicantResponse> page(String cursor) {
+        return service.getApplicants(JOB_ID, null, ApplicantSort.SCORE, cursor, 2, EMPLOYER);
+    }
+
+    private void keys(ApplicantKey... keys) {
+        when(applicationRepository.findApplicantKeys(JOB_ID, null)).thenReturn(List.of(keys));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rows(Set<Long> existing) {
+        when(applicationRepository.findApplicantsByIds(any())).thenAnswer(invocation ->
+                ((Collection<Long>) invocation.getArgument(0)).stream()
+                        .filter(existing::contains)
+                        .map(id -> {
+                            ApplicantResponse applicant = new ApplicantResponse();
+                            applicant.setApplicationId(id);
+                            return applicant;
+                        })
+                        .toList());
+    }
+}
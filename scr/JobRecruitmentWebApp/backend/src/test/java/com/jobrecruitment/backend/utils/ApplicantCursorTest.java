@@ -0,0 +1,55 @@
+package com.jobrecruitment.backend.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.jobrecruitment.backend.enums.ApplicationStatus;
+import com.jobrecruitment.backend.exceptions.ValidationException;
+
+class ApplicantCursorTest {
+
+    @ParameterizedTest
+    @EnumSource(ApplicationStatus.class)
+    void roundTripsStatusTimestampAndId(ApplicationStatus status) {
+        ApplicantCursor cursor = new ApplicantCursor(status, LocalDateTime.of(2026, 3, 1, 8, 30, 15, 123_456_000), 42L);
+        assertThat(ApplicantCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsWholeMinutesAndLargeIds() {
+        ApplicantCursor cursor = new ApplicantCursor(ApplicationStatus.PENDING, LocalDateTime.of(2026, 1, 1, 10, 0), Long.MAX_VALUE - 1);
+        assertThat(ApplicantCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void emptyTokenStartsAtFirstPage() {
+        assertThat(ApplicantCursor.decode(null)).isEqualTo(ApplicantCursor.START);
+        assertThat(ApplicantCursor.decode(" ")).isEqualTo(ApplicantCursor.START);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "bm9zZXBhcmF0b3I", "UEVORElOR3wyMDI2LTAxLTAxVDEwOjAw"})
+    void rejectsMalformedTokens(String token) {
+        assertThatThrownBy(() -> ApplicantCursor.decode(token))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid pagination cursor")
+                .extracting("field").isEqualTo("cursor");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ARCHIVED|2026-01-01T10:00|1", "PENDING|yesterday|1", "PENDING|2026-01-01T10:00|abc"})
+    void rejectsUnknownFieldValues(String raw) {
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> ApplicantCursor.decode(token)).isInstanceOf(ValidationException.class);
+    }
+}
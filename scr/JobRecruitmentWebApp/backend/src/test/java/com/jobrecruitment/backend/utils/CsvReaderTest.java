@@ -0,0 +1,66 @@
+package com.jobrecruitment.backend.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+    private static List<List<String>> readAll(String csv) {
+        CsvReader reader = new CsvReader(new StringReader(csv));
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    @Test
+    void readsPlainRecordsWithLfAndCrlf() {
+        assertThat(readAll("a,b,c\r\n1,2,3\n4,5,6"))
+                .containsExactly(List.of("a", "b", "c"), List.of("1", "2", "3"), List.of("4", "5", "6"));
+    }
+
+    @Test
+    void keepsEmptyFields() {
+        assertThat(readAll(",x,\n")).containsExactly(List.of("", "x", ""));
+    }
+
+    @Test
+    void readsQuotedFieldsWithCommasQuotesAndLineBreaks() {
+        String csv = "title,description\r\n"
+                + "\"Kế toán, tổng hợp\",\"Mô tả \"\"chi tiết\"\"\r\ndòng 2\ndòng 3\"\r\n";
+        assertThat(readAll(csv)).containsExactly(
+                List.of("title", "description"),
+                List.of("Kế toán, tổng hợp", "Mô tả \"chi tiết\"\r\ndòng 2\ndòng 3"));
+    }
+
+    @Test
+    void quoteInsideUnquotedFieldIsLiteral() {
+        assertThat(readAll("5\" screen,ok\n")).containsExactly(List.of("5\" screen", "ok"));
+    }
+
+    @Test
+    void skipsBomAndBlankLines() {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFname\r\n\r\n\nAn\n\n"));
+        assertThat(reader.readRecord()).containsExactly("name");
+        assertThat(reader.readRecord()).containsExactly("An");
+        assertThat(reader.getRecordNumber()).isEqualTo(2);
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void rejectsUnterminatedQuotedField() {
+        CsvReader reader = new CsvReader(new StringReader("a\n\"open,\nnever closed"));
+        reader.readRecord();
+        assertThatThrownBy(reader::readRecord)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("record 2");
+    }
+}
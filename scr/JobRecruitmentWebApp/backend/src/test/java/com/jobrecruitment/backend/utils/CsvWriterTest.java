@@ -0,0 +1,62 @@
+package com.jobrecruitment.backend.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CsvWriterTest {
+
+    private static String write(Object... fields) {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord(fields);
+        return out.toString();
+    }
+
+    @Test
+    void writesPlainFieldsWithCrlf() {
+        assertThat(write("a", 1, null, "")).isEqualTo("a,1,,\r\n");
+    }
+
+    @Test
+    void quotesCommasQuotesAndLineBreaks() {
+        assertThat(write("x,y")).isEqualTo("\"x,y\"\r\n");
+        assertThat(write("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"\r\n");
+        assertThat(write("line 1\nline 2")).isEqualTo("\"line 1\nline 2\"\r\n");
+        assertThat(write("line 1\r\nline 2")).isEqualTo("\"line 1\r\nline 2\"\r\n");
+    }
+
+    @Test
+    void guardsFormulaStarts() {
+        assertThat(write("=SUM(A1:A9)")).isEqualTo("'=SUM(A1:A9)\r\n");
+        assertThat(write("+84 901", "-1", "@cmd", "\tx")).isEqualTo("'+84 901,'-1,'@cmd,'\tx\r\n");
+        assertThat(write("=HYPERLINK(\"a\",\"b\")")).isEqualTo("\"'=HYPERLINK(\"\"a\"\",\"\"b\"\")\"\r\n");
+    }
+
+    @Test
+    void writesBomFirst() {
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeBom();
+        writer.writeRecord("Họ tên");
+        assertThat(out.toString()).isEqualTo("\uFEFFHọ tên\r\n");
+    }
+
+    @Test
+    void roundTripsThroughCsvReader() {
+        List<String> record = List.of("Nguyễn Văn A", "a,b", "quote \"q\"", "multi\r\nline\nbody", "");
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeBom();
+        writer.writeRecord(record.toArray());
+        writer.writeRecord("second");
+
+        CsvReader reader = new CsvReader(new StringReader(out.toString()));
+        assertThat(reader.readRecord()).isEqualTo(record);
+        assertThat(reader.readRecord()).containsExactly("second");
+        assertThat(reader.readRecord()).isNull();
+    }
+}
@@ -0,0 +1,89 @@
+package com.jobrecruitment.backend.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class DayTimingWheelTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+
+    @Test
+    void advanceReturnsIdsDueOnThePassedDays() {
+        DayTimingWheel wheel = new DayTimingWheel(8, TODAY);
+        wheel.schedule(1, TODAY.plusDays(1));
+        wheel.schedule(2, TODAY.plusDays(2));
+        wheel.schedule(3, TODAY.plusDays(2));
+        wheel.schedule(4, TODAY.plusDays(5));
+
+        assertThat(wheel.advance(TODAY)).isEmpty();
+        assertThat(wheel.advance(TODAY.plusDays(1))).containsExactly(1L);
+        assertThat(wheel.advance(TODAY.plusDays(3))).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(wheel.today()).isEqualTo(TODAY.plusDays(3));
+        // Collected days are emptied
+        assertThat(wheel.advance(TODAY.plusDays(4))).isEmpty();
+        assertThat(wheel.advance(TODAY.plusDays(5))).containsExactly(4L);
+    }
+
+    @Test
+    void ignoresDaysOutsideTheHorizon() {
+        DayTimingWheel wheel = new DayTimingWheel(8, TODAY);
+        assertThat(wheel.horizon()).isEqualTo(TODAY.plusDays(7));
+
+        assertThat(wheel.schedule(1, TODAY)).isFalse();
+        assertThat(wheel.schedule(2, TODAY.minusDays(1))).isFalse();
+        assertThat(wheel.schedule(3, TODAY.plusDays(8))).isFalse();
+        assertThat(wheel.schedule(4, TODAY.plusDays(7))).isTrue();
+
+        assertThat(wheel.advance(TODAY.plusDays(8))).containsExactly(4L);
+    }
+
+    @Test
+    void slotsAreReusedAfterTheHorizonRollsOver() {
+        DayTimingWheel wheel = new DayTimingWheel(4, TODAY);
+        wheel.schedule(1, TODAY.plusDays(3));
+        wheel.advance(TODAY.plusDays(2));
+        assertThat(wheel.horizon()).isEqualTo(TODAY.plusDays(5));
+
+        // Day +5 shares its slot with day +1, emptied when it was passed
+        assertThat(wheel.schedule(2, TODAY.plusDays(5))).isTrue();
+        assertThat(wheel.advance(TODAY.plusDays(3))).containsExactly(1L);
+        assertThat(wheel.advance(TODAY.plusDays(4))).isEmpty();
+        assertThat(wheel.advance(TODAY.plusDays(5))).containsExactly(2L);
+    }
+
+    @Test
+    void jumpPastTheHorizonCollectsEveryHeldDay() {
+        DayTimingWheel wheel = new DayTimingWheel(4, TODAY);
+        wheel.schedule(1, TODAY.plusDays(1));
+        wheel.schedule(2, TODAY.plusDays(3));
+
+        assertThat(wheel.advance(TODAY.plusDays(30))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(wheel.today()).isEqualTo(TODAY.plusDays(30));
+        assertThat(wheel.horizon()).isEqualTo(TODAY.plusDays(33));
+        assertThat(wheel.advance(TODAY.plusDays(33))).isEmpty();
+    }
+
+    @Test
+    void rescheduledIdIsDueOnItsNewDay() {
+        DayTimingWheel wheel = new DayTimingWheel(8, TODAY);
+        wheel.schedule(1, TODAY.plusDays(5));
+        wheel.schedule(1, TODAY.plusDays(2));
+
+        assertThat(wheel.advance(TODAY.plusDays(2))).containsExactly(1L);
+        // Still in its old slot: reloaded again then, which the owner tolerates
+        assertThat(wheel.advance(TODAY.plusDays(5))).containsExactly(1L);
+        assertThat(wheel.schedule(1, TODAY.plusDays(6))).isTrue();
+        assertThat(wheel.schedule(1, TODAY.plusDays(6))).isFalse();
+    }
+
+    @Test
+    void movingBackDoesNotRewindToday() {
+        DayTimingWheel wheel = new DayTimingWheel(8, TODAY);
+        wheel.advance(TODAY.plusDays(3));
+        assertThat(wheel.advance(TODAY.plusDays(1))).isEmpty();
+        assertThat(wheel.today()).isEqualTo(TODAY.plusDays(3));
+    }
+}
@@ -0,0 +1,59 @@
+package com.jobrecruitment.backend.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.jobrecruitment.backend.exceptions.ValidationException;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsTimestampAndId() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 3, 1, 8, 30, 15, 123_456_000), 42L);
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsWholeMinutesAndLargeIds() {
+        // LocalDateTime.toString drops zero seconds: "2026-01-01T10:00"
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 1, 1, 10, 0), Long.MAX_VALUE - 1);
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(KeysetCursor.decode(KeysetCursor.START.encode())).isEqualTo(KeysetCursor.START);
+    }
+
+    @Test
+    void encodesUrlSafeWithoutPadding() {
+        String token = new KeysetCursor(LocalDateTime.of(2026, 12, 31, 23, 59, 59, 999_999_999), 7L).encode();
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void emptyTokenStartsAtFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isEqualTo(KeysetCursor.START);
+        assertThat(KeysetCursor.decode(" ")).isEqualTo(KeysetCursor.START);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "bm9zZXBhcmF0b3I", "MjAyNi0wMS0wMXwx"})
+    void rejectsMalformedTokens(String token) {
+        assertThatThrownBy(() -> KeysetCursor.decode(token))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid pagination cursor")
+                .extracting("field").isEqualTo("cursor");
+    }
+
+    @Test
+    void rejectsNonNumericId() {
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2026-01-01T10:00|abc".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> KeysetCursor.decode(token)).isInstanceOf(ValidationException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.jobrecruitment.backend.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.jobrecruitment.backend.exceptions.ValidationException;
+
+class RankCursorTest {
+
+    /**
+     * Ranks are compared for equality on the next page: the round trip must be exact
+     */
+    @ParameterizedTest
+    @ValueSource(floats = {0f, 0.1f, 0.06079271f, 1.0E-7f, Float.MIN_VALUE, 12345.678f, Float.MAX_VALUE})
+    void roundTripsRankExactly(float rank) {
+        RankCursor cursor = new RankCursor(rank, 99L);
+        RankCursor decoded = RankCursor.decode(cursor.encode());
+        assertThat(Float.floatToIntBits(decoded.rank())).isEqualTo(Float.floatToIntBits(rank));
+        assertThat(decoded.id()).isEqualTo(99L);
+    }
+
+    @Test
+    void emptyTokenStartsAtMostRelevant() {
+        assertThat(RankCursor.decode(null)).isEqualTo(RankCursor.START);
+        assertThat(RankCursor.decode("")).isEqualTo(RankCursor.START);
+        assertThat(RankCursor.decode(RankCursor.START.encode())).isEqualTo(RankCursor.START);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"%%%", "bm9zZXBhcmF0b3I", "fDE"})
+    void rejectsMalformedTokens(String token) {
+        assertThatThrownBy(() -> RankCursor.decode(token))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid pagination cursor");
+    }
+
+    @Test
+    void rejectsNonNumericRank() {
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("high|5".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> RankCursor.decode(token)).isInstanceOf(ValidationException.class);
+    }
+}
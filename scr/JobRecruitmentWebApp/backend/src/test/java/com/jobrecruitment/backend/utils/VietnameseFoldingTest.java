@@ -0,0 +1,39 @@
+package com.jobrecruitment.backend.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.text.Normalizer;
+
+import org.junit.jupiter.api.Test;
+
+class VietnameseFoldingTest {
+
+    @Test
+    void foldsDiacriticsAndCase() {
+        assertThat(VietnameseFolding.fold("Kế toán")).isEqualTo("ke toan");
+        assertThat(VietnameseFolding.fold("Hồ Chí Minh")).isEqualTo("ho chi minh");
+        assertThat(VietnameseFolding.fold("ĐÀ NẴNG")).isEqualTo("da nang");
+    }
+
+    @Test
+    void foldsDecomposedInput() {
+        String decomposed = Normalizer.normalize("Đang mở", Normalizer.Form.NFD);
+        assertThat(VietnameseFolding.fold(decomposed)).isEqualTo("dang mo");
+    }
+
+    @Test
+    void collapsesSeparators() {
+        assertThat(VietnameseFolding.fold("  Quận 1,  TP. HCM ")).isEqualTo("quan 1 tp hcm");
+        assertThat(VietnameseFolding.fold("")).isEmpty();
+        assertThat(VietnameseFolding.fold(null)).isNull();
+    }
+
+    @Test
+    void foldsSingleChars() {
+        assertThat(VietnameseFolding.fold('ự')).isEqualTo('u');
+        assertThat(VietnameseFolding.fold('đ')).isEqualTo('d');
+        assertThat(VietnameseFolding.fold('-')).isEqualTo((char) 0);
+        assertThat(VietnameseFolding.isCombiningMark('́')).isTrue();
+        assertThat(VietnameseFolding.isCombiningMark('a')).isFalse();
+    }
+}